@@ -1,11 +1,11 @@
 package dev.mfataka.locks.api;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.function.Predicate;
 
 import org.jetbrains.annotations.NotNull;
 
+import dev.mfataka.locks.api.clock.LockClock;
 import dev.mfataka.locks.api.enums.LockMode;
 import dev.mfataka.locks.api.enums.LockType;
 
@@ -24,7 +24,8 @@ public interface Locker {
 
 
     static @NotNull Predicate<Locker> expiredPredicate(final Duration maxAge) {
-        return locker -> locker.getLockElapsedTime() < Instant.now().getEpochSecond() - maxAge.getSeconds();
+        final var threshold = LockClock.current().epochSecond() - maxAge.getSeconds();
+        return locker -> locker.getLockElapsedTime() < threshold;
     }
 
 
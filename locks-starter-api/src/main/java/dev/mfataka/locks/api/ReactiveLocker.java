@@ -1,5 +1,7 @@
 package dev.mfataka.locks.api;
 
+import reactor.core.publisher.Mono;
+
 import dev.mfataka.locks.api.base.ReactiveBaseLocker;
 import dev.mfataka.locks.api.locker.JvmLocker;
 
@@ -10,4 +12,12 @@ public interface ReactiveLocker extends ReactiveBaseLocker {
 
     JvmLocker getLock();
 
+    /**
+     * @return mono completing once the underlying {@link #getLock()} is released, see {@link JvmLocker#whenReleased()}
+     */
+    @Override
+    default Mono<Void> whenReleased() {
+        return Mono.fromFuture(() -> getLock().whenReleased());
+    }
+
 }
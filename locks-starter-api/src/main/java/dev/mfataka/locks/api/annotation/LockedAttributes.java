@@ -0,0 +1,42 @@
+package dev.mfataka.locks.api.annotation;
+
+import java.util.Optional;
+
+/**
+ * Checks of lock annotation attributes that cannot be combined, shared by the annotation processor, which reports them
+ * at compile time, and the runtime resolver, which rejects them before the first lock is created.
+ *
+ * @author HAMMA FATAKA
+ */
+public final class LockedAttributes {
+
+    private LockedAttributes() {
+    }
+
+    /**
+     * @return why the attributes of the annotation cannot be combined, empty when they can
+     */
+    public static Optional<String> conflictOf(final SimpleLocked annotation) {
+        final var shared = annotation.permits() > 1;
+        final var leased = annotation.leaseTime() > 0;
+        if (annotation.permits() < 1) {
+            return Optional.of("permits must be positive, was " + annotation.permits());
+        }
+        if (annotation.striped() && annotation.reentrant()) {
+            return Optional.of("striped and reentrant cannot be combined, a stripe is shared by other names and is not reentrant");
+        }
+        if (shared && annotation.striped()) {
+            return Optional.of("permits above 1 and striped cannot be combined, stripes are exclusive");
+        }
+        if (shared && annotation.reentrant()) {
+            return Optional.of("permits above 1 and reentrant cannot be combined, permits are not owned by a thread");
+        }
+        if (leased && annotation.reentrant()) {
+            return Optional.of("leaseTime and reentrant cannot be combined, a reentrant lock cannot be leased");
+        }
+        if (leased && shared) {
+            return Optional.of("leaseTime and permits above 1 cannot be combined, a semaphore lock cannot be leased");
+        }
+        return Optional.empty();
+    }
+}
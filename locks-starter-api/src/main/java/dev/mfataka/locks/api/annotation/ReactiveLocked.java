@@ -18,4 +18,10 @@ public @interface ReactiveLocked {
     long waitFor() default 5;
 
     ChronoUnit timeUnit() default ChronoUnit.SECONDS;
+
+    /**
+     * when positive the lock is released automatically after this time in {@link #timeUnit()}, even if the returned
+     * publisher never terminates, {@code 0} keeps the lock until it terminates or is cancelled
+     */
+    long leaseTime() default 0;
 }
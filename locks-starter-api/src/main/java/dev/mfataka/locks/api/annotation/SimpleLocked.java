@@ -23,4 +23,31 @@ public @interface SimpleLocked {
 
     ChronoUnit timeUnit() default ChronoUnit.SECONDS;
 
+    /**
+     * when true the name is mapped onto a fixed table of lock stripes instead of getting its own locker, no memory is
+     * spent per name but two names may share a stripe and exclude each other. not supported together with {@link #reentrant()} or
+     * {@link #permits()} above {@code 1}
+     */
+    boolean striped() default false;
+
+    /**
+     * when true the thread holding the lock may lock it again, so nested {@code @SimpleLocked} methods on the same
+     * name do not wait for themselves, the lock is released by the outermost method. not supported together with
+     * {@link #permits()} above {@code 1}
+     */
+    boolean reentrant() default false;
+
+    /**
+     * number of methods that may hold the lock of one name at the same time, values above {@code 1} turn the lock into
+     * a counting semaphore. the count is fixed by the first call that creates the lock of a name
+     */
+    int permits() default 1;
+
+    /**
+     * when positive the lock is released automatically after this time in {@link #timeUnit()}, even if the method is
+     * still running or its thread died, {@code 0} keeps the lock until the method returns. not supported together with
+     * {@link #reentrant()} or {@link #permits()} above {@code 1}
+     */
+    long leaseTime() default 0;
+
 }
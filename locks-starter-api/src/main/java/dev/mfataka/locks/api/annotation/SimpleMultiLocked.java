@@ -0,0 +1,30 @@
+package dev.mfataka.locks.api.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import org.intellij.lang.annotations.Language;
+
+/**
+ * local (JVM) lock over several names at once, the expression yields a collection or an array and every element is
+ * locked as a {@link SimpleLocked} name, e.g. {@code #order.itemIds} or {@code #order.itemIds.!['item-' + #this]}.
+ * names are taken in a fixed order, so two methods locking overlapping names cannot deadlock each other
+ *
+ * @author HAMMA FATAKA
+ */
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SimpleMultiLocked {
+    @Language("SpEL")
+    String value();
+
+    long waitFor() default 5;
+
+
+    ChronoUnit timeUnit() default ChronoUnit.SECONDS;
+
+}
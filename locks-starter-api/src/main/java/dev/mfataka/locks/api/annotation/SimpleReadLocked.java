@@ -0,0 +1,39 @@
+package dev.mfataka.locks.api.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import org.intellij.lang.annotations.Language;
+
+/**
+ * local (JVM) shared lock, methods annotated with the same name run in parallel with each other and exclude {@link SimpleWriteLocked} methods
+ *
+ * @author HAMMA FATAKA
+ */
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SimpleReadLocked {
+    @Language("SpEL")
+    String value();
+
+    long waitFor() default 5;
+
+
+    ChronoUnit timeUnit() default ChronoUnit.SECONDS;
+
+    /**
+     * grants the lock in arrival order, takes precedence over {@link #writerPreference()}. applies when the name has no
+     * locker yet, a locker keeps the policy it was created with
+     */
+    boolean fair() default false;
+
+    /**
+     * keeps new readers out while a writer is waiting, so writers are not starved by a steady stream of readers
+     */
+    boolean writerPreference() default false;
+
+}
@@ -1,6 +1,7 @@
 package dev.mfataka.locks.api.base;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import dev.mfataka.locks.api.Locker;
 
@@ -36,6 +37,43 @@ public interface BaseLocker extends Locker {
 
     boolean obtainLock(final Duration timeout) throws InterruptedException;
 
+    /**
+     * returns a view of this locker whose acquisitions are leased, a lock still held after {@code leaseTime} is
+     * released automatically so a holder that dies or never releases cannot block the name forever.
+     * releasing through the view after the lease expired returns false and leaves the lock to its new holder
+     *
+     * @param leaseTime positive time after which an acquisition of the view is released
+     * @return leased view, to be used by one holder at a time
+     * @throws UnsupportedOperationException when the locker cannot be leased
+     */
+    default BaseLocker withLease(final Duration leaseTime) {
+        throw new UnsupportedOperationException("lock [" + getLockName() + "] cannot be leased");
+    }
+
+    /**
+     * completes once the lock is free, right away when nobody holds it, so a caller that failed {@link #tryLock()} can
+     * retry without polling or parking a thread. the future is completed on the thread that releases the lock, use the
+     * async variants of {@link CompletableFuture} for callbacks that do more than schedule work. being notified does not
+     * reserve the lock, another thread may take it first
+     *
+     * @return future completed by the next release
+     * @throws UnsupportedOperationException when the locker does not notify releases
+     */
+    default CompletableFuture<Void> whenReleased() {
+        throw new UnsupportedOperationException("lock [" + getLockName() + "] does not notify releases");
+    }
+
+    /**
+     * runs the listener once the lock is free, see {@link #whenReleased()}, the listener runs once and on the releasing
+     * thread, so it must not block
+     *
+     * @param listener callback of the next release
+     * @throws UnsupportedOperationException when the locker does not notify releases
+     */
+    default void onRelease(final Runnable listener) {
+        whenReleased().thenRun(listener);
+    }
+
     /**
      * Releases the lock
      */
@@ -0,0 +1,19 @@
+package dev.mfataka.locks.api.base;
+
+/**
+ * outcome of one bounded cleanup run of a {@link Lock}.
+ *
+ * @param visited  number of lockers the run looked at
+ * @param cleared  number of lockers removed by the run
+ * @param complete false when the run stopped at its limit and expired lockers are left for the next run
+ * @author HAMMA FATAKA
+ */
+public record CleanupSlice(int visited, int cleared, boolean complete) {
+
+    /**
+     * @return outcome of a run that cleared everything at once, without counting the lockers it looked at
+     */
+    public static CleanupSlice complete(final int cleared) {
+        return new CleanupSlice(cleared, cleared, true);
+    }
+}
@@ -2,6 +2,8 @@ package dev.mfataka.locks.api.base;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.stream.Stream;
 
 import dev.mfataka.locks.api.Locker;
 import dev.mfataka.locks.api.context.LockContext;
@@ -41,15 +43,67 @@ public interface Lock<T extends Locker> {
      */
     boolean exists(final String lockName);
 
+    /**
+     * Looks up the locker registered under the specified name without creating it.
+     * Registries keyed by name override this with a direct lookup, the default scans {@link #getLockers()}.
+     *
+     * @param lockName the name of the lock
+     * @return the registered locker, or null if there is none
+     */
+    default Locker find(final String lockName) {
+        return getLockers()
+                .stream()
+                .filter(locker -> locker.getLockName().equals(lockName))
+                .findAny()
+                .orElse(null);
+    }
+
 
     int clearAllLocks(final Duration maxAge);
 
+    /**
+     * Removes at most {@code limit} of the lockers not locked within {@code maxAge}, so a periodic cleanup can spread a
+     * large backlog over several short runs. Registries that index their lockers by last lock time override this to
+     * visit only expired lockers, the default clears everything in one run.
+     *
+     * @param maxAge lockers last locked before now minus maxAge are expired
+     * @param limit  maximum number of lockers the run visits
+     * @return number of removed lockers and whether expired lockers are left
+     */
+    default CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        return CleanupSlice.complete(clearAllLocks(maxAge));
+    }
+
     int clearAllLocks();
 
     int existingLocksCount();
 
     Collection<Locker> getLockers();
 
+    /**
+     * Iterates the lockers lazily, in no particular order, without copying them into a collection first.
+     * Streams backed by an external store hold its resources until they are closed.
+     *
+     * @return stream over the registered lockers
+     */
+    default Stream<Locker> lockers() {
+        return getLockers().stream();
+    }
+
+    /**
+     * Iterates lazily the lockers whose name sorts after the specified one, in name order, so a listing can be resumed
+     * from the last name it returned. The default sorts the remaining lockers in memory, stores that keep their names
+     * ordered override this to start reading right after the name.
+     *
+     * @param lockName name to start after, null to start from the first locker
+     * @return stream over the lockers after the name, ordered by name
+     */
+    default Stream<Locker> lockersAfter(final String lockName) {
+        return lockers()
+                .filter(locker -> lockName == null || locker.getLockName().compareTo(lockName) > 0)
+                .sorted(Comparator.comparing(Locker::getLockName));
+    }
+
 
     LockType getLockType();
 
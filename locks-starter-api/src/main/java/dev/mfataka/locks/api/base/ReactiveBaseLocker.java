@@ -123,6 +123,29 @@ public interface ReactiveBaseLocker extends Locker {
     <T> Flux<T> obtainLockManyFlux(@NotNull Duration duration, @NotNull final Function<Boolean, Flux<T>> lockExecutionResult);
 
 
+    /**
+     * returns a locker whose subscriptions lease the lock, a lock still held after {@code leaseTime} is released
+     * automatically even if the subscription never terminates
+     *
+     * @param leaseTime positive time after which the lock taken by a subscription is released
+     * @return leased locker
+     * @throws UnsupportedOperationException when the locker cannot be leased
+     */
+    default ReactiveBaseLocker withLease(@NotNull final Duration leaseTime) {
+        throw new UnsupportedOperationException("lock [" + getLockName() + "] cannot be leased");
+    }
+
+    /**
+     * completes once the lock is free, right away when nobody holds it, without holding a thread while it waits.
+     * cancelling the subscription stops waiting, being notified does not reserve the lock
+     *
+     * @return mono completing empty on the next release, failing with {@link UnsupportedOperationException} when the
+     * locker does not notify releases
+     */
+    default Mono<Void> whenReleased() {
+        return Mono.error(new UnsupportedOperationException("lock [" + getLockName() + "] does not notify releases"));
+    }
+
     @Override
     default LockMode getLockMode() {
         return LockMode.REACTIVE;
@@ -0,0 +1,69 @@
+package dev.mfataka.locks.api.clock;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link LockClock} whose epoch second is refreshed by a daemon ticker thread, reading it is a single volatile load.
+ * {@link #nanoTime()} still reads {@link System#nanoTime()}, deadlines need the precision and it is cheap.
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public final class CachedLockClock implements LockClock, AutoCloseable {
+    @Getter
+    private final Duration resolution;
+    private final Thread ticker;
+    private volatile long epochSecond;
+    private volatile boolean running = true;
+
+    private CachedLockClock(final Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("resolution must be positive, was " + resolution);
+        }
+        this.resolution = resolution;
+        this.epochSecond = System.currentTimeMillis() / 1000L;
+        this.ticker = new Thread(this::tick, "lock-clock-ticker");
+        this.ticker.setDaemon(true);
+    }
+
+    static CachedLockClock start(final Duration resolution) {
+        final var clock = new CachedLockClock(resolution);
+        clock.ticker.start();
+        log.debug("started cached lock clock with resolution [{}]", resolution);
+        return clock;
+    }
+
+    private void tick() {
+        while (running) {
+            epochSecond = System.currentTimeMillis() / 1000L;
+            LockSupport.parkNanos(this, resolution.toNanos());
+        }
+    }
+
+    @Override
+    public long epochSecond() {
+        return epochSecond;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    public boolean isRunning() {
+        return running && ticker.isAlive();
+    }
+
+    /**
+     * stops the ticker, the clock keeps returning the last refreshed second
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+}
@@ -0,0 +1,55 @@
+package dev.mfataka.locks.api.clock;
+
+import java.time.Duration;
+
+/**
+ * Time source of lockers and cleaners.
+ * <p>
+ * {@link #epochSecond()} stamps acquisitions and ages locks, it only needs second precision so it may be served from
+ * a cached value. {@link #nanoTime()} is used for timeouts and deadlines, it is monotonic so wall-clock jumps do not
+ * shorten or stretch a wait. The clock in use is process wide, see {@link #use(LockClock)}.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public interface LockClock {
+
+    /**
+     * @return current epoch second, used for lock timestamps and age checks
+     */
+    long epochSecond();
+
+    /**
+     * @return monotonic nanoseconds with arbitrary origin, only differences are meaningful
+     */
+    long nanoTime();
+
+    /**
+     * @return clock reading {@link System#currentTimeMillis()} and {@link System#nanoTime()} on every call
+     */
+    static LockClock system() {
+        return SystemLockClock.INSTANCE;
+    }
+
+    /**
+     * @param resolution how often the cached epoch second is refreshed by the ticker thread
+     * @return clock serving {@link #epochSecond()} from a value refreshed in the background
+     */
+    static CachedLockClock cached(final Duration resolution) {
+        return CachedLockClock.start(resolution);
+    }
+
+    /**
+     * @return clock used by all lockers and cleaners, {@link #system()} until another one is set
+     */
+    static LockClock current() {
+        return LockClockHolder.current();
+    }
+
+    /**
+     * replaces the process wide clock, a replaced {@link CachedLockClock} is stopped
+     */
+    static void use(final LockClock clock) {
+        LockClockHolder.use(clock);
+    }
+}
@@ -0,0 +1,25 @@
+package dev.mfataka.locks.api.clock;
+
+import java.util.Objects;
+
+/**
+ * @author HAMMA FATAKA
+ */
+final class LockClockHolder {
+    private static volatile LockClock clock = LockClock.system();
+
+    private LockClockHolder() {
+    }
+
+    static LockClock current() {
+        return clock;
+    }
+
+    static synchronized void use(final LockClock replacement) {
+        final var previous = clock;
+        clock = Objects.requireNonNull(replacement, "clock");
+        if (previous != replacement && previous instanceof CachedLockClock cached) {
+            cached.close();
+        }
+    }
+}
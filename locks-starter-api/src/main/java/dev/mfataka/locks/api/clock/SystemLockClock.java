@@ -0,0 +1,18 @@
+package dev.mfataka.locks.api.clock;
+
+/**
+ * @author HAMMA FATAKA
+ */
+enum SystemLockClock implements LockClock {
+    INSTANCE;
+
+    @Override
+    public long epochSecond() {
+        return System.currentTimeMillis() / 1000L;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+}
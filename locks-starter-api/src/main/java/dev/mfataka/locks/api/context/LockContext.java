@@ -4,6 +4,8 @@ import java.time.Duration;
 
 import lombok.extern.slf4j.Slf4j;
 
+import dev.mfataka.locks.api.clock.LockClock;
+
 /**
  * @author HAMMA FATAKA
  */
@@ -14,10 +16,10 @@ public record LockContext(String factoryName,
                           long lockAge) {
 
     public LockContext(String factoryName, boolean isCleanable, boolean debugEnabled) {
-        this(factoryName, isCleanable, debugEnabled, System.currentTimeMillis() / 1000L);
+        this(factoryName, isCleanable, debugEnabled, LockClock.current().epochSecond());
     }
 
     public boolean isExpired(final Duration maxAge) {
-        return lockAge < System.currentTimeMillis() / 1000L - maxAge.getSeconds();
+        return lockAge < LockClock.current().epochSecond() - maxAge.getSeconds();
     }
 }
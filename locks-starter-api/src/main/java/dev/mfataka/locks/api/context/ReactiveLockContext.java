@@ -0,0 +1,130 @@
+package dev.mfataka.locks.api.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import lombok.Getter;
+
+import dev.mfataka.locks.api.clock.LockClock;
+
+/**
+ * Locks of a reactive subscription as seen from its reactor {@link Context}.
+ * <p>
+ * Reactive lockers write one entry per subscription when {@code locks.starter.reactive.context} is on. The entry of a
+ * locked publisher nested in the locked function of another one links to the entry of the outer subscription, so the
+ * locked function sees every lock it runs under. Read it inside the locked function with {@link #current()}.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public final class ReactiveLockContext {
+    public static final String KEY = "REACTIVE_LOCK_CONTEXT";
+
+    private static final AtomicLong SUBSCRIPTIONS = new AtomicLong();
+
+    /**
+     * entry of the enclosing locked subscription, null for the outermost one
+     */
+    @Getter
+    private final ReactiveLockContext outer;
+    @Getter
+    private final String lockName;
+    /**
+     * monotonic id of the subscription, unique within the JVM
+     */
+    @Getter
+    private final long subscriptionId;
+    /**
+     * epoch second the subscription got the lock, 0 while it does not hold it
+     */
+    @Getter
+    private volatile long lockedAt;
+
+    private ReactiveLockContext(final ReactiveLockContext outer, final String lockName) {
+        this.outer = outer;
+        this.lockName = lockName;
+        this.subscriptionId = SUBSCRIPTIONS.incrementAndGet();
+    }
+
+    /**
+     * @return context with a new entry for a subscription to the lock of the given name
+     */
+    public static Context write(final Context context, final String lockName) {
+        return context.put(KEY, new ReactiveLockContext(context.getOrDefault(KEY, null), lockName));
+    }
+
+    /**
+     * @return entry of the innermost locked subscription of the context
+     */
+    public static Optional<ReactiveLockContext> of(final ContextView context) {
+        return context.getOrEmpty(KEY);
+    }
+
+    /**
+     * @return entry of the innermost locked subscription of the subscriber, empty when the context is not written
+     */
+    public static Mono<ReactiveLockContext> current() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(of(context)));
+    }
+
+    /**
+     * stamps the acquisition, called by the locker once the subscription got the lock
+     */
+    public void locked() {
+        lockedAt = LockClock.current().epochSecond();
+    }
+
+    /**
+     * called by the locker once the subscription released the lock
+     */
+    public void released() {
+        lockedAt = 0;
+    }
+
+    public boolean isLocked() {
+        return lockedAt != 0;
+    }
+
+    /**
+     * @return names of the locks held by this subscription and the enclosing ones, innermost first
+     */
+    public List<String> heldLockNames() {
+        final var names = new ArrayList<String>();
+        for (var entry = this; entry != null; entry = entry.outer) {
+            if (entry.isLocked()) {
+                names.add(entry.lockName);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * @return epoch second the innermost subscription holding the named lock got it, empty when none holds it
+     */
+    public OptionalLong lockedAt(final String lockName) {
+        for (var entry = this; entry != null; entry = entry.outer) {
+            final var stamp = entry.lockedAt;
+            if (stamp != 0 && Objects.equals(entry.lockName, lockName)) {
+                return OptionalLong.of(stamp);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    public boolean holds(final String lockName) {
+        return lockedAt(lockName).isPresent();
+    }
+
+    @Override
+    public String toString() {
+        return "ReactiveLockContext[" + lockName + "#" + subscriptionId + (isLocked() ? ", locked at " + lockedAt : "") + "]";
+    }
+}
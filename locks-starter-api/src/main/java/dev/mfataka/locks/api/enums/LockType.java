@@ -4,7 +4,11 @@ package dev.mfataka.locks.api.enums;
  * @author HAMMA FATAKA
  */
 public enum LockType {
-    LOCAL, DISTRIBUTED;
+    LOCAL, DISTRIBUTED,
+    /**
+     * shared by the processes of one host through a memory-mapped lock table
+     */
+    HOST;
 
 
     public boolean isLocal() {
@@ -14,4 +18,8 @@ public enum LockType {
     public boolean isDistributed() {
         return this == DISTRIBUTED;
     }
+
+    public boolean isHost() {
+        return this == HOST;
+    }
 }
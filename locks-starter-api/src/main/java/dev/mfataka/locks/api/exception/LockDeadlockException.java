@@ -0,0 +1,26 @@
+package dev.mfataka.locks.api.exception;
+
+import java.util.List;
+
+/**
+ * thrown instead of waiting when waiting for a lock would close a cycle of threads waiting for each other
+ *
+ * @author HAMMA FATAKA
+ */
+public class LockDeadlockException extends LockOperationException {
+    private final List<String> cycle;
+
+    /**
+     * @param lockName name of the lock the failed thread was about to wait for
+     * @param cycle    names of the locks in the cycle, starting with {@code lockName}, each one held by the thread
+     *                 waiting for the next one
+     */
+    public LockDeadlockException(final String lockName, final List<String> cycle) {
+        super(lockName, "waiting for lock [" + lockName + "] would deadlock, cycle " + String.join(" -> ", cycle) + " -> " + lockName);
+        this.cycle = List.copyOf(cycle);
+    }
+
+    public List<String> getCycle() {
+        return cycle;
+    }
+}
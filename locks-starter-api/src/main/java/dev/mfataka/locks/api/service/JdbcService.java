@@ -2,6 +2,7 @@ package dev.mfataka.locks.api.service;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.stream.Stream;
 
 import dev.mfataka.locks.api.Locker;
 import dev.mfataka.locks.api.enums.LockMode;
@@ -88,5 +89,23 @@ public interface JdbcService {
 
     long elapsedTime(final String lockName);
 
+    /**
+     * Reads when the lock was taken in one statement, so a lock released meanwhile is reported as missing.
+     *
+     * @param lockName name of the lock
+     * @return epoch second the lock was taken at, null when it is not locked
+     */
+    Long lockedAt(final String lockName);
+
     List<Locker> findAll(final LockMode lockMode);
+
+    /**
+     * Streams the locks ordered by name, reading the rows as the stream is consumed.
+     * The stream holds a connection until it is closed.
+     *
+     * @param lockMode mode reported by the returned lockers
+     * @param afterName name to start after, null to start from the first lock
+     * @return stream over the locks whose name sorts after the given one
+     */
+    Stream<Locker> streamAfter(final LockMode lockMode, final String afterName);
 }
\ No newline at end of file
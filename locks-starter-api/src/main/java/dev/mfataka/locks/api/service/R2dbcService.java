@@ -0,0 +1,99 @@
+package dev.mfataka.locks.api.service;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.enums.LockMode;
+
+/**
+ * Non-blocking counterpart of {@link JdbcService}, working on the same lock table through R2DBC.
+ * Nothing is executed until the returned publisher is subscribed.
+ *
+ * @author HAMMA FATAKA
+ */
+public interface R2dbcService {
+
+    /**
+     * Ensures that the required lock table exists in the database.
+     *
+     * @return mono completing once the table exists, erroring with a
+     * {@link dev.mfataka.locks.api.exception.LockOperationException} when it cannot be created
+     */
+    Mono<Void> ensureLockTableExists();
+
+    /**
+     * Attempts to acquire a lock by inserting a new row into the lock table.
+     *
+     * @param name    the name of the lock
+     * @param ownerId the identifier of the lock owner
+     * @return mono emitting true if the lock was acquired, false if it already exists
+     */
+    Mono<Boolean> insertLock(final String name, final String ownerId);
+
+    /**
+     * @param name the name of the lock
+     * @return mono emitting whether a lock with the given name exists
+     */
+    Mono<Boolean> isLocked(final String name);
+
+    /**
+     * @param name    the name of the lock
+     * @param ownerId the identifier of the lock owner
+     * @return mono emitting whether the lock with the given name is held by the owner
+     */
+    Mono<Boolean> isLockedBy(final String name, final String ownerId);
+
+    /**
+     * Deletes a lock if it is held by the specified owner.
+     *
+     * @param name    the name of the lock
+     * @param ownerId the identifier of the lock owner
+     * @return mono emitting whether the owner held the lock
+     */
+    Mono<Boolean> deleteLock(final String name, final String ownerId);
+
+    /**
+     * Deletes a lock regardless of the owner.
+     *
+     * @param name the name of the lock
+     * @return mono emitting the number of deleted locks
+     */
+    Mono<Long> deleteLock(final String name);
+
+    /**
+     * Removes all locks older than the provided maximum age.
+     *
+     * @param maxAge the maximum allowed age for locks
+     * @return mono emitting the number of removed locks
+     */
+    Mono<Long> cleanExpiredLocks(final Duration maxAge);
+
+    /**
+     * @return mono emitting the total count of locks in the table
+     */
+    Mono<Long> existingLocksCount();
+
+    /**
+     * Deletes all locks in the table.
+     *
+     * @return mono emitting the number of deleted locks
+     */
+    Mono<Long> deleteAllLocks();
+
+    /**
+     * @return mono emitting the epoch second the lock was taken, empty when it is not held
+     */
+    Mono<Long> lockedAt(final String lockName);
+
+    /**
+     * Streams the locks ordered by name.
+     *
+     * @param lockMode  mode reported by the returned lockers
+     * @param afterName name to start after, null to start from the first lock
+     * @return flux over the locks whose name sorts after the given one
+     */
+    Flux<Locker> findAfter(final LockMode lockMode, final String afterName);
+}
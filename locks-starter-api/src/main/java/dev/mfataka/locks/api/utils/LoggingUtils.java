@@ -40,6 +40,27 @@ public final class LoggingUtils {
         }
     }
 
+    /**
+     * fixed arity variants check the flag before any argument array is created, so disabled logging does not allocate
+     */
+    public void debugIfEnabled(final String message) {
+        if (debugEnabled) {
+            logger.debug(message);
+        }
+    }
+
+    public void debugIfEnabled(final String message, final Object arg) {
+        if (debugEnabled) {
+            logger.debug(message, arg);
+        }
+    }
+
+    public void debugIfEnabled(final String message, final Object first, final Object second) {
+        if (debugEnabled) {
+            logger.debug(message, first, second);
+        }
+    }
+
     public void debugIfEnabled(final String message, final Object... args) {
         debugIfEnabled(debugEnabled, message, args);
     }
@@ -0,0 +1,64 @@
+package dev.mfataka.locks.api.clock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.Locker;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class LockClockTest {
+
+    @AfterEach
+    void tearDown() {
+        LockClock.use(LockClock.system());
+    }
+
+    @Test
+    public void cachedClockShouldFollowSystemClock() {
+        try (final var clock = LockClock.cached(Duration.ofMillis(10))) {
+            Assertions.assertTrue(clock.isRunning());
+            Assertions.assertTrue(Math.abs(LockClock.system().epochSecond() - clock.epochSecond()) <= 1);
+            final var before = clock.nanoTime();
+            Assertions.assertTrue(clock.nanoTime() - before >= 0);
+        }
+    }
+
+    @Test
+    public void replacedCachedClockShouldBeStopped() throws InterruptedException {
+        final var clock = LockClock.cached(Duration.ofMillis(10));
+        LockClock.use(clock);
+        Assertions.assertSame(clock, LockClock.current());
+        LockClock.use(LockClock.system());
+        for (var i = 0; i < 100 && clock.isRunning(); i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertFalse(clock.isRunning());
+    }
+
+    @Test
+    public void expiredPredicateShouldUseCurrentClock() {
+        LockClock.use(fixedClock(1_000));
+        final var expired = Locker.expiredPredicate(Duration.ofSeconds(10));
+        Assertions.assertTrue(expired.test(Locker.jdbcLocker("old", 989, null)));
+        Assertions.assertFalse(expired.test(Locker.jdbcLocker("fresh", 990, null)));
+    }
+
+    private static LockClock fixedClock(final long epochSecond) {
+        return new LockClock() {
+            @Override
+            public long epochSecond() {
+                return epochSecond;
+            }
+
+            @Override
+            public long nanoTime() {
+                return 0;
+            }
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package dev.mfataka.locks.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.LocalProperties;
+import dev.mfataka.locks.core.factory.LockRegistry;
+
+/**
+ * Uncontended lock and unlock of the local lockers, expected to allocate nothing while debug logging is off.
+ * <p>
+ * Run {@code ./gradlew :locks-starter-core:jmhAllocationCheck}, it runs this benchmark with the gc profiler and fails
+ * when {@code gc.alloc.rate.norm} of any benchmark exceeds {@link #MAX_BYTES_PER_OP}. The reactive benchmark covers the
+ * {@link dev.mfataka.locks.api.locker.JvmLocker} behind {@code @ReactiveLocked}, the publisher assembly around it
+ * allocates by nature and is not part of the check.
+ * </p>
+ * <p>
+ * The counted benchmark runs a reference counted registry, where every uncontended lock registers the locker again and
+ * every unlock evicts it. Registering costs a map node and the capturing remapping functions, so it is checked against
+ * {@link #MAX_COUNTED_BYTES_PER_OP} instead, anything kept for listing the registry in order would exceed it.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LockHotPathAllocationBenchmark {
+    /**
+     * leaves room for measurement noise of the profiler, a single allocated object is at least 16 bytes
+     */
+    private static final double MAX_BYTES_PER_OP = 1.0;
+    /**
+     * map node (32) and the remapping functions of the revive and the evict (16 each), with room for noise
+     */
+    private static final double MAX_COUNTED_BYTES_PER_OP = 72.0;
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+
+    private BaseLocker simpleLocker;
+    private BaseLocker reentrantLocker;
+    private BaseLocker stripedLocker;
+    private BaseLocker reactiveLocker;
+
+    @Setup
+    public void setUp() {
+        final var name = "benchmark-hot-path-" + Thread.currentThread().getId();
+        simpleLocker = LockRegistry.simpleLock().get(name);
+        reentrantLocker = LockRegistry.reentrantSimpleLock().get(name);
+        stripedLocker = LockRegistry.stripedSimpleLock().get(name);
+        reactiveLocker = LockRegistry.reactiveLock().get(name).getLock();
+    }
+
+    @Benchmark
+    public boolean simple() {
+        return lockAndUnlock(simpleLocker);
+    }
+
+    @Benchmark
+    public boolean reentrant() {
+        return lockAndUnlock(reentrantLocker);
+    }
+
+    @Benchmark
+    public boolean striped() {
+        return lockAndUnlock(stripedLocker);
+    }
+
+    @Benchmark
+    public boolean reactive() {
+        return lockAndUnlock(reactiveLocker);
+    }
+
+    /**
+     * lock and unlock of a reference counted locker, the locker leaves the registry on every unlock
+     */
+    @Benchmark
+    public boolean counted(final CountedRegistry registry) {
+        return lockAndUnlock(registry.locker);
+    }
+
+    private static boolean lockAndUnlock(final BaseLocker locker) {
+        return locker.tryLock() && locker.releaseLock();
+    }
+
+    /**
+     * registry configuration is global, benchmarks run in forks of their own so it only applies to {@link #counted}
+     */
+    @State(Scope.Thread)
+    public static class CountedRegistry {
+        private BaseLocker locker;
+
+        @Setup
+        public void setUp() {
+            LockRegistry.configure(LocalProperties.defaults().withReferenceCounted(true));
+            locker = LockRegistry.simpleLock().get("benchmark-counted-" + Thread.currentThread().getId());
+        }
+
+        @TearDown
+        public void tearDown() {
+            LockRegistry.configure(LocalProperties.defaults());
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final var options = new OptionsBuilder()
+                .include(LockHotPathAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        final var violations = new Runner(options).run()
+                .stream()
+                .filter(result -> result.getSecondaryResults().get(ALLOCATION_RATE).getScore() > maxBytesPerOp(result.getParams().getBenchmark()))
+                .map(result -> result.getParams().getBenchmark() + " allocates " + result.getSecondaryResults().get(ALLOCATION_RATE).getScore() + " B/op")
+                .toList();
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("lock hot path allocates: " + violations);
+        }
+    }
+
+    private static double maxBytesPerOp(final String benchmark) {
+        return benchmark.endsWith(".counted") ? MAX_COUNTED_BYTES_PER_OP : MAX_BYTES_PER_OP;
+    }
+}
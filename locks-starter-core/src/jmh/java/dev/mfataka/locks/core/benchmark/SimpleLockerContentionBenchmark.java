@@ -0,0 +1,81 @@
+package dev.mfataka.locks.core.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.SimpleLocker;
+
+/**
+ * Measures acquire latency of a single contended {@link SimpleLocker}, run with
+ * {@code ./gradlew :locks-starter-core:jmh -Pjmh.includes=SimpleLockerContentionBenchmark}.
+ * <p>
+ * {@link Mode#SampleTime} reports the latency distribution, so the p99 of each thread count can be compared with the
+ * {@code waitFor} used by {@code @SimpleLocked}.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SimpleLockerContentionBenchmark {
+    private static final Duration WAIT_FOR = Duration.ofSeconds(5);
+    private static final long CRITICAL_SECTION_TOKENS = 100;
+
+    private SimpleLocker locker;
+
+    @Setup
+    public void setUp() {
+        locker = LockRegistry.simpleLock().get("benchmark-contended-lock");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean acquire8Threads() throws InterruptedException {
+        return acquireAndRelease();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean acquire16Threads() throws InterruptedException {
+        return acquireAndRelease();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean acquire32Threads() throws InterruptedException {
+        return acquireAndRelease();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean acquire64Threads() throws InterruptedException {
+        return acquireAndRelease();
+    }
+
+    private boolean acquireAndRelease() throws InterruptedException {
+        final var locked = locker.obtainLock(WAIT_FOR);
+        if (locked) {
+            Blackhole.consumeCPU(CRITICAL_SECTION_TOKENS);
+            locker.releaseLock();
+        }
+        return locked;
+    }
+}
@@ -23,9 +23,13 @@ public class UnifiedLockAspect {
     private final LockMetadataResolver resolver;
 
     @Around("@annotation(dev.mfataka.locks.api.annotation.SimpleLocked) " +
+            "|| @annotation(dev.mfataka.locks.api.annotation.SimpleMultiLocked) " +
+            "|| @annotation(dev.mfataka.locks.api.annotation.SimpleReadLocked) " +
+            "|| @annotation(dev.mfataka.locks.api.annotation.SimpleWriteLocked) " +
             "|| @annotation(dev.mfataka.locks.api.annotation.ReactiveLocked) " +
             "|| @annotation(dev.mfataka.locks.api.annotation.DistributedLocked) " +
-            "|| @annotation(dev.mfataka.locks.api.annotation.ReactiveDistributedLocked)")
+            "|| @annotation(dev.mfataka.locks.api.annotation.ReactiveDistributedLocked) " +
+            "|| @annotation(dev.mfataka.locks.api.annotation.HostLocked)")
     public Object around(final ProceedingJoinPoint pjp) throws LockOperationException {
         final var method = ((MethodSignature) pjp.getSignature()).getMethod();
         log.debug("aspect called for {}", method.getName());
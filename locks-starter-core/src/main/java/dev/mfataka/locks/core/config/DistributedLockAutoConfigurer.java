@@ -2,6 +2,7 @@ package dev.mfataka.locks.core.config;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -20,9 +21,12 @@ import dev.mfataka.locks.api.condition.LocksEnabledCondition;
 import dev.mfataka.locks.api.factory.DistributedLock;
 import dev.mfataka.locks.api.factory.ReactiveDistributedLock;
 import dev.mfataka.locks.api.service.JdbcService;
+import dev.mfataka.locks.api.service.R2dbcService;
 import dev.mfataka.locks.core.aspect.UnifiedLockAspect;
+import dev.mfataka.locks.core.factory.LockRegistry;
 import dev.mfataka.locks.core.factory.StandardReliableLocks;
 import dev.mfataka.locks.core.factory.StandardReliableLocksImp;
+import dev.mfataka.locks.core.locker.simple.DeadlockListener;
 import dev.mfataka.locks.core.resolver.LockMetadataResolver;
 import dev.mfataka.locks.core.service.LockCleanerService;
 import dev.mfataka.locks.core.service.SimpleJdbcService;
@@ -52,9 +56,14 @@ public class DistributedLockAutoConfigurer {
         return reliableLocks.reactiveDistributedLock();
     }
 
-    @Bean
-    public StandardReliableLocks standardReliableFactories(final JdbcService jdbcService, final LocksCorePropertyConfig lockPropertyConfig) {
-        return new StandardReliableLocksImp(jdbcService, lockPropertyConfig);
+    @Bean(destroyMethod = "close")
+    public StandardReliableLocks standardReliableFactories(final JdbcService jdbcService, final LocksCorePropertyConfig lockPropertyConfig,
+                                                           final ObjectProvider<DeadlockListener> deadlockListeners,
+                                                           final ObjectProvider<R2dbcService> r2dbcService) {
+        LockRegistry.configure(lockPropertyConfig.getLocal());
+        LockRegistry.configure(lockPropertyConfig.getReactive());
+        deadlockListeners.orderedStream().forEach(LockRegistry.deadlockDetector()::addListener);
+        return new StandardReliableLocksImp(jdbcService, r2dbcService.getIfAvailable(), lockPropertyConfig);
     }
 
     @Bean
@@ -1,5 +1,6 @@
 package dev.mfataka.locks.core.config;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 
@@ -8,9 +9,15 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
+import reactor.core.scheduler.Schedulers;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.With;
+
+import dev.mfataka.locks.core.locker.host.HostLockTable;
+import dev.mfataka.locks.core.locker.simple.StripedSimpleLock;
 
 /**
  * @author HAMMA FATAKA
@@ -21,14 +28,23 @@ import lombok.NoArgsConstructor;
 @ConfigurationProperties(prefix = "locks.starter")
 @EnableConfigurationProperties(LocksCorePropertyConfig.class)
 public class LocksCorePropertyConfig {
+    public static final int DEFAULT_CLEANUP_SLICE = 10_000;
+
     private boolean enabled;
     private boolean debugEnabled;
     private Duration maxAge;
     private Duration cleanupInterval;
+    /**
+     * maximum number of lockers one cleanup task visits, a larger backlog is cleaned by follow-up tasks
+     */
+    private int cleanupSlice = DEFAULT_CLEANUP_SLICE;
     private EndpointProperties endpoint;
+    private LocalProperties local = LocalProperties.defaults();
+    private HostProperties host = HostProperties.defaults();
+    private ReactiveProperties reactive = ReactiveProperties.defaults();
 
     public static LocksCorePropertyConfig defaults() {
-        return new LocksCorePropertyConfig(true, true, Duration.ofMinutes(5), Duration.ofMinutes(4), EndpointProperties.defaults());
+        return new LocksCorePropertyConfig(true, false, Duration.ofMinutes(5), Duration.ofMinutes(4), DEFAULT_CLEANUP_SLICE, EndpointProperties.defaults(), LocalProperties.defaults(), HostProperties.defaults(), ReactiveProperties.defaults());
     }
 
 
@@ -50,4 +66,103 @@ public class LocksCorePropertyConfig {
             return new EndpointProperties("/locks", true, "lock", "$2a$12$PuLr16VIffaa/IKTHD0jAOeegZJVKYuWCAiTU8evXjvs38HEx3ml.");
         }
     }
+
+    /**
+     * tuning of the local (JVM) lockers, applied to {@link dev.mfataka.locks.core.factory.LockRegistry} on startup
+     */
+    @Data
+    @With
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LocalProperties {
+        /**
+         * when true, waiters park immediately instead of spinning first, so blocked virtual threads unmount from
+         * their carrier right away
+         */
+        private boolean virtualThreads;
+        /**
+         * when true, local lockers count their holders and waiters and leave their registry once the count drops to
+         * zero, so registry size follows concurrency instead of the number of distinct lock names
+         */
+        private boolean referenceCounted;
+        /**
+         * number of stripes of {@link dev.mfataka.locks.core.locker.simple.StripedSimpleLock}, rounded up to a power of two
+         */
+        private int stripes = StripedSimpleLock.DEFAULT_STRIPES;
+        /**
+         * when set, lock timestamps are read from a cached clock refreshed at this interval instead of the system
+         * clock on every acquisition, see {@link dev.mfataka.locks.api.clock.CachedLockClock}
+         */
+        private Duration clockResolution;
+        /**
+         * when true, threads about to wait for a local lock are recorded in a wait-for graph and fail with
+         * {@link dev.mfataka.locks.api.exception.LockDeadlockException} instead of waiting when the wait would close a
+         * cycle, see {@link dev.mfataka.locks.core.locker.simple.DeadlockDetector}
+         */
+        private boolean deadlockDetection;
+
+        /**
+         * @return properties with every tuning off, change them through the {@code with} copies
+         */
+        public static LocalProperties defaults() {
+            return new LocalProperties();
+        }
+    }
+
+    /**
+     * lock table shared by the JVMs of one host, see {@link dev.mfataka.locks.core.locker.host.HostLock}
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HostProperties {
+        /**
+         * directory of the lock table file, every JVM sharing the locks has to point to the same directory
+         */
+        private String directory = defaultDirectory();
+        /**
+         * number of names the table can hold, rounded up to a power of two, all JVMs have to use the same number
+         */
+        private int slots = HostLockTable.DEFAULT_SLOTS;
+
+        public static HostProperties defaults() {
+            return new HostProperties(defaultDirectory(), HostLockTable.DEFAULT_SLOTS);
+        }
+
+        private static String defaultDirectory() {
+            return Path.of(System.getProperty("java.io.tmpdir"), "locks-starter").toString();
+        }
+    }
+
+    /**
+     * tuning of the reactive lockers, local and distributed, applied to {@link dev.mfataka.locks.core.factory.LockRegistry}
+     */
+    @Data
+    @With
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReactiveProperties {
+        /**
+         * when true, every locked subscription writes a {@link dev.mfataka.locks.api.context.ReactiveLockContext} to
+         * its reactor context, off by default as it costs a context and an entry per subscription
+         */
+        private boolean context;
+        /**
+         * threads of the {@link dev.mfataka.locks.core.locker.reactive.LockIoScheduler} running the blocking calls of
+         * reactive lockers over blocking delegates, e.g. JDBC, at most this many run at once
+         */
+        private int ioThreads = Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE;
+        /**
+         * calls waiting per lock-io thread, a call beyond that fails its subscription instead of queueing
+         */
+        private int ioQueueSize = Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE;
+
+        /**
+         * @return properties with the context off and the lock-io pool sized like the bounded elastic scheduler, change
+         * them through the {@code with} copies
+         */
+        public static ReactiveProperties defaults() {
+            return new ReactiveProperties();
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package dev.mfataka.locks.core.config;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.condition.LocksEnabledCondition;
+import dev.mfataka.locks.api.service.R2dbcService;
+import dev.mfataka.locks.core.service.SimpleR2dbcService;
+
+/**
+ * locks the reactive distributed lockers through R2DBC when the application has a {@link ConnectionFactory}, the
+ * blocking distributed lockers keep using JDBC
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+@Configuration
+@Conditional(LocksEnabledCondition.class)
+@ConditionalOnClass({DatabaseClient.class, ConnectionFactory.class})
+@AutoConfigureBefore(DistributedLockAutoConfigurer.class)
+@AutoConfigureAfter(name = "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration")
+public class R2dbcLockAutoConfigurer {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ConnectionFactory.class)
+    public R2dbcService r2dbcService(final ConnectionFactory connectionFactory) {
+        log.info("Using R2DBC for reactive distributed locks");
+        return new SimpleR2dbcService(DatabaseClient.create(connectionFactory));
+    }
+}
@@ -0,0 +1,16 @@
+package dev.mfataka.locks.core.descriptor;
+
+/**
+ * how a blocking local lock is held, {@link #READ} and {@link #WRITE} use the shared/exclusive lock family
+ *
+ * @author HAMMA FATAKA
+ */
+public enum LockAccess {
+    EXCLUSIVE,
+    READ,
+    WRITE;
+
+    public boolean isReadWrite() {
+        return this != EXCLUSIVE;
+    }
+}
@@ -3,19 +3,79 @@ package dev.mfataka.locks.core.descriptor;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.List;
+import java.util.Objects;
+
+import lombok.With;
 
 import dev.mfataka.locks.api.enums.LockMode;
 import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.core.locker.simple.ReadWritePolicy;
+import dev.mfataka.locks.core.locker.simple.SemaphoreLock;
 
 /**
+ * Lock of an annotated method. Descriptors start as a plain exclusive lock of one name and get their other attributes
+ * through the {@code with} copies, so adding an attribute does not touch the existing callers.
+ *
+ * @param names     every name guarded by the lock, only differs from {@code [name]} for {@link #forMulti} descriptors
+ * @param multi     whether the names are locked together as a multi lock, true for every {@link #forMulti} descriptor
+ * @param leaseTime time in {@code timeUnit} after which the lock is released automatically, {@code 0} for no lease
  * @author HAMMA FATAKA
  */
-public record LockDescriptor(String name, long waitFor, TemporalUnit timeUnit, LockType lockType, LockMode lockMode) {
+public record LockDescriptor(String name, long waitFor, TemporalUnit timeUnit, LockType lockType, LockMode lockMode, @With boolean striped,
+                             @With boolean reentrant, @With LockAccess access, @With ReadWritePolicy readWritePolicy, @With int permits,
+                             @With List<String> names, @With long leaseTime, @With boolean multi) {
+
+    public LockDescriptor(final String name, final long waitFor, final TemporalUnit timeUnit, final LockType lockType, final LockMode lockMode) {
+        this(name, waitFor, timeUnit, lockType, lockMode, false, false, LockAccess.EXCLUSIVE, ReadWritePolicy.NON_FAIR, SemaphoreLock.DEFAULT_PERMITS, List.of(name), 0, false);
+    }
+
+    public static LockDescriptor forReadWrite(final String name, final long waitFor, final TemporalUnit timeUnit, final LockAccess access, final ReadWritePolicy readWritePolicy) {
+        return new LockDescriptor(name, waitFor, timeUnit, LockType.LOCAL, LockMode.BLOCKING)
+                .withAccess(access)
+                .withReadWritePolicy(readWritePolicy);
+    }
+
+    /**
+     * a single name keeps its own name, so the lock shows up under the name a {@code @SimpleLocked} lock of it has
+     *
+     * @throws IllegalArgumentException when there is no name or a name is null
+     */
+    public static LockDescriptor forMulti(final List<String> names, final long waitFor, final TemporalUnit timeUnit) {
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("multi lock needs at least one name, got none");
+        }
+        if (names.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("multi lock names cannot be null, got " + names);
+        }
+        final var name = names.size() == 1 ? names.get(0) : names.toString();
+        return new LockDescriptor(name, waitFor, timeUnit, LockType.LOCAL, LockMode.BLOCKING)
+                .withNames(List.copyOf(names))
+                .withMulti(true);
+    }
+
+    /**
+     * @return whether more than one holder may hold the lock at once
+     */
+    public boolean isShared() {
+        return permits() > SemaphoreLock.DEFAULT_PERMITS;
+    }
 
     public Duration getTimeout() {
         return Duration.of(waitFor(), timeUnit());
     }
 
+    /**
+     * @return whether the lock is released automatically once {@link #getLeaseTime()} passed
+     */
+    public boolean isLeased() {
+        return leaseTime() > 0;
+    }
+
+    public Duration getLeaseTime() {
+        return Duration.of(leaseTime(), timeUnit());
+    }
+
     public static LockDescriptor forClean(final LockType lockType, final LockMode lockMode) {
         return new LockDescriptor("", 0, ChronoUnit.SECONDS, lockType, lockMode);
     }
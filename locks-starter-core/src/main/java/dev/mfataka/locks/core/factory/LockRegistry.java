@@ -1,22 +1,45 @@
 package dev.mfataka.locks.core.factory;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import dev.mfataka.locks.api.Locker;
 import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.clock.CachedLockClock;
+import dev.mfataka.locks.api.clock.LockClock;
 import dev.mfataka.locks.api.context.LockContext;
 import dev.mfataka.locks.api.factory.DistributedLock;
 import dev.mfataka.locks.api.factory.ReactiveDistributedLock;
 import dev.mfataka.locks.api.service.JdbcService;
+import dev.mfataka.locks.api.service.R2dbcService;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.HostProperties;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.LocalProperties;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.ReactiveProperties;
 import dev.mfataka.locks.core.locker.distibuted.SimpleDistributedLock;
+import dev.mfataka.locks.core.locker.host.HostLock;
+import dev.mfataka.locks.core.locker.reactive.LockIoScheduler;
 import dev.mfataka.locks.core.locker.reactive.ReactiveLock;
 import dev.mfataka.locks.core.locker.reactive.distributed.DefaultReactiveDistributedLock;
+import dev.mfataka.locks.core.locker.reactive.distributed.R2dbcReactiveDistributedLock;
+import dev.mfataka.locks.core.locker.simple.DeadlockDetector;
+import dev.mfataka.locks.core.locker.simple.HierarchicalLock;
+import dev.mfataka.locks.core.locker.simple.LeaseWheel;
 import dev.mfataka.locks.core.locker.simple.SimpleJvmLock;
+import dev.mfataka.locks.core.locker.simple.ReadWritePolicy;
+import dev.mfataka.locks.core.locker.simple.ReadWriteSimpleLock;
+import dev.mfataka.locks.core.locker.simple.ReentrantSimpleLocker;
+import dev.mfataka.locks.core.locker.simple.SemaphoreLock;
 import dev.mfataka.locks.core.locker.simple.SimpleLock;
+import dev.mfataka.locks.core.locker.simple.StripedSimpleLock;
+import dev.mfataka.locks.core.snapshot.LockerFilter;
+import dev.mfataka.locks.core.snapshot.LockerPage;
+import dev.mfataka.locks.core.snapshot.LockerSnapshot;
 
 /**
  * @author HAMMA FATAKA
@@ -30,11 +53,31 @@ public interface LockRegistry {
 
     SimpleLock SIMPLE_LOCK_FACTORY = SimpleLock.create(standardLockContextFor(SimpleLock.class));
 
+    SimpleLock REENTRANT_SIMPLE_LOCK_FACTORY = SimpleLock.createReentrant(standardLockContextFor("Reentrant" + SimpleLock.class.getSimpleName()));
+
     SimpleJvmLock DEFAULT_JVM_LOCK_FACTORY = SimpleJvmLock.create(standardLockContextFor(SimpleJvmLock.class));
 
-    Map<String, Lock<?>> lockFactories = Stream.of(REACTIVE_LOCK_FACTORY, SIMPLE_LOCK_FACTORY, DEFAULT_JVM_LOCK_FACTORY)
+    SemaphoreLock SEMAPHORE_LOCK_FACTORY = SemaphoreLock.create(standardLockContextFor(SemaphoreLock.class));
+
+    HierarchicalLock HIERARCHICAL_LOCK_FACTORY = HierarchicalLock.create(standardLockContextFor(HierarchicalLock.class));
+
+    AtomicReference<StripedSimpleLock> stripedSimpleLockFactory = new AtomicReference<>(StripedSimpleLock.create(standardLockContextFor(StripedSimpleLock.class), StripedSimpleLock.DEFAULT_STRIPES));
+
+    ReadWriteSimpleLock READ_WRITE_LOCK_FACTORY = ReadWriteSimpleLock.create(standardLockContextFor(ReadWriteSimpleLock.class));
+
+    Map<String, Lock<?>> lockFactories = Stream.<Lock<?>>of(REACTIVE_LOCK_FACTORY, SIMPLE_LOCK_FACTORY, REENTRANT_SIMPLE_LOCK_FACTORY, DEFAULT_JVM_LOCK_FACTORY, SEMAPHORE_LOCK_FACTORY, HIERARCHICAL_LOCK_FACTORY, stripedSimpleLockFactory.get(), READ_WRITE_LOCK_FACTORY)
             .collect(Collectors.toConcurrentMap(lock -> lock.getLockContext().factoryName(), Function.identity()));
 
+    AtomicReference<LocalProperties> localProperties = new AtomicReference<>(LocalProperties.defaults());
+
+    AtomicReference<ReactiveProperties> reactiveProperties = new AtomicReference<>(ReactiveProperties.defaults());
+
+    AtomicReference<LockIoScheduler> lockIoScheduler = new AtomicReference<>();
+
+    DeadlockDetector DEADLOCK_DETECTOR = new DeadlockDetector();
+
+    LeaseWheel LEASE_WHEEL = new LeaseWheel();
+
     DistributedLock distributedLock();
 
     ReactiveDistributedLock reactiveDistributedLock();
@@ -51,27 +94,175 @@ public interface LockRegistry {
         return SIMPLE_LOCK_FACTORY;
     }
 
+    /**
+     * @return lock whose lockers may be locked again by the thread holding them, see {@link ReentrantSimpleLocker}
+     */
+    static SimpleLock reentrantSimpleLock() {
+        return REENTRANT_SIMPLE_LOCK_FACTORY;
+    }
+
+    /**
+     * @return read-write lock, the policy of a name is the one of the call creating its locker, see
+     * {@link ReadWriteSimpleLock#get(String, ReadWritePolicy)}
+     */
+    static ReadWriteSimpleLock readWriteLock() {
+        return READ_WRITE_LOCK_FACTORY;
+    }
+
+    /**
+     * @return lock whose lockers admit a fixed number of concurrent holders per name
+     */
+    static SemaphoreLock semaphoreLock() {
+        return SEMAPHORE_LOCK_FACTORY;
+    }
+
+    /**
+     * @return lock over {@code :} separated paths, a locked path excludes the paths above and below it
+     */
+    static HierarchicalLock hierarchicalLock() {
+        return HIERARCHICAL_LOCK_FACTORY;
+    }
+
     static SimpleJvmLock defaultJvmLock() {
         return DEFAULT_JVM_LOCK_FACTORY;
     }
 
+    static StripedSimpleLock stripedSimpleLock() {
+        return stripedSimpleLockFactory.get();
+    }
+
+    /**
+     * applies local locker tuning to the statically held factories, local lockers are created before spring context
+     * so the configuration is pushed here instead of being injected, once by the auto-configuration. the striped lock
+     * is replaced when the stripe count changes, a striped lock that already handed out stripes keeps its count. a
+     * clock set through {@link LockClock#use} is kept unless a clock resolution is configured
+     *
+     * @param properties local locker properties, defaults are used when null
+     */
+    static void configure(final LocalProperties properties) {
+        final var applied = Objects.requireNonNullElseGet(properties, LocalProperties::defaults);
+        localProperties.set(applied);
+        configureClock(applied.getClockResolution());
+        final var striped = stripedSimpleLockFactory.updateAndGet(current -> current.resize(applied.getStripes()));
+        lockFactories.put(striped.getLockContext().factoryName(), striped);
+    }
+
+    static LocalProperties localProperties() {
+        return localProperties.get();
+    }
+
+    /**
+     * applies reactive locker tuning, read by reactive lockers on every call so it also affects existing lockers
+     *
+     * @param properties reactive locker properties, defaults are used when null
+     */
+    static void configure(final ReactiveProperties properties) {
+        final var applied = Objects.requireNonNullElseGet(properties, ReactiveProperties::defaults);
+        reactiveProperties.set(applied);
+        final var scheduler = lockIoScheduler.get();
+        final var resized = scheduler != null && (scheduler.getThreads() != applied.getIoThreads() || scheduler.getQueueSize() != applied.getIoQueueSize());
+        if (resized && lockIoScheduler.compareAndSet(scheduler, null)) {
+            scheduler.dispose();
+        }
+    }
+
+    static ReactiveProperties reactiveProperties() {
+        return reactiveProperties.get();
+    }
+
+    /**
+     * @return scheduler of the blocking calls of reactive lockers, created on first use and again after
+     * {@link #configure(ReactiveProperties)} changed its size
+     */
+    static LockIoScheduler lockIoScheduler() {
+        final var current = lockIoScheduler.get();
+        if (current != null) {
+            return current;
+        }
+        final var properties = reactiveProperties();
+        final var created = LockIoScheduler.create(properties.getIoThreads(), properties.getIoQueueSize());
+        if (lockIoScheduler.compareAndSet(null, created)) {
+            return created;
+        }
+        created.dispose();
+        return lockIoScheduler();
+    }
+
+    /**
+     * @return wait-for graph of the local lockers, only fed while {@link LocalProperties#isDeadlockDetection()} is on
+     */
+    static DeadlockDetector deadlockDetector() {
+        return DEADLOCK_DETECTOR;
+    }
+
+    /**
+     * @return timing wheel expiring the leases taken through {@link dev.mfataka.locks.api.base.BaseLocker#withLease}
+     */
+    static LeaseWheel leaseWheel() {
+        return LEASE_WHEEL;
+    }
+
     static DistributedLock createDistributedLock(final JdbcService jdbcService, final LockContext lockContext) {
         return (DistributedLock) lockFactories.computeIfAbsent(lockContext.factoryName(), key -> SimpleDistributedLock.create(jdbcService, lockContext));
     }
 
+    /**
+     * maps the lock table of the configured directory on first use, the table is shared with every JVM of the host
+     * that is configured with the same directory
+     */
+    static HostLock createHostLock(final HostProperties properties, final LockContext lockContext) {
+        return (HostLock) lockFactories.computeIfAbsent(lockContext.factoryName(), key -> HostLock.create(lockContext, properties));
+    }
+
+    /**
+     * unregisters and closes the host lock of the context if it was mapped, the next use maps the table again
+     */
+    static void closeHostLock(final LockContext lockContext) {
+        final var lock = lockFactories.get(lockContext.factoryName());
+        if (lock instanceof HostLock hostLock && lockFactories.remove(lockContext.factoryName(), hostLock)) {
+            hostLock.close();
+        }
+    }
+
     static ReactiveDistributedLock crateReactiveDistributedLock(final JdbcService jdbcService, final LockContext lockContext) {
         final var lockContextForDelegateFactory = new LockContext(lockContext.factoryName() + "_reactive", lockContext.isCleanable(), lockContext.debugEnabled());
         final var distributedLockFactory = createDistributedLock(jdbcService, lockContextForDelegateFactory);
         return (ReactiveDistributedLock) lockFactories.computeIfAbsent(lockContext.factoryName(), key -> DefaultReactiveDistributedLock.of(distributedLockFactory, lockContext));
     }
 
+    /**
+     * reactive distributed lock whose lockers insert and delete their rows through R2DBC instead of blocking on JDBC
+     */
+    static ReactiveDistributedLock createR2dbcReactiveDistributedLock(final R2dbcService r2dbcService, final LockContext lockContext) {
+        return (ReactiveDistributedLock) lockFactories.computeIfAbsent(lockContext.factoryName(), key -> R2dbcReactiveDistributedLock.create(r2dbcService, lockContext));
+    }
+
 
+    /**
+     * asks the factories for the name instead of listing their lockers. There is no registry wide name index, the
+     * local factories already key their lockers by name and drop them on their own (reference counting, leases, the
+     * cleaner), an index beside them would have to follow every one of those paths. Local and host factories answer
+     * from memory and are asked first, the distributed ones read the lock table and are only asked when no local
+     * factory knows the name.
+     *
+     * @return locker registered under the name in any factory, null if there is none
+     */
     static Locker findLocker(final String name) {
-        return existingLockers()
-                .stream()
-                .filter(context -> context.getLockName().equals(name))
-                .findAny()
-                .orElse(null);
+        final var local = findLocker(name, false);
+        return local != null ? local : findLocker(name, true);
+    }
+
+    private static Locker findLocker(final String name, final boolean distributed) {
+        for (final var lock : lockFactories.values()) {
+            if (lock.getLockType().isDistributed() != distributed) {
+                continue;
+            }
+            final var locker = lock.find(name);
+            if (locker != null) {
+                return locker;
+            }
+        }
+        return null;
     }
 
     static Lock<?> findLock(final String name) {
@@ -79,9 +270,7 @@ public interface LockRegistry {
     }
 
     static boolean lockerExists(final String lockerName) {
-        return existingLockers()
-                .stream()
-                .anyMatch(locker -> locker.getLockName().equals(lockerName));
+        return findLocker(lockerName) != null;
     }
 
     static boolean lockExists(final String lockName) {
@@ -102,9 +291,50 @@ public interface LockRegistry {
                 .toList();
     }
 
+    /**
+     * lazy counterpart of {@link #existingLockers()}, lockers are read while the stream is consumed and the stream has
+     * to be closed, as distributed lockers are read from the table
+     *
+     * @return lockers of every factory matching the filter
+     */
+    static Stream<LockerSnapshot> lockerSnapshots(final LockerFilter filter) {
+        final var predicate = filter.lockerPredicate();
+        return lockFactories.values()
+                .stream()
+                .filter(filter::accepts)
+                .flatMap(lock -> lock.lockers()
+                        .filter(predicate)
+                        .map(locker -> LockerSnapshot.of(lock, locker)));
+    }
+
+    /**
+     * @param cursor {@link LockerPage#nextCursor()} of the previous page, null for the first page
+     * @return at most {@code limit} lockers matching the filter
+     */
+    static LockerPage lockerPage(final LockerFilter filter, final String cursor, final int limit) {
+        return LockerPage.read(lockFactories.values(), filter, cursor, limit);
+    }
+
+
+    private static void configureClock(final Duration resolution) {
+        final var current = LockClock.current();
+        if (resolution == null) {
+            if (current instanceof CachedLockClock) {
+                LockClock.use(LockClock.system());
+            }
+            return;
+        }
+        if (!(current instanceof CachedLockClock cached && cached.getResolution().equals(resolution))) {
+            LockClock.use(LockClock.cached(resolution));
+        }
+    }
 
     private static LockContext standardLockContextFor(final Class<?> lockRegistryClass) {
-        return new LockContext(STANDARD_PREFIX + lockRegistryClass.getSimpleName(), true, true);
+        return standardLockContextFor(lockRegistryClass.getSimpleName());
+    }
+
+    private static LockContext standardLockContextFor(final String lockRegistryName) {
+        return new LockContext(STANDARD_PREFIX + lockRegistryName, true, true);
     }
 
 }
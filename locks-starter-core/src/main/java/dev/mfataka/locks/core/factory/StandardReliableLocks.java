@@ -1,11 +1,18 @@
 package dev.mfataka.locks.core.factory;
 
 import java.time.Duration;
+import java.util.Collection;
 
 import dev.mfataka.locks.api.DistributedLocker;
 import dev.mfataka.locks.api.ReactiveDistributedLocker;
 import dev.mfataka.locks.api.ReactiveLocker;
 import dev.mfataka.locks.core.descriptor.LockDescriptor;
+import dev.mfataka.locks.core.locker.host.HostLocker;
+import dev.mfataka.locks.core.locker.simple.HierarchicalLocker;
+import dev.mfataka.locks.core.locker.simple.MultiSimpleLocker;
+import dev.mfataka.locks.core.locker.simple.ReadWritePolicy;
+import dev.mfataka.locks.core.locker.simple.ReadWriteSimpleLocker;
+import dev.mfataka.locks.core.locker.simple.SemaphoreLocker;
 import dev.mfataka.locks.core.locker.simple.SimpleLocker;
 
 /**
@@ -15,8 +22,44 @@ public interface StandardReliableLocks extends LockRegistry {
 
     SimpleLocker createSimple(final String lockName);
 
+    /**
+     * @return stripe of {@link LockRegistry#stripedSimpleLock()} that guards the name
+     */
+    SimpleLocker createStriped(final String lockName);
+
+    /**
+     * @return locker of {@link LockRegistry#reentrantSimpleLock()}
+     */
+    SimpleLocker createReentrant(final String lockName);
+
+    /**
+     * @return locker of {@link LockRegistry#readWriteLock()}, the policy only applies when the name has no locker yet
+     */
+    ReadWriteSimpleLocker createReadWrite(final String lockName, final ReadWritePolicy policy);
+
+    /**
+     * @param permits number of concurrent holders, only used when the locker does not exist yet
+     * @return locker of {@link LockRegistry#semaphoreLock()}
+     */
+    SemaphoreLocker createSemaphore(final String lockName, final int permits);
+
+    /**
+     * @return locker over the lockers of {@link LockRegistry#simpleLock()} for all names
+     */
+    MultiSimpleLocker createMulti(final Collection<String> lockNames);
+
+    /**
+     * @return locker of {@link LockRegistry#hierarchicalLock()} for the path
+     */
+    HierarchicalLocker createHierarchical(final String path);
+
     ReactiveLocker createReactive(final String lockName);
 
+    /**
+     * @return locker excluding every JVM of the host that shares the configured lock table
+     */
+    HostLocker createHost(final String lockName);
+
 
     DistributedLocker createDistributed(final String lockName);
 
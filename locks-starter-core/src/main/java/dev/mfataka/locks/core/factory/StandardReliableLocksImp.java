@@ -1,6 +1,7 @@
 package dev.mfataka.locks.core.factory;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -19,25 +20,47 @@ import dev.mfataka.locks.api.context.LockContext;
 import dev.mfataka.locks.api.factory.DistributedLock;
 import dev.mfataka.locks.api.factory.ReactiveDistributedLock;
 import dev.mfataka.locks.api.service.JdbcService;
+import dev.mfataka.locks.api.service.R2dbcService;
 import dev.mfataka.locks.api.utils.LoggingUtils;
 import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
 import dev.mfataka.locks.core.descriptor.LockDescriptor;
+import dev.mfataka.locks.core.locker.host.HostLock;
+import dev.mfataka.locks.core.locker.host.HostLocker;
+import dev.mfataka.locks.core.locker.reactive.distributed.R2dbcReactiveDistributedLock;
+import dev.mfataka.locks.core.locker.simple.HierarchicalLocker;
+import dev.mfataka.locks.core.locker.simple.MultiSimpleLocker;
+import dev.mfataka.locks.core.locker.simple.ReadWritePolicy;
+import dev.mfataka.locks.core.locker.simple.ReadWriteSimpleLocker;
+import dev.mfataka.locks.core.locker.simple.SemaphoreLocker;
 import dev.mfataka.locks.core.locker.simple.SimpleLocker;
 
 /**
  * @author HAMMA FATAKA
  */
 @Slf4j
-public class StandardReliableLocksImp implements StandardReliableLocks {
+public class StandardReliableLocksImp implements StandardReliableLocks, AutoCloseable {
     private final LockContext reactiveDistributedLockContext;
     private final LockContext distributedLockContext;
+    private final LockContext hostLockContext;
+    private final LocksCorePropertyConfig.HostProperties hostProperties;
     private final JdbcService jdbcService;
+    private final R2dbcService r2dbcService;
     private final LoggingUtils loggingUtils;
 
     public StandardReliableLocksImp(final JdbcService jdbcService, final LocksCorePropertyConfig config) {
+        this(jdbcService, null, config);
+    }
+
+    /**
+     * @param r2dbcService service of the reactive distributed locks, null to lock them through {@code jdbcService}
+     */
+    public StandardReliableLocksImp(final JdbcService jdbcService, final R2dbcService r2dbcService, final LocksCorePropertyConfig config) {
         this.jdbcService = jdbcService;
+        this.r2dbcService = r2dbcService;
         this.distributedLockContext = buildContext(config, DistributedLock.class);
-        this.reactiveDistributedLockContext = buildContext(config, ReactiveDistributedLock.class);
+        this.reactiveDistributedLockContext = buildContext(config, r2dbcService == null ? ReactiveDistributedLock.class : R2dbcReactiveDistributedLock.class);
+        this.hostLockContext = buildContext(config, HostLock.class);
+        this.hostProperties = config.getHost();
         this.loggingUtils = LoggingUtils.of(log, config.isDebugEnabled());
     }
 
@@ -48,6 +71,49 @@ public class StandardReliableLocksImp implements StandardReliableLocks {
         return simpleLocker;
     }
 
+    @Override
+    public SimpleLocker createStriped(final String lockName) {
+        final var stripedLock = LockRegistry.stripedSimpleLock();
+        final var stripe = stripedLock.get(lockName);
+        loggingUtils.debugIfEnabled("Mapped striped lock {} onto {}", lockName, stripe.getLockName());
+        return stripe;
+    }
+
+    @Override
+    public SimpleLocker createReentrant(final String lockName) {
+        final var reentrantLocker = LockRegistry.reentrantSimpleLock().get(lockName);
+        loggingUtils.debugIfEnabled("Created reentrant simple lock {}", lockName);
+        return reentrantLocker;
+    }
+
+    @Override
+    public ReadWriteSimpleLocker createReadWrite(final String lockName, final ReadWritePolicy policy) {
+        final var readWriteLocker = LockRegistry.readWriteLock().get(lockName, policy);
+        loggingUtils.debugIfEnabled("Created {} read-write lock {}", policy, lockName);
+        return readWriteLocker;
+    }
+
+    @Override
+    public SemaphoreLocker createSemaphore(final String lockName, final int permits) {
+        final var semaphoreLocker = LockRegistry.semaphoreLock().get(lockName, permits);
+        loggingUtils.debugIfEnabled("Created semaphore lock {} with {} permits", lockName, semaphoreLocker.getPermits());
+        return semaphoreLocker;
+    }
+
+    @Override
+    public MultiSimpleLocker createMulti(final Collection<String> lockNames) {
+        final var multiLocker = LockRegistry.simpleLock().getAll(lockNames);
+        loggingUtils.debugIfEnabled("Created multi lock {}", multiLocker.getLockName());
+        return multiLocker;
+    }
+
+    @Override
+    public HierarchicalLocker createHierarchical(final String path) {
+        final var hierarchicalLocker = LockRegistry.hierarchicalLock().get(path);
+        loggingUtils.debugIfEnabled("Created hierarchical lock {}", path);
+        return hierarchicalLocker;
+    }
+
     @Override
     public ReactiveLocker createReactive(final String lockName) {
         final var reactiveLocker = LockRegistry.reactiveLock().get(lockName);
@@ -55,6 +121,22 @@ public class StandardReliableLocksImp implements StandardReliableLocks {
         return reactiveLocker;
     }
 
+    @Override
+    public HostLocker createHost(final String lockName) {
+        final var hostLocker = LockRegistry.createHostLock(hostProperties, hostLockContext).get(lockName);
+        loggingUtils.debugIfEnabled("Created host lock {}", lockName);
+        return hostLocker;
+    }
+
+    /**
+     * closes the host lock table when it was mapped, called by the context on shutdown
+     */
+    @Override
+    public void close() {
+        LockRegistry.closeHostLock(hostLockContext);
+        loggingUtils.debugIfEnabled("Closed host lock {}", hostLockContext.factoryName());
+    }
+
     @Override
     public DistributedLocker createDistributed(final String lockName) {
         final var distributedLocker = (DistributedLocker) getLockerFromFactories(false, lockName);
@@ -78,7 +160,9 @@ public class StandardReliableLocksImp implements StandardReliableLocks {
 
     @Override
     public ReactiveDistributedLock reactiveDistributedLock() {
-        final var reactiveDistributedLock = LockRegistry.crateReactiveDistributedLock(jdbcService, reactiveDistributedLockContext);
+        final var reactiveDistributedLock = r2dbcService == null
+                ? LockRegistry.crateReactiveDistributedLock(jdbcService, reactiveDistributedLockContext)
+                : LockRegistry.createR2dbcReactiveDistributedLock(r2dbcService, reactiveDistributedLockContext);
         loggingUtils.debugIfEnabled("created Reactive lock {}", reactiveDistributedLock);
         return reactiveDistributedLock;
     }
@@ -6,6 +6,7 @@ import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 
 import dev.mfataka.locks.api.DistributedLocker;
+import dev.mfataka.locks.api.clock.LockClock;
 import dev.mfataka.locks.api.enums.LockMode;
 import dev.mfataka.locks.api.enums.LockType;
 import dev.mfataka.locks.api.service.JdbcService;
@@ -32,8 +33,9 @@ public class JdbcLocker implements DistributedLocker {
 
     @Override
     public boolean obtainLock(final Duration waitTimeout) {
-        final var deadline = System.currentTimeMillis() + waitTimeout.toMillis();
-        while (System.currentTimeMillis() < deadline) {
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + waitTimeout.toNanos();
+        while (deadline - clock.nanoTime() > 0) {
             if (tryLock()) {
                 return true;
             }
@@ -2,6 +2,7 @@ package dev.mfataka.locks.core.locker.distibuted;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.stream.Stream;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +49,15 @@ public class SimpleDistributedLock implements DistributedLock {
         jdbcService.deleteLock(lockName);
     }
 
+    @Override
+    public Locker find(final String lockName) {
+        final var lockedAt = jdbcService.lockedAt(lockName);
+        if (lockedAt == null) {
+            return null;
+        }
+        return Locker.jdbcLocker(lockName, lockedAt, LockMode.BLOCKING);
+    }
+
     @Override
     public boolean exists(final String lockName) {
         return jdbcService.isLocked(lockName);
@@ -73,6 +83,16 @@ public class SimpleDistributedLock implements DistributedLock {
         return jdbcService.findAll(LockMode.BLOCKING);
     }
 
+    @Override
+    public Stream<Locker> lockers() {
+        return jdbcService.streamAfter(LockMode.BLOCKING, null);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return jdbcService.streamAfter(LockMode.BLOCKING, lockName);
+    }
+
     @Override
     public LockType getLockType() {
         return LockType.DISTRIBUTED;
@@ -0,0 +1,164 @@
+package dev.mfataka.locks.core.locker.host;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import lombok.Getter;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.CleanupSlice;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.api.factory.AutoHandlerFactory;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.HostProperties;
+import dev.mfataka.locks.core.locker.simple.ExpiryIndex;
+import dev.mfataka.locks.core.locker.simple.LockerMap;
+
+/**
+ * Lock whose lockers exclude every JVM on the host sharing the lock table of {@link HostProperties#getDirectory()}.
+ * <p>
+ * Lockers are handles of this JVM on slots of the table. Clearing a released locker also frees the slot of its name, so
+ * the cleaner keeps the table from filling up with names that are no longer used.
+ * </p>
+ * <p>
+ * Closing the lock closes its table, see {@link HostLockTable#close()}, lockers taken from it cannot lock afterwards.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public class HostLock implements Lock<HostLocker>, AutoCloseable {
+    private final LockerMap<HostLocker> hostLockers = new LockerMap<>();
+    private final ExpiryIndex<HostLocker> expiry = new ExpiryIndex<>();
+    @Getter
+    private final HostLockTable table;
+    @Getter
+    private final LockContext lockContext;
+
+    private HostLock(final HostLockTable table, final LockContext lockContext) {
+        this.table = table;
+        this.lockContext = lockContext;
+    }
+
+    /**
+     * maps the lock table of the configured directory
+     *
+     * @throws IllegalStateException when the table cannot be mapped or was created with another slot count
+     */
+    public static HostLock create(final LockContext lockContext, final HostProperties properties) {
+        try {
+            return new HostLock(HostLockTable.open(Path.of(properties.getDirectory()), properties.getSlots()), lockContext);
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot map host lock table in [" + properties.getDirectory() + "]", e);
+        }
+    }
+
+    @Override
+    public HostLocker get(final String lockName) {
+        final var existing = hostLockers.get(lockName);
+        if (existing != null) {
+            return existing;
+        }
+        return hostLockers.computeIfAbsent(lockName, this::create);
+    }
+
+    private HostLocker create(final String lockName) {
+        final var locker = new HostLocker(lockName, table);
+        expiry.add(locker);
+        return locker;
+    }
+
+    @Override
+    public void remove(final String lockName) {
+        hostLockers.remove(lockName);
+    }
+
+    @Override
+    public Locker find(final String lockName) {
+        return hostLockers.get(lockName);
+    }
+
+    @Override
+    public boolean exists(final String lockName) {
+        return hostLockers.containsKey(lockName);
+    }
+
+    @Override
+    public int clearAllLocks(final Duration maxAge) {
+        return clearExpiredLocks(maxAge, Integer.MAX_VALUE).cleared();
+    }
+
+    @Override
+    public CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        return expiry.expire(ExpiryIndex.threshold(maxAge), limit, locker -> hostLockers.get(locker.getLockName()) == locker, this::drop);
+    }
+
+    private boolean drop(final HostLocker locker) {
+        if (!locker.isReleased() || !hostLockers.remove(locker.getLockName(), locker)) {
+            return false;
+        }
+        AutoHandlerFactory.removeHandler(locker);
+        locker.reclaim();
+        return true;
+    }
+
+    @Override
+    public int clearAllLocks() {
+        return hostLockers.values()
+                .stream()
+                .mapToInt(locker -> drop(locker) ? 1 : 0)
+                .sum();
+    }
+
+    @Override
+    public int existingLocksCount() {
+        return hostLockers.size();
+    }
+
+    @Override
+    public Collection<Locker> getLockers() {
+        return hostLockers.values()
+                .stream()
+                .map(Locker.class::cast)
+                .toList();
+    }
+
+    @Override
+    public Stream<Locker> lockers() {
+        return hostLockers.values()
+                .stream()
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return hostLockers.after(lockName)
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.HOST;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+
+    /**
+     * @throws IllegalStateException when the file channel of the table cannot be closed
+     */
+    @Override
+    public void close() {
+        try {
+            table.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("cannot close host lock table [" + table.getFile() + "]", e);
+        }
+    }
+}
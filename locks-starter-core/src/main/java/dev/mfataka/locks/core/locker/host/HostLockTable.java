@@ -0,0 +1,375 @@
+package dev.mfataka.locks.core.locker.host;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.clock.LockClock;
+
+/**
+ * Lock table shared by the JVMs of one host through a memory-mapped file.
+ * <p>
+ * The file holds a header followed by {@code slots} slots of one cache line each. A slot belongs to the name whose
+ * 64 bit hash is in its first word, names are placed by linear probing. Looking a name up does not lock, placing a name
+ * and freeing its slot again are serialized by a file lock of the header, so a name never gets two slots.
+ * The owner word of a slot holds the pid and the start time of the owning process, it is claimed and cleared with
+ * compare-and-set on the mapping itself, which all processes share, so taking a free lock costs one CAS on memory.
+ * Two names with the same 64 bit hash share a slot and exclude each other, they never lock concurrently.
+ * </p>
+ * <p>
+ * A process that dies while holding a slot leaves its owner word behind. An owner whose pid is gone, or now belongs to
+ * a process started at another time, is reclaimed under an exclusive {@link FileChannel#lock} of its slot, so
+ * recoveries of a slot run one at a time, while the CAS keeps them from ever taking a slot from a live owner. File locks
+ * are only used for that and for initializing the file.
+ * </p>
+ * <p>
+ * A slot is freed by {@link #reclaim}, which the owning process does while it holds the slot: the key becomes a
+ * tombstone, which probing skips and placing reuses, and a tombstone before a free slot becomes free. Other processes
+ * may still hold handles on the slot, so whoever acquires a slot checks that it still belongs to its name, see
+ * {@link #isSlotOf}.
+ * </p>
+ * <p>
+ * Closing the table closes its file channel, slots can still be released afterwards so holders finish their work, but
+ * no slot can be claimed, acquired or recovered anymore. The mapping itself has no close, it is unmapped once the
+ * table and its lockers are collected.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public final class HostLockTable implements AutoCloseable {
+    public static final int DEFAULT_SLOTS = 16384;
+    /**
+     * mapped buffers are indexed by int, the table has to stay below 2 GB
+     */
+    public static final int MAX_SLOTS = 1 << 24;
+    static final String FILE_NAME = "locks-starter-host.locks";
+
+    private static final long MAGIC = 0x4c4f434b53484f53L;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 64;
+    private static final int KEY = 0;
+    private static final int OWNER = 8;
+    private static final int LOCKED_AT = 16;
+    private static final long FREE = 0L;
+    private static final long TOMBSTONE = -1L;
+    /**
+     * file locks of one JVM must not overlap, tables of the same file in one JVM take the header lock in turn
+     */
+    private static final Object HEADER_LOCK = new Object();
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    @Getter
+    private final Path file;
+    @Getter
+    private final int slots;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    /**
+     * owner word of this process
+     */
+    private final long owner;
+    private volatile boolean closed;
+
+    private HostLockTable(final Path file, final int slots, final FileChannel channel, final MappedByteBuffer buffer) {
+        this.file = file;
+        this.slots = slots;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.owner = ownerOf(ProcessHandle.current());
+    }
+
+    /**
+     * maps the table file of the directory, creating it when it does not exist yet
+     *
+     * @param slots number of slots, rounded up to a power of two, has to match the existing file
+     */
+    public static HostLockTable open(final Path directory, final int slots) throws IOException {
+        if (slots > MAX_SLOTS) {
+            throw new IllegalArgumentException("host lock table cannot have more than [" + MAX_SLOTS + "] slots, configured [" + slots + "]");
+        }
+        final var slotCount = Integer.highestOneBit(Math.max(slots, 2) - 1) << 1;
+        Files.createDirectories(directory);
+        final var file = directory.resolve(FILE_NAME);
+        final var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + slotCount * SLOT_SIZE);
+            synchronized (HEADER_LOCK) {
+                try (var ignored = channel.lock(0, HEADER_SIZE, false)) {
+                    initialize(file, buffer, slotCount);
+                }
+            }
+            log.debug("mapped host lock table [{}] with [{}] slots", file, slotCount);
+            return new HostLockTable(file, slotCount, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void initialize(final Path file, final MappedByteBuffer buffer, final int slotCount) {
+        if ((long) LONGS.getVolatile(buffer, 0) != MAGIC) {
+            LONGS.setVolatile(buffer, 8, (long) slotCount);
+            LONGS.setVolatile(buffer, 0, MAGIC);
+            return;
+        }
+        final var existing = (long) LONGS.getVolatile(buffer, 8);
+        if (existing != slotCount) {
+            throw new IllegalStateException("host lock table [" + file + "] has [" + existing + "] slots, configured [" + slotCount + "]");
+        }
+    }
+
+    /**
+     * @return slot of the name, claimed for it when the name was not used on this host yet
+     */
+    int slotOf(final String lockName) {
+        ensureOpen();
+        final var key = keyOf(lockName);
+        final var slot = find(key);
+        return slot >= 0 ? slot : underHeaderLock(() -> place(key));
+    }
+
+    /**
+     * @return slot holding the key, -1 when the probe ends without it, only a miss under the header lock is certain
+     */
+    private int find(final long key) {
+        final var mask = slots - 1;
+        var slot = home(key);
+        for (var probes = 0; probes < slots; probes++) {
+            final var current = key(slot);
+            if (current == key) {
+                return slot;
+            }
+            if (current == FREE) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * places the key in the first tombstone or free slot of its probe, called under the header lock
+     */
+    private int place(final long key) {
+        final var mask = slots - 1;
+        var slot = home(key);
+        var reusable = -1;
+        for (var probes = 0; probes < slots; probes++) {
+            final var current = key(slot);
+            if (current == key) {
+                return slot;
+            }
+            if (current == TOMBSTONE && reusable < 0) {
+                reusable = slot;
+            }
+            if (current == FREE) {
+                if (reusable < 0) {
+                    reusable = slot;
+                }
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (reusable < 0) {
+            throw new IllegalStateException("host lock table [" + file + "] is full, all [" + slots + "] slots are taken, configure more slots");
+        }
+        LONGS.setVolatile(buffer, offset(reusable) + KEY, key);
+        return reusable;
+    }
+
+    /**
+     * frees the slot of a name this JVM no longer uses, handles of other processes find out once they acquire it
+     *
+     * @return false when the slot is held, belongs to another name by now or the table is closed
+     */
+    boolean reclaim(final int slot, final String lockName) {
+        if (closed || !tryAcquire(slot)) {
+            return false;
+        }
+        final var key = keyOf(lockName);
+        return underHeaderLock(() -> {
+            if (key(slot) != key) {
+                release(slot);
+                return false;
+            }
+            // the key goes before the owner, whoever acquires the slot next sees that it was reclaimed
+            LONGS.setVolatile(buffer, offset(slot) + KEY, TOMBSTONE);
+            release(slot);
+            compact(slot);
+            return true;
+        });
+    }
+
+    /**
+     * frees the tombstones ending at the slot when the slot after them is free, no probe runs past them anymore
+     */
+    private void compact(final int slot) {
+        final var mask = slots - 1;
+        if (key((slot + 1) & mask) != FREE) {
+            return;
+        }
+        var current = slot;
+        while (key(current) == TOMBSTONE) {
+            LONGS.setVolatile(buffer, offset(current) + KEY, FREE);
+            current = (current - 1) & mask;
+        }
+    }
+
+    /**
+     * @return whether the slot still belongs to the name, checked by whoever acquired it as it may have been reclaimed
+     */
+    boolean isSlotOf(final int slot, final String lockName) {
+        return key(slot) == keyOf(lockName);
+    }
+
+    private <T> T underHeaderLock(final Supplier<T> change) {
+        synchronized (HEADER_LOCK) {
+            try (var ignored = channel.lock(0, HEADER_SIZE, false)) {
+                return change.get();
+            } catch (IOException e) {
+                throw new IllegalStateException("cannot lock header of host lock table [" + file + "]", e);
+            }
+        }
+    }
+
+    private long key(final int slot) {
+        return (long) LONGS.getVolatile(buffer, offset(slot) + KEY);
+    }
+
+    private int home(final long key) {
+        return (int) (key ^ (key >>> 32)) & (slots - 1);
+    }
+
+    boolean tryAcquire(final int slot) {
+        ensureOpen();
+        final var offset = offset(slot);
+        if (!LONGS.compareAndSet(buffer, offset + OWNER, FREE, owner)) {
+            return false;
+        }
+        LONGS.setRelease(buffer, offset + LOCKED_AT, LockClock.current().epochSecond());
+        return true;
+    }
+
+    /**
+     * @return false when the slot is not owned by this process
+     */
+    boolean release(final int slot) {
+        return LONGS.compareAndSet(buffer, offset(slot) + OWNER, owner, FREE);
+    }
+
+    /**
+     * takes the slot over from an owner process that no longer runs
+     *
+     * @return whether this process owns the slot now
+     */
+    boolean recover(final int slot) {
+        ensureOpen();
+        final var offset = offset(slot);
+        final var dead = (long) LONGS.getVolatile(buffer, offset + OWNER);
+        if (dead == FREE || dead == owner || isAlive(dead)) {
+            return false;
+        }
+        try (var ignored = channel.lock(offset, SLOT_SIZE, false)) {
+            if (!LONGS.compareAndSet(buffer, offset + OWNER, dead, owner)) {
+                return false;
+            }
+            LONGS.setRelease(buffer, offset + LOCKED_AT, LockClock.current().epochSecond());
+        } catch (OverlappingFileLockException e) {
+            // another thread of this process recovers the slot right now
+            return false;
+        } catch (IOException e) {
+            log.warn("cannot lock slot [{}] of host lock table [{}] for recovery", slot, file, e);
+            return false;
+        }
+        log.warn("reclaimed slot [{}] of host lock table [{}] from process [{}] that no longer runs", slot, file, dead >>> 32);
+        return true;
+    }
+
+    long owner(final int slot) {
+        return (long) LONGS.getVolatile(buffer, offset(slot) + OWNER);
+    }
+
+    boolean isOwnedByThisProcess(final int slot) {
+        return owner(slot) == owner;
+    }
+
+    long lockedAt(final int slot) {
+        return (long) LONGS.getAcquire(buffer, offset(slot) + LOCKED_AT);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * closes the file channel, slots held by this process stay held until their lockers release them
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        channel.close();
+        log.debug("closed host lock table [{}]", file);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("host lock table [" + file + "] is closed");
+        }
+    }
+
+    private static int offset(final int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes of the name, never {@link #FREE} or {@link #TOMBSTONE}
+     */
+    private static long keyOf(final String lockName) {
+        var hash = 0xcbf29ce484222325L;
+        for (final var b : lockName.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == FREE || hash == TOMBSTONE ? 1 : hash;
+    }
+
+    /**
+     * pid in the high half, low half of the start second in the low half, a reused pid gets another owner word
+     */
+    private static long ownerOf(final ProcessHandle process) {
+        return process.pid() << 32 | startOf(process);
+    }
+
+    private static long startOf(final ProcessHandle process) {
+        return process.info()
+                .startInstant()
+                .map(start -> start.getEpochSecond() & 0xffffffffL)
+                .orElse(0L);
+    }
+
+    private static boolean isAlive(final long owner) {
+        final var start = owner & 0xffffffffL;
+        return ProcessHandle.of(owner >>> 32)
+                .filter(ProcessHandle::isAlive)
+                .map(ProcessHandle::info)
+                .map(process -> start == 0 || process.startInstant().map(instant -> (instant.getEpochSecond() & 0xffffffffL) == start).orElse(true))
+                .orElse(false);
+    }
+}
@@ -0,0 +1,191 @@
+package dev.mfataka.locks.core.locker.host;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.core.locker.simple.SimpleJvmLocker;
+
+/**
+ * Locker of one name in a {@link HostLockTable}, excluding the threads of every JVM on the host.
+ * <p>
+ * A thread first takes the local locker of the name, so the threads of this JVM queue and park there as usual, and
+ * only the holder of the local locker competes for the slot with the other processes. Other processes cannot wake
+ * it, the holder polls the slot with a growing pause instead and checks now and then whether the owning process died.
+ * </p>
+ * <p>
+ * The slot of the name may be reclaimed while this locker keeps it, see {@link HostLockTable#reclaim}. A slot acquired
+ * for another name is given back and the name looked up again.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class HostLocker implements BaseLocker {
+    private static final long MIN_PAUSE = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_PAUSE = TimeUnit.MILLISECONDS.toNanos(10);
+    /**
+     * pause between two checks whether the owning process still runs, each check looks up the process
+     */
+    private static final long RECOVERY_PAUSE = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final String lockName;
+    private final HostLockTable table;
+    /**
+     * only changed by the thread holding the local locker
+     */
+    private volatile int slot;
+    private final SimpleJvmLocker local;
+
+    HostLocker(final String lockName, final HostLockTable table) {
+        this.lockName = lockName;
+        this.table = table;
+        this.slot = table.slotOf(lockName);
+        this.local = new SimpleJvmLocker(lockName);
+    }
+
+    @Override
+    public boolean tryLock() {
+        if (!local.tryLock()) {
+            return false;
+        }
+        var locked = false;
+        try {
+            locked = tryAcquireSlot(true);
+        } finally {
+            if (!locked) {
+                local.releaseLock();
+            }
+        }
+        if (locked) {
+            log.debug("lock with name [{}] is locked on host by current thread [{}]", lockName, Thread.currentThread().getName());
+        }
+        return locked;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + timeout.toNanos();
+        if (!local.obtainLock(timeout)) {
+            return false;
+        }
+        var locked = false;
+        try {
+            locked = acquireSlot(clock, deadline);
+            return locked;
+        } finally {
+            if (!locked) {
+                local.releaseLock();
+            }
+        }
+    }
+
+    private boolean acquireSlot(final LockClock clock, final long deadline) throws InterruptedException {
+        var pause = MIN_PAUSE;
+        var nextRecovery = clock.nanoTime();
+        while (true) {
+            if (tryAcquireSlot(false)) {
+                return true;
+            }
+            final var now = clock.nanoTime();
+            if (now - nextRecovery >= 0) {
+                if (tryAcquireSlot(true)) {
+                    return true;
+                }
+                nextRecovery = now + RECOVERY_PAUSE;
+            }
+            final var remaining = deadline - now;
+            if (remaining <= 0) {
+                log.debug("lock with name [{}] is held by process [{}], not locked on host", lockName, table.owner(slot) >>> 32);
+                return false;
+            }
+            LockSupport.parkNanos(this, Math.min(pause, remaining));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            pause = Math.min(pause << 1, MAX_PAUSE);
+        }
+    }
+
+    /**
+     * @param recover whether to take the slot over from an owner process that no longer runs
+     */
+    private boolean tryAcquireSlot(final boolean recover) {
+        while (true) {
+            final var current = slot;
+            if (!table.tryAcquire(current) && !(recover && table.recover(current))) {
+                return false;
+            }
+            if (table.isSlotOf(current, lockName)) {
+                return true;
+            }
+            // reclaimed since this locker looked the name up
+            table.release(current);
+            slot = table.slotOf(lockName);
+        }
+    }
+
+    /**
+     * frees the slot once this JVM dropped the locker, called by {@link HostLock} for released lockers only
+     */
+    boolean reclaim() {
+        return table.reclaim(slot, lockName);
+    }
+
+    @Override
+    public boolean releaseLock() {
+        if (!local.isLockedByCurrentThread()) {
+            log.trace("lock with name [{}] is not locked by current thread [{}], cannot release", lockName, Thread.currentThread().getName());
+            return false;
+        }
+        final var released = table.release(slot);
+        if (!released) {
+            log.warn("slot of lock with name [{}] was taken from this process while it was held", lockName);
+        }
+        local.releaseLock();
+        return released;
+    }
+
+    @Override
+    public boolean isLockedByCurrentThread() {
+        return local.isLockedByCurrentThread() && table.isOwnedByThisProcess(slot);
+    }
+
+    /**
+     * @return whether any process of the host holds the lock
+     */
+    @Override
+    public boolean isLocked() {
+        return table.owner(slot) != 0;
+    }
+
+    @Override
+    public String getLockName() {
+        return lockName;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.HOST;
+    }
+
+    /**
+     * @return epoch second of the last acquisition by any process of the host
+     */
+    @Override
+    public long getLockElapsedTime() {
+        return table.lockedAt(slot);
+    }
+}
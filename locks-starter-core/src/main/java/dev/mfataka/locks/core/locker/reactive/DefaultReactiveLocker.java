@@ -1,40 +1,85 @@
 package dev.mfataka.locks.core.locker.reactive;
 
+import java.time.Duration;
+
+import org.jetbrains.annotations.NotNull;
+
+import reactor.core.publisher.Mono;
+
 import lombok.extern.slf4j.Slf4j;
 
 import dev.mfataka.locks.api.ReactiveLocker;
 import dev.mfataka.locks.api.base.BaseLocker;
 import dev.mfataka.locks.api.enums.LockType;
 import dev.mfataka.locks.api.utils.LoggingUtils;
-import dev.mfataka.locks.core.factory.LockRegistry;
-import dev.mfataka.locks.core.locker.simple.SimpleJvmLocker;
 
 /**
+ * reactive local locker, subscriptions wait in the queue of its {@link SinkQueueLocker} and are completed by the
+ * release that hands them the lock
+ *
  * @author HAMMA FATAKA
  */
 @Slf4j
 public class DefaultReactiveLocker extends ReactiveLockerSupport implements ReactiveLocker {
-
-    public static final String REACTIVE_DELEGATE = "#reactive_delegate";
-    private final SimpleJvmLocker delegate;
+    private final SinkQueueLocker lock;
+    private final boolean debugEnabled;
+    private final Duration leaseTime;
 
     public static DefaultReactiveLocker of(final String lockName, final boolean debugEnabled) {
-        return new DefaultReactiveLocker(lockName, debugEnabled);
+        return new DefaultReactiveLocker(lockName, debugEnabled, new SinkQueueLocker(lockName), null);
     }
 
-    private DefaultReactiveLocker(final String lockName, final boolean debugEnabled) {
+    /**
+     * @return locker over a lock shared with other lockers, e.g. a reference counted one
+     */
+    static DefaultReactiveLocker of(final SinkQueueLocker lock, final boolean debugEnabled) {
+        return new DefaultReactiveLocker(lock.getLockName(), debugEnabled, lock, null);
+    }
+
+    private DefaultReactiveLocker(final String lockName, final boolean debugEnabled, final SinkQueueLocker lock, final Duration leaseTime) {
         super(lockName, LoggingUtils.of(log, debugEnabled));
-        this.delegate = LockRegistry.defaultJvmLock().get(lockName + REACTIVE_DELEGATE);
+        this.lock = lock;
+        this.debugEnabled = debugEnabled;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * @return locker sharing the lock of this one, whose subscriptions lease the lock
+     */
+    @Override
+    public DefaultReactiveLocker withLease(@NotNull final Duration leaseTime) {
+        if (leaseTime.isNegative() || leaseTime.isZero()) {
+            throw new IllegalArgumentException("lease time must be positive, was " + leaseTime);
+        }
+        return new DefaultReactiveLocker(lockName, debugEnabled, lock, leaseTime);
     }
 
     @Override
-    public SimpleJvmLocker getLock() {
-        return delegate;
+    protected Duration leaseTime() {
+        return leaseTime;
+    }
+
+    @Override
+    public SinkQueueLocker getLock() {
+        return lock;
     }
 
     @Override
     protected BaseLocker getBaseLock() {
-        return delegate;
+        return lock;
+    }
+
+    /**
+     * every subscription owns the lock through its own holder, so it can only release what it acquired
+     */
+    @Override
+    protected BaseLocker subscriptionLock() {
+        return lock.holder(leaseTime);
+    }
+
+    @Override
+    protected Mono<Boolean> acquire(final BaseLocker subscriptionLock, final Duration timeout) {
+        return ((SinkQueueHolder) subscriptionLock).acquire(timeout);
     }
 
 
@@ -50,6 +95,6 @@ public class DefaultReactiveLocker extends ReactiveLockerSupport implements Reac
 
     @Override
     public long getLockElapsedTime() {
-        return delegate.getLockElapsedTime();
+        return lock.getLockElapsedTime();
     }
 }
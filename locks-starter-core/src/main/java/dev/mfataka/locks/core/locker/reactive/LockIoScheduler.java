@@ -0,0 +1,134 @@
+package dev.mfataka.locks.core.locker.reactive;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.exception.LockOperationException;
+
+/**
+ * Bounded scheduler running the calls of reactive lockers whose delegate blocks, e.g. the JDBC backed distributed
+ * ones, so no subscriber thread waits for the database.
+ * <p>
+ * At most {@link #getThreads()} acquires run at once and at most {@link #getQueueSize()} more wait per thread, an
+ * acquire beyond that fails its subscription with a {@link LockOperationException} instead of queueing without bound.
+ * Releases run on threads of their own whose queue is not bounded, a rejected release would leave a held row behind
+ * until the cleaner removes it, and there are never more releases pending than locks held. Results are published on
+ * {@link Schedulers#parallel()}, so the locked function never runs on a lock-io thread and never holds one while it
+ * runs.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public final class LockIoScheduler {
+    public static final String THREAD_PREFIX = "locks-io";
+    public static final String RELEASE_THREAD_PREFIX = "locks-io-release";
+    private static final int TTL_SECONDS = 60;
+
+    private final Scheduler scheduler;
+    private final Scheduler releaseScheduler;
+    @Getter
+    private final int threads;
+    @Getter
+    private final int queueSize;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger running = new AtomicInteger();
+
+    private LockIoScheduler(final int threads, final int queueSize) {
+        this.threads = threads;
+        this.queueSize = queueSize;
+        this.scheduler = Schedulers.newBoundedElastic(threads, queueSize, THREAD_PREFIX, TTL_SECONDS, true);
+        this.releaseScheduler = Schedulers.newBoundedElastic(threads, Integer.MAX_VALUE, RELEASE_THREAD_PREFIX, TTL_SECONDS, true);
+    }
+
+    /**
+     * @throws IllegalArgumentException when threads or queue size are not positive
+     */
+    public static LockIoScheduler create(final int threads, final int queueSize) {
+        if (threads <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException("lock io scheduler needs positive threads and queue size, was " + threads + " and " + queueSize);
+        }
+        return new LockIoScheduler(threads, queueSize);
+    }
+
+    /**
+     * @param lockName lock the call works on, reported when the queue is full
+     * @param call     blocking call, run once per subscription
+     * @return mono running the call on a lock-io thread and emitting its result on a parallel thread
+     */
+    public <T> Mono<T> offload(final String lockName, final Supplier<T> call) {
+        return offload(lockName, call, scheduler);
+    }
+
+    /**
+     * same as {@link #offload(String, Supplier)} on the release threads, never rejected while the scheduler is not
+     * disposed
+     */
+    public <T> Mono<T> offloadRelease(final String lockName, final Supplier<T> call) {
+        return offload(lockName, call, releaseScheduler);
+    }
+
+    private <T> Mono<T> offload(final String lockName, final Supplier<T> call, final Scheduler target) {
+        return Mono.fromSupplier(() -> run(call))
+                .subscribeOn(target)
+                .doOnSubscribe(subscription -> submitted.increment())
+                .onErrorMap(RejectedExecutionException.class, e -> {
+                    rejected.increment();
+                    return new LockOperationException(lockName, "lock io queue of " + queueSize + " calls is full", e);
+                })
+                .publishOn(Schedulers.parallel());
+    }
+
+    private <T> T run(final Supplier<T> call) {
+        started.increment();
+        running.incrementAndGet();
+        try {
+            return call.get();
+        } finally {
+            running.decrementAndGet();
+            completed.increment();
+        }
+    }
+
+    /**
+     * @return counters since the scheduler was created, read one by one, so they may be off by the calls in flight
+     */
+    public Statistics statistics() {
+        final var rejectedCount = rejected.sum();
+        final var startedCount = started.sum();
+        final var queued = Math.max(submitted.sum() - startedCount - rejectedCount, 0);
+        return new Statistics(threads, queueSize, queued, running.get(), completed.sum(), rejectedCount);
+    }
+
+    /**
+     * lets the calls already submitted finish, new calls are rejected
+     */
+    public void dispose() {
+        Mono.when(scheduler.disposeGracefully(), releaseScheduler.disposeGracefully())
+                .doOnError(e -> log.warn("lock io scheduler did not shut down gracefully", e))
+                .onErrorComplete()
+                .subscribe();
+    }
+
+    /**
+     * @param queueSize calls that may wait per thread
+     * @param queued    calls waiting for a thread
+     * @param running   calls running on a thread
+     * @param completed calls finished, successfully or not
+     * @param rejected  acquires failed because the queue was full
+     */
+    public record Statistics(int threads, int queueSize, long queued, int running, long completed, long rejected) {
+    }
+}
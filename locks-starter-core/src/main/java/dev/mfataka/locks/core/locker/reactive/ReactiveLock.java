@@ -5,17 +5,22 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import lombok.Getter;
 
 import dev.mfataka.locks.api.Locker;
 import dev.mfataka.locks.api.ReactiveLocker;
+import dev.mfataka.locks.api.base.CleanupSlice;
 import dev.mfataka.locks.api.base.Lock;
 import dev.mfataka.locks.api.context.LockContext;
 import dev.mfataka.locks.api.enums.LockMode;
 import dev.mfataka.locks.api.enums.LockType;
 import dev.mfataka.locks.api.factory.AutoHandlerFactory;
 import dev.mfataka.locks.api.locker.JvmLocker;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.ExpiryIndex;
+import dev.mfataka.locks.core.locker.simple.LockerMap;
 
 /**
  * @author HAMMA FATAKA
@@ -23,7 +28,12 @@ import dev.mfataka.locks.api.locker.JvmLocker;
 public class ReactiveLock implements Lock<ReactiveLocker> {
     public static final String DEFAULT_LOCK_KEY = "DEFAULT_REACTIVE_LOCK";
 
-    private final Map<String, ReactiveLocker> reactiveLockers = new ConcurrentHashMap<>();
+    private final LockerMap<ReactiveLocker> reactiveLockers = new LockerMap<>();
+    private final ExpiryIndex<ReactiveLocker> expiry = new ExpiryIndex<>();
+    /**
+     * locks of the reference counted lockers, only kept while they are held or waited on
+     */
+    private final Map<String, SinkQueueLocker> countedLocks = new ConcurrentHashMap<>();
     @Getter
     private final LockContext lockContext;
 
@@ -55,12 +65,17 @@ public class ReactiveLock implements Lock<ReactiveLocker> {
         if (Objects.nonNull(lock)) {
             return lock;
         }
+        if (LockRegistry.localProperties().isReferenceCounted()) {
+            // the wrapper holds no lock state, its lock is counted and drops itself from the counted locks
+            return DefaultReactiveLocker.of(countedLocks.computeIfAbsent(name, key -> new SinkQueueLocker(key, countedLocks)), debugEnabled);
+        }
         return createDefaultLock(name, debugEnabled);
     }
 
     private ReactiveLocker createDefaultLock(final String name, final boolean debugEnabled) {
         final var reactiveLock = DefaultReactiveLocker.of(name, debugEnabled);
         reactiveLockers.put(name, reactiveLock);
+        expiry.add(reactiveLock);
         return reactiveLock;
     }
 
@@ -74,19 +89,25 @@ public class ReactiveLock implements Lock<ReactiveLocker> {
         reactiveLockers.remove(key);
     }
 
+    @Override
+    public Locker find(final String lockName) {
+        return reactiveLockers.get(lockName);
+    }
+
     public boolean exists(final String key) {
         return reactiveLockers.containsKey(key);
     }
 
     @Override
     public int clearAllLocks(final Duration maxAge) {
-        final var list = reactiveLockers.values()
-                .stream()
-                .filter(Locker.expiredPredicate(maxAge))
-                .toList();
-        list.forEach(locker -> reactiveLockers.remove(locker.getLockName()));
-        return list.size();
+        return clearExpiredLocks(maxAge, Integer.MAX_VALUE).cleared();
+    }
 
+    @Override
+    public CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        return expiry.expire(ExpiryIndex.threshold(maxAge), limit,
+                locker -> reactiveLockers.get(locker.getLockName()) == locker,
+                locker -> reactiveLockers.remove(locker.getLockName(), locker));
     }
 
     @Override
@@ -114,6 +135,19 @@ public class ReactiveLock implements Lock<ReactiveLocker> {
                 .toList();
     }
 
+    @Override
+    public Stream<Locker> lockers() {
+        return reactiveLockers.values()
+                .stream()
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return reactiveLockers.after(lockName)
+                .map(Locker.class::cast);
+    }
+
     @Override
     public LockType getLockType() {
         return LockType.LOCAL;
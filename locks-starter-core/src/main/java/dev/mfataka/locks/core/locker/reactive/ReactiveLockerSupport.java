@@ -2,9 +2,9 @@ package dev.mfataka.locks.core.locker.reactive;
 
 import java.time.Duration;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -20,7 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 
 import dev.mfataka.locks.api.base.BaseLocker;
 import dev.mfataka.locks.api.base.ReactiveBaseLocker;
+import dev.mfataka.locks.api.context.ReactiveLockContext;
 import dev.mfataka.locks.api.utils.LoggingUtils;
+import dev.mfataka.locks.core.factory.LockRegistry;
 
 /**
  * @author HAMMA FATAKA
@@ -33,65 +35,76 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
 
     @Override
     public <T> Mono<T> tryLock(@NotNull Function<Boolean, T> function) {
-        return runFunctionWithMono(null, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithMono(null, function));
     }
 
     @Override
     public <T> Mono<T> obtainLock(@NotNull Duration duration, @NotNull Function<Boolean, T> function) {
-        return runFunctionWithMono(duration, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithMono(duration, function));
     }
 
     @Override
     public <T> Flux<T> tryLockMany(@NotNull Function<Boolean, T> function) {
-        return runFunctionWithFlux(null, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithFlux(null, function));
     }
 
     @Override
     public <T> Flux<T> obtainLockMany(@NotNull Duration duration, @NotNull Function<Boolean, T> function) {
-        return runFunctionWithFlux(duration, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithFlux(duration, function));
     }
 
     @Override
     public <T> Mono<T> tryLockMono(@NotNull Function<Boolean, Mono<T>> function) {
-        return this.runFunctionWithMonoMapped(null, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithMonoMapped(null, function));
     }
 
     @Override
     public <T> Flux<T> tryLockManyFlux(@NotNull Function<Boolean, Flux<T>> function) {
-        return this.runFunctionWithFluxMapped(null, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithFluxMapped(null, function));
     }
 
     @Override
     public <T> Mono<T> obtainLockMono(@NotNull Duration duration, @NotNull Function<Boolean, Mono<T>> function) {
-        return this.runFunctionWithMonoMapped(duration, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithMonoMapped(duration, function));
     }
 
     @Override
     public <T> Flux<T> obtainLockManyFlux(@NotNull Duration duration, @NotNull Function<Boolean, Flux<T>> function) {
-        return this.runFunctionWithFluxMapped(duration, function)
-                .contextWrite(this::onContextWrite);
+        return withLockContext(runFunctionWithFluxMapped(duration, function));
     }
 
 
-    private Context onContextWrite(Context context) {
-        return context.put("REACTIVE_LOCK_CONTEXT_ID", "REACTIVE_LOCK_CONTEXT:" + UUID.randomUUID());
+    /**
+     * writes the {@link ReactiveLockContext} of the subscription when it is turned on, see
+     * {@link dev.mfataka.locks.core.config.LocksCorePropertyConfig.ReactiveProperties#isContext()}
+     */
+    private <T> Mono<T> withLockContext(final Mono<T> locked) {
+        return LockRegistry.reactiveProperties().isContext() ? locked.contextWrite(this::onContextWrite) : locked;
+    }
+
+    private <T> Flux<T> withLockContext(final Flux<T> locked) {
+        return LockRegistry.reactiveProperties().isContext() ? locked.contextWrite(this::onContextWrite) : locked;
+    }
+
+    private Context onContextWrite(final Context context) {
+        return ReactiveLockContext.write(context, lockName);
     }
 
 
     protected abstract BaseLocker getBaseLock();
 
+    /**
+     * @return lease of every acquisition made by a subscription, null when the lock is held until it terminates
+     */
+    protected Duration leaseTime() {
+        return null;
+    }
+
     protected <T> Flux<T> runFunctionWithFlux(@Nullable Duration duration, Function<Boolean, T> function) {
         if (Objects.isNull(duration) || duration.isNegative()) {
             return Flux.usingWhen(
-                    Mono.fromSupplier(this::getBaseLock),
-                    baseLock -> onResourceFunction(null, baseLock)
+                    onSupplier(),
+                    acquisition -> onResourceFunction(null, acquisition)
                             .map(function),
                     onAsyncComplete(),
                     onAsyncError(),
@@ -100,7 +113,7 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
         }
         return Flux.usingWhen(
                 onSupplier(),
-                baseLock -> onResourceFunction(duration, baseLock)
+                acquisition -> onResourceFunction(duration, acquisition)
                         .map(function),
                 onAsyncComplete(),
                 onAsyncError(),
@@ -113,7 +126,7 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
         if (Objects.isNull(duration) || duration.isNegative()) {
             return Flux.usingWhen(
                     onSupplier(),
-                    baseLock -> onResourceFunction(null, baseLock)
+                    acquisition -> onResourceFunction(null, acquisition)
                             .flatMapMany(function),
                     onAsyncComplete(),
                     onAsyncError(),
@@ -122,7 +135,7 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
         }
         return Flux.usingWhen(
                 onSupplier(),
-                baseLock -> onResourceFunction(duration, baseLock)
+                acquisition -> onResourceFunction(duration, acquisition)
                         .flatMapMany(function),
                 onAsyncComplete(),
                 onAsyncError(),
@@ -131,32 +144,47 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
     }
 
     @NotNull
-    private <T> Mono<Boolean> onResourceFunction(final Duration duration, final BaseLocker baseLock) {
-        if (Objects.nonNull(duration) && !duration.isNegative()) {
-            return obtain(baseLock)
-                    .filter(result -> result)
-                    .repeatWhenEmpty(Repeat.<T>onlyIf(repeatContext -> true)
-                            .timeout(duration)
-                            .fixedBackoff(Duration.ofMillis(100))
-                            .doOnRepeat(objectRepeatContext -> loggingUtils.debugIfEnabled(LoggingUtils.repeatDebugMessageLog, objectRepeatContext))
-                    )
-                    .defaultIfEmpty(false)
-                    .doOnNext(result -> loggingUtils.debugIfEnabled(LoggingUtils.durationDebugMessageLog, lockName, duration));
-        }
-        return obtain(baseLock)
-                .filter(result -> result)
+    private Mono<Boolean> onResourceFunction(final Duration duration, final Acquisition acquisition) {
+        final var timeout = Objects.nonNull(duration) && !duration.isNegative() ? duration : null;
+        return acquire(acquisition.lock, timeout)
                 .defaultIfEmpty(false)
-                .doOnNext(lockResult -> {
-                    loggingUtils.debugIfEnabled(LoggingUtils.graceFullLockMessage, lockName);
-                    log.info(LoggingUtils.lockMessageLog, lockResult);
+                .doOnNext(locked -> {
+                    acquisition.locked(locked);
+                    if (Objects.nonNull(timeout)) {
+                        loggingUtils.debugIfEnabled(LoggingUtils.durationDebugMessageLog, lockName, timeout);
+                    } else {
+                        loggingUtils.debugIfEnabled(LoggingUtils.graceFullLockMessage, lockName);
+                    }
+                    log.trace(LoggingUtils.lockMessageLog, locked);
                 });
     }
 
+    /**
+     * takes the lock of one subscription, the default polls {@link #tryAcquire(BaseLocker)} until the timeout runs
+     * out, lockers that can wait for a release without polling override this
+     *
+     * @param lock    lock of the subscription, see {@link #subscriptionLock()}
+     * @param timeout time to wait for the lock, null to try once
+     * @return mono emitting whether the lock was taken
+     */
+    protected Mono<Boolean> acquire(final BaseLocker lock, final Duration timeout) {
+        if (Objects.isNull(timeout)) {
+            return tryAcquire(lock);
+        }
+        return tryAcquire(lock)
+                .filter(result -> result)
+                .repeatWhenEmpty(Repeat.onlyIf(repeatContext -> true)
+                        .timeout(timeout)
+                        .fixedBackoff(Duration.ofMillis(100))
+                        .doOnRepeat(objectRepeatContext -> loggingUtils.debugIfEnabled(LoggingUtils.repeatDebugMessageLog, objectRepeatContext))
+                );
+    }
+
     protected <T> Mono<T> runFunctionWithMono(@Nullable Duration duration, Function<Boolean, T> function) {
         if (Objects.isNull(duration) || duration.isNegative()) {
             return Mono.usingWhen(
                     onSupplier(),
-                    baseLock -> onResourceFunction(null, baseLock)
+                    acquisition -> onResourceFunction(null, acquisition)
                             .map(function),
                     onAsyncComplete(),
                     onAsyncError(),
@@ -165,7 +193,7 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
         }
         return Mono.usingWhen(
                 onSupplier(),
-                baseLock -> onResourceFunction(duration, baseLock)
+                acquisition -> onResourceFunction(duration, acquisition)
                         .map(function),
                 onAsyncComplete(),
                 onAsyncError(),
@@ -178,7 +206,7 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
         if (Objects.isNull(duration) || duration.isNegative()) {
             return Mono.usingWhen(
                     onSupplier(),
-                    baseLock -> onResourceFunction(null, baseLock)
+                    acquisition -> onResourceFunction(null, acquisition)
                             .flatMap(function),
                     onAsyncComplete(),
                     onAsyncError(),
@@ -187,7 +215,7 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
         }
         return Mono.usingWhen(
                 onSupplier(),
-                baseLock -> onResourceFunction(duration, baseLock)
+                acquisition -> onResourceFunction(duration, acquisition)
                         .flatMap(function),
                 onAsyncComplete(),
                 onAsyncError(),
@@ -195,14 +223,25 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
         );
     }
 
+    /**
+     * the entry of the lock context, if any, was written for this subscription by {@link #withLockContext}
+     */
     @NotNull
-    private Mono<BaseLocker> onSupplier() {
-        return Mono.just(this.getBaseLock());
+    private Mono<Acquisition> onSupplier() {
+        return Mono.deferContextual(context -> Mono.just(new Acquisition(subscriptionLock(), context.getOrDefault(ReactiveLockContext.KEY, null))));
+    }
+
+    /**
+     * a leased lock gets a view per subscription, so a subscription only releases the acquisition it made itself
+     */
+    protected BaseLocker subscriptionLock() {
+        final var leaseTime = leaseTime();
+        return Objects.isNull(leaseTime) ? getBaseLock() : getBaseLock().withLease(leaseTime);
     }
 
     @NotNull
-    private Function<BaseLocker, Publisher<?>> onAsyncComplete() {
-        return baseLock -> release(baseLock)
+    private Function<Acquisition, Publisher<?>> onAsyncComplete() {
+        return acquisition -> release(acquisition)
                 .doOnNext(releaseResult -> {
                     loggingUtils.debugIfEnabled(LoggingUtils.releaseDebugMessageLog, lockName, releaseResult);
                     log.trace(LoggingUtils.releaseInfoMessageLog, releaseResult);
@@ -210,8 +249,8 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
     }
 
     @NotNull
-    private BiFunction<BaseLocker, Throwable, Publisher<?>> onAsyncError() {
-        return (baseLock, err) -> release(baseLock)
+    private BiFunction<Acquisition, Throwable, Publisher<?>> onAsyncError() {
+        return (acquisition, err) -> release(acquisition)
                 .doOnNext(releaseResult -> {
                     loggingUtils.debugIfEnabled(LoggingUtils.errorDebugMessageLog, lockName, err.getMessage(), err);
                     log.info(LoggingUtils.errorInfoMessageLog, releaseResult);
@@ -219,21 +258,80 @@ public abstract class ReactiveLockerSupport implements ReactiveBaseLocker {
     }
 
     @NotNull
-    private Function<BaseLocker, Publisher<?>> onAsyncCancel() {
-        return baseLock -> release(baseLock)
+    private Function<Acquisition, Publisher<?>> onAsyncCancel() {
+        return acquisition -> release(acquisition)
                 .doOnNext(releaseResult -> {
                     loggingUtils.debugIfEnabled(LoggingUtils.asyncDebugLog, lockName);
                     log.info(LoggingUtils.asyncCancelReleaseLog, releaseResult);
                 });
     }
 
-    private Mono<Boolean> obtain(final BaseLocker baseLock) {
-        return Mono.fromSupplier(baseLock::tryLock);
+    /**
+     * one attempt to take the lock of a subscription, the default calls the blocking {@link BaseLocker#tryLock()},
+     * on the {@link LockIoScheduler} for distributed delegates, lockers backed by a non-blocking store override this
+     */
+    protected Mono<Boolean> tryAcquire(final BaseLocker lock) {
+        return blocking(lock, lock::tryLock);
+    }
+
+    /**
+     * releases the lock of a subscription that got it, the default calls the blocking {@link BaseLocker#releaseLock()}
+     * the same way as {@link #tryAcquire(BaseLocker)}, on the release threads, so a full acquire queue never keeps a
+     * held lock from being released
+     */
+    protected Mono<Boolean> releaseLock(final BaseLocker lock) {
+        if (lock.getLockType().isDistributed()) {
+            return LockRegistry.lockIoScheduler().offloadRelease(lockName, lock::releaseLock);
+        }
+        return Mono.fromSupplier(lock::releaseLock);
+    }
+
+    /**
+     * local delegates only wait for memory, a distributed one waits for its store, so it never runs on the subscriber
+     */
+    private Mono<Boolean> blocking(final BaseLocker lock, final Supplier<Boolean> call) {
+        if (lock.getLockType().isDistributed()) {
+            return LockRegistry.lockIoScheduler().offload(lockName, call);
+        }
+        return Mono.fromSupplier(call);
+    }
 
+    /**
+     * a subscription that did not get the lock must not release it, the lock may belong to another subscription
+     */
+    private Mono<Boolean> release(final Acquisition acquisition) {
+        return Mono.defer(() -> acquisition.release() ? releaseLock(acquisition.lock) : Mono.just(false));
     }
 
-    private Mono<Boolean> release(final BaseLocker baseLock) {
-        return Mono.fromSupplier(baseLock::releaseLock);
+    /**
+     * lock of one subscription, whether the subscription got it and its entry of the lock context
+     */
+    @RequiredArgsConstructor
+    private static final class Acquisition {
+        private final BaseLocker lock;
+        private final ReactiveLockContext context;
+        private volatile boolean locked;
+
+        private void locked(final boolean locked) {
+            this.locked = locked;
+            if (locked && Objects.nonNull(context)) {
+                context.locked();
+            }
+        }
+
+        /**
+         * @return whether the subscription got the lock and still has to release it
+         */
+        private boolean release() {
+            if (!locked) {
+                return false;
+            }
+            locked = false;
+            if (Objects.nonNull(context)) {
+                context.released();
+            }
+            return true;
+        }
     }
 
 }
@@ -0,0 +1,157 @@
+package dev.mfataka.locks.core.locker.reactive;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Operators serializing the elements of a {@link Flux} by key without taking a {@link dev.mfataka.locks.api.ReactiveLocker}
+ * per element.
+ *
+ * @author HAMMA FATAKA
+ */
+public final class ReactiveLocks {
+    public static final int DEFAULT_CONCURRENCY = Queues.SMALL_BUFFER_SIZE;
+
+    private ReactiveLocks() {
+    }
+
+    /**
+     * see {@link #serializeBy(Function, Function, int)}, with {@link #DEFAULT_CONCURRENCY} elements in flight
+     */
+    public static <T, K, R> Function<Flux<T>, Flux<R>> serializeBy(final Function<? super T, ? extends K> key, final Function<? super T, ? extends Publisher<R>> work) {
+        return serializeBy(key, work, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Runs the work of elements with different keys concurrently and the work of elements with the same key one after
+     * another, in the order of the source, e.g. {@code events.transform(ReactiveLocks.serializeBy(Event::accountId, this::apply))}.
+     * <p>
+     * Every key in flight has a queue of the elements waiting for it, an element starts when the work of the element
+     * before it completes, errors or is cancelled, and a key is forgotten when its last element finishes. At most
+     * {@code concurrency} elements are in flight, running or waiting for their key, so a burst on one key holds back
+     * the elements of other keys once it fills them, as with any bounded buffer. Results of one key keep their order,
+     * results of different keys interleave. Serialization holds within one subscription, not across subscriptions or
+     * JVMs, use a {@link dev.mfataka.locks.api.ReactiveDistributedLocker} for that.
+     * </p>
+     *
+     * @param key         key of an element, must not be null
+     * @param work        work of an element, subscribed once its key is free
+     * @param concurrency maximum number of elements in flight
+     * @return operator for {@link Flux#transform(Function)}
+     */
+    public static <T, K, R> Function<Flux<T>, Flux<R>> serializeBy(final Function<? super T, ? extends K> key, final Function<? super T, ? extends Publisher<R>> work, final int concurrency) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(work, "work");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive, was " + concurrency);
+        }
+        return source -> Flux.defer(() -> {
+            final var lanes = new KeyLanes<K>();
+            return source.flatMap(element -> lanes.enqueue(Objects.requireNonNull(key.apply(element), "serialization key"), Flux.defer(() -> work.apply(element))), concurrency);
+        });
+    }
+
+    /**
+     * lane of every key in flight, an element subscribes its work once the lane grants it its turn sink, so no element
+     * polls or takes a lock while it waits
+     */
+    private static final class KeyLanes<K> {
+        private final Map<K, Lane> lanes = new ConcurrentHashMap<>();
+
+        /**
+         * called from onNext of the source, so elements of a key join its lane in source order
+         */
+        <R> Flux<R> enqueue(final K key, final Flux<R> work) {
+            final var turn = Sinks.<Void>empty();
+            Lane lane;
+            do {
+                lane = lanes.computeIfAbsent(key, Lane::new);
+            } while (!lane.join(turn));
+            final var joined = lane;
+            return turn.asMono()
+                    .thenMany(work)
+                    .doFinally(signal -> joined.leave(turn));
+        }
+
+        /**
+         * elements of one key, the one whose turn it is and the ones waiting behind it. turns are granted through a
+         * drain loop, work that completes while its turn is granted hands the next turn to the loop instead of granting
+         * it further down the stack, so a long run of synchronous work behind an async element does not overflow it
+         */
+        private final class Lane {
+            private final K key;
+            private final Deque<Sinks.Empty<Void>> waiting = new ArrayDeque<>();
+            private final Queue<Sinks.Empty<Void>> granted = new ConcurrentLinkedQueue<>();
+            private final AtomicInteger granting = new AtomicInteger();
+            private Sinks.Empty<Void> current;
+            private boolean closed;
+
+            private Lane(final K key) {
+                this.key = key;
+            }
+
+            /**
+             * @return false when the lane was closed meanwhile, the element joins the next lane of the key
+             */
+            boolean join(final Sinks.Empty<Void> turn) {
+                synchronized (this) {
+                    if (closed) {
+                        return false;
+                    }
+                    if (Objects.nonNull(current)) {
+                        waiting.add(turn);
+                        return true;
+                    }
+                    current = turn;
+                }
+                grant(turn);
+                return true;
+            }
+
+            /**
+             * called once the element finished, errored or was cancelled, an element cancelled before its turn just
+             * leaves the queue
+             */
+            void leave(final Sinks.Empty<Void> turn) {
+                final Sinks.Empty<Void> next;
+                synchronized (this) {
+                    if (turn != current) {
+                        waiting.remove(turn);
+                        return;
+                    }
+                    next = waiting.poll();
+                    current = next;
+                    if (Objects.isNull(next)) {
+                        closed = true;
+                        lanes.remove(key, this);
+                        return;
+                    }
+                }
+                grant(next);
+            }
+
+            private void grant(final Sinks.Empty<Void> turn) {
+                granted.offer(turn);
+                if (granting.getAndIncrement() != 0) {
+                    return;
+                }
+                do {
+                    granted.poll().tryEmitEmpty();
+                } while (granting.decrementAndGet() != 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.mfataka.locks.core.locker.reactive;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * owner of one subscription to a {@link SinkQueueLocker}, or a leased view of it, see
+ * {@link BaseLocker#withLease(Duration)}.
+ * <p>
+ * The holder itself is the owner of the lock, so it only releases the acquisition it made and a release of a
+ * subscription that never got the lock cannot free it for somebody else. With a lease the acquisition is released by
+ * a timer once the lease runs out, a release after that returns false. Holders are cheap and meant to be created per
+ * use, one holder must not be shared by concurrent holders.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+final class SinkQueueHolder implements BaseLocker {
+    private final Duration leaseTime;
+    private SinkQueueLocker locker;
+    private volatile Disposable lease;
+
+    SinkQueueHolder(final SinkQueueLocker locker, final Duration leaseTime) {
+        this.locker = locker;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * @param timeout time to wait for the lock, null or not positive to try once
+     * @return mono emitting whether the lock was taken, waiting subscriptions are queued instead of polling
+     */
+    Mono<Boolean> acquire(final Duration timeout) {
+        return Mono.defer(() -> {
+                    final var live = locker.retained();
+                    locker = live;
+                    return live.acquireRetained(this, timeout);
+                })
+                .doOnNext(locked -> {
+                    if (locked) {
+                        lease();
+                    }
+                });
+    }
+
+    @Override
+    public boolean tryLock() {
+        final var live = locker.retained();
+        locker = live;
+        if (!live.tryAcquire(this)) {
+            live.unretain();
+            return false;
+        }
+        lease();
+        return true;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        final var live = locker.retained();
+        locker = live;
+        if (!live.await(live.acquireRetained(this, timeout), this)) {
+            return false;
+        }
+        lease();
+        return true;
+    }
+
+    private void lease() {
+        if (leaseTime != null) {
+            lease = Schedulers.parallel().schedule(this::expire, leaseTime.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void expire() {
+        if (locker.release(this)) {
+            log.warn("lease of lock with name [{}] expired, released it on behalf of its holder", locker.getLockName());
+        }
+    }
+
+    /**
+     * @return false when the holder does not hold the lock, because it never got it or its lease expired
+     */
+    @Override
+    public boolean releaseLock() {
+        final var held = lease;
+        if (held != null) {
+            lease = null;
+            held.dispose();
+        }
+        return locker.release(this);
+    }
+
+    @Override
+    public CompletableFuture<Void> whenReleased() {
+        return locker.whenReleased();
+    }
+
+    /**
+     * @return whether this holder holds the lock, whichever thread asks
+     */
+    @Override
+    public boolean isLockedByCurrentThread() {
+        return locker.isOwnedBy(this);
+    }
+
+    @Override
+    public boolean isLocked() {
+        return locker.isLocked();
+    }
+
+    @Override
+    public String getLockName() {
+        return locker.getLockName();
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return locker.getLockMode();
+    }
+
+    @Override
+    public LockType getLockType() {
+        return locker.getLockType();
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        return locker.getLockElapsedTime();
+    }
+}
@@ -0,0 +1,487 @@
+package dev.mfataka.locks.core.locker.reactive;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.api.factory.AutoHandlerFactory;
+import dev.mfataka.locks.api.locker.JvmLocker;
+
+/**
+ * Lock engine of {@link DefaultReactiveLocker}, waits without polling and without holding a thread.
+ * <p>
+ * {@code owner} holds whoever owns the lock: a {@link SinkQueueHolder} for a subscription or a leased view, the thread
+ * for acquisitions through the blocking {@link JvmLocker} methods, {@code null} when the lock is free. A subscription
+ * that cannot take the lock queues its {@link MonoSink}, the release hands the lock straight to the oldest queued sink
+ * and completes it on the releasing thread, so the lock is never free between two holders and waiters are served in
+ * FIFO order. A waiter leaves the queue when its timeout runs out or its subscription is cancelled, a grant that loses
+ * the race against a cancellation is released again by whichever side comes second.
+ * </p>
+ * <p>
+ * Hand-offs are drained by one thread at a time. A subscriber that releases the lock right inside the completion of its
+ * sink, as a synchronous critical section does, only leaves a hand-off request for the draining thread, so a long queue
+ * is served in a loop instead of a recursion as deep as the queue.
+ * </p>
+ * <p>
+ * Lockers created with a table count their holders and waiters in {@code refs} and leave the table when the count
+ * drops to zero, the same way as the reference counted simple lockers.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class SinkQueueLocker implements JvmLocker {
+    /**
+     * owner while a release looks for the next holder, nobody else can take the lock meanwhile
+     */
+    private static final Object HANDOFF = new Object();
+    private static final int RETIRED = -1;
+
+    private static final VarHandle OWNER;
+    private static final VarHandle LOCKED_AT;
+    private static final VarHandle REFS;
+    private static final VarHandle RELEASE_FUTURES;
+    private static final VarHandle DRAINING;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            OWNER = lookup.findVarHandle(SinkQueueLocker.class, "owner", Object.class);
+            LOCKED_AT = lookup.findVarHandle(SinkQueueLocker.class, "lockedAt", long.class);
+            REFS = lookup.findVarHandle(SinkQueueLocker.class, "refs", int.class);
+            RELEASE_FUTURES = lookup.findVarHandle(SinkQueueLocker.class, "releaseFutures", Queue.class);
+            DRAINING = lookup.findVarHandle(SinkQueueLocker.class, "draining", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String lockName;
+    private final Map<String, SinkQueueLocker> table;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    @SuppressWarnings("unused")
+    private volatile Object owner;
+    @SuppressWarnings("unused")
+    private volatile long lockedAt;
+    @SuppressWarnings("unused")
+    private volatile int refs;
+    @SuppressWarnings("unused")
+    private volatile Queue<CompletableFuture<Void>> releaseFutures;
+    /**
+     * number of hand-off requests not yet seen by the thread draining them, non zero while one thread hands off
+     */
+    @SuppressWarnings("unused")
+    private volatile int draining;
+
+    SinkQueueLocker(final String lockName) {
+        this(lockName, null);
+    }
+
+    /**
+     * @param table registry the locker drops itself from once nobody holds or waits on it, null to stay registered
+     */
+    SinkQueueLocker(final String lockName, final Map<String, SinkQueueLocker> table) {
+        this.lockName = lockName;
+        this.table = table;
+    }
+
+    /**
+     * @param leaseTime lease of every acquisition of the holder, null for none
+     * @return owner of one subscription, it only ever releases the acquisition it made itself
+     */
+    SinkQueueHolder holder(final Duration leaseTime) {
+        return new SinkQueueHolder(this, leaseTime);
+    }
+
+    @Override
+    public boolean tryLock() {
+        final var live = retained();
+        if (live.tryAcquire(Thread.currentThread())) {
+            return true;
+        }
+        live.unretain();
+        return false;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        final var current = Thread.currentThread();
+        final var live = retained();
+        return live.await(live.acquireRetained(current, timeout), current);
+    }
+
+    /**
+     * releases an acquisition made through the blocking methods by any thread, acquisitions of subscriptions and leased
+     * views are only released by them
+     */
+    @Override
+    public boolean releaseLock() {
+        final var live = live();
+        final var current = (Object) OWNER.getVolatile(live);
+        if (current == null) {
+            return true;
+        }
+        return current instanceof Thread && live.release(current);
+    }
+
+    /**
+     * @param leaseTime positive time after which the lock is freed unless it was released before
+     * @return view of this locker whose acquisitions are leased, to be used by one holder at a time
+     */
+    @Override
+    public BaseLocker withLease(final Duration leaseTime) {
+        if (leaseTime.isNegative() || leaseTime.isZero()) {
+            throw new IllegalArgumentException("lease time must be positive, was " + leaseTime);
+        }
+        return holder(leaseTime);
+    }
+
+    /**
+     * @return future completed on the thread that next releases the lock, already completed when the lock is free
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Void> whenReleased() {
+        final var live = live();
+        if (!live.isLocked()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final var released = new CompletableFuture<Void>();
+        var futures = (Queue<CompletableFuture<Void>>) RELEASE_FUTURES.getAcquire(live);
+        if (futures == null) {
+            final var created = new ConcurrentLinkedQueue<CompletableFuture<Void>>();
+            final var witness = (Queue<CompletableFuture<Void>>) RELEASE_FUTURES.compareAndExchange(live, null, created);
+            futures = witness == null ? created : witness;
+        }
+        futures.add(released);
+        if (!live.isLocked()) {
+            // the release may have checked for futures before this one was added
+            live.notifyReleased();
+        }
+        return released;
+    }
+
+    @Override
+    public boolean isLockedByCurrentThread() {
+        return live().owner == Thread.currentThread();
+    }
+
+    @Override
+    public boolean isLocked() {
+        return live().owner != null;
+    }
+
+    /**
+     * @return whether subscriptions wait for this lock, a snapshot only
+     */
+    public boolean hasQueuedSubscribers() {
+        return !live().waiters.isEmpty();
+    }
+
+    @Override
+    public String getLockName() {
+        return lockName;
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        return (long) LOCKED_AT.getAcquire(live());
+    }
+
+    boolean isOwnedBy(final Object candidate) {
+        return owner == candidate;
+    }
+
+    boolean tryAcquire(final Object candidate) {
+        if (!OWNER.compareAndSet(this, null, candidate)) {
+            return false;
+        }
+        LOCKED_AT.setRelease(this, LockClock.current().epochSecond());
+        return true;
+    }
+
+    /**
+     * takes the lock for an owner this locker is retained for, the retain passes to the lock or is given back when it
+     * is not taken
+     *
+     * @param timeout time to wait in the queue, null or not positive to try once
+     * @return mono emitting whether the lock was taken
+     */
+    Mono<Boolean> acquireRetained(final Object candidate, final Duration timeout) {
+        return Mono.create(sink -> {
+            if (tryAcquire(candidate)) {
+                sink.success(true);
+                return;
+            }
+            if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+                unretain();
+                sink.success(false);
+                return;
+            }
+            final var waiter = new Waiter(candidate, sink);
+            sink.onDispose(Schedulers.parallel().schedule(() -> timeOut(waiter), timeout.toNanos(), TimeUnit.NANOSECONDS));
+            sink.onCancel(() -> abandon(waiter));
+            waiters.add(waiter);
+            if (OWNER.compareAndSet(this, null, HANDOFF)) {
+                // released before the waiter was queued, nobody else would hand the lock over
+                drain();
+            }
+        });
+    }
+
+    /**
+     * releases the acquisition of the owner and hands the lock to the next waiter
+     *
+     * @return false when the owner does not hold the lock
+     */
+    boolean release(final Object current) {
+        if (!OWNER.compareAndSet(this, current, HANDOFF)) {
+            return false;
+        }
+        drain();
+        notifyReleased();
+        unretain();
+        log.debug("lock with name [{}] is released", lockName);
+        return true;
+    }
+
+    /**
+     * hands the lock over as long as it is marked {@code HANDOFF}, a thread that finds another one draining leaves the
+     * request to it
+     */
+    private void drain() {
+        if ((int) DRAINING.getAndAdd(this, 1) != 0) {
+            return;
+        }
+        var missed = 1;
+        do {
+            while (owner == HANDOFF) {
+                handOff();
+            }
+            missed = (int) DRAINING.getAndAdd(this, -missed) - missed;
+        } while (missed != 0);
+    }
+
+    private void handOff() {
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            if (waiter.grant()) {
+                LOCKED_AT.setRelease(this, LockClock.current().epochSecond());
+                OWNER.setVolatile(this, waiter.owner);
+                waiter.sink.success(true);
+                if (!waiter.deliver()) {
+                    // the subscription was cancelled while the lock was handed to it
+                    release(waiter.owner);
+                }
+                return;
+            }
+        }
+        OWNER.setVolatile(this, null);
+        if (!waiters.isEmpty()) {
+            // a waiter queued after the poll saw the lock held and relies on the drain
+            OWNER.compareAndSet(this, null, HANDOFF);
+        } else if (table != null && (int) REFS.getVolatile(this) == 0) {
+            // the last holder or waiter left while the lock was marked HANDOFF and could not retire the locker then
+            evict();
+        }
+    }
+
+    private void timeOut(final Waiter waiter) {
+        if (waiter.cancel()) {
+            waiters.remove(waiter);
+            unretain();
+            waiter.sink.success(false);
+        }
+    }
+
+    /**
+     * called when the subscription is cancelled before it got a value, a waiter granted meanwhile gives the lock back
+     */
+    private void abandon(final Waiter waiter) {
+        if (waiter.cancel()) {
+            waiters.remove(waiter);
+            unretain();
+            return;
+        }
+        if (!waiter.abandon() && waiter.isDelivered()) {
+            // granted and delivered to a sink that was already cancelled
+            release(waiter.owner);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void notifyReleased() {
+        final var futures = (Queue<CompletableFuture<Void>>) RELEASE_FUTURES.getAcquire(this);
+        if (futures == null || futures.isEmpty()) {
+            return;
+        }
+        CompletableFuture<Void> released;
+        while ((released = futures.poll()) != null) {
+            released.complete(null);
+        }
+    }
+
+    /**
+     * waits for an acquisition of the blocking methods, an interrupted wait gives the lock back if it got it meanwhile
+     */
+    boolean await(final Mono<Boolean> acquisition, final Object candidate) throws InterruptedException {
+        final var future = new CompletableFuture<Boolean>();
+        final var subscription = acquisition.subscribe(future::complete, future::completeExceptionally);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            subscription.dispose();
+            release(candidate);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("cannot obtain lock with name [" + lockName + "]", e.getCause());
+        }
+    }
+
+    /**
+     * @return this locker or the one registered under its name, retained for one holder or waiter
+     */
+    SinkQueueLocker retained() {
+        var locker = this;
+        while (!locker.retain()) {
+            locker = locker.revive();
+        }
+        return locker;
+    }
+
+    private boolean retain() {
+        if (table == null) {
+            return true;
+        }
+        var current = (int) REFS.getVolatile(this);
+        while (current != RETIRED) {
+            final var witness = (int) REFS.compareAndExchange(this, current, current + 1);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    void unretain() {
+        if (table != null && (int) REFS.getAndAdd(this, -1) == 1) {
+            evict();
+        }
+    }
+
+    /**
+     * drops the locker once the last holder or waiter left, unless somebody retained it in the meantime. a locker still
+     * marked {@code HANDOFF} is not retired here, the hand-off runs this check again once it freed the lock
+     */
+    private void evict() {
+        final var remaining = table.computeIfPresent(lockName, (key, registered) -> registered == this && retire() ? null : registered);
+        if (remaining != this) {
+            AutoHandlerFactory.removeHandler(this);
+        }
+    }
+
+    private boolean retire() {
+        return owner == null && REFS.compareAndSet(this, 0, RETIRED);
+    }
+
+    /**
+     * registers a dropped locker again, or returns the locker that took over its name while it was not registered
+     */
+    private SinkQueueLocker revive() {
+        return table.compute(lockName, (key, registered) -> {
+            if (registered != null) {
+                return registered;
+            }
+            REFS.setVolatile(this, 0);
+            return this;
+        });
+    }
+
+    /**
+     * @return locker registered under this name, differs from this locker only after it was dropped from its table
+     */
+    private SinkQueueLocker live() {
+        if (table == null || (int) REFS.getVolatile(this) != RETIRED) {
+            return this;
+        }
+        final var registered = table.get(lockName);
+        return registered == null ? this : registered;
+    }
+
+    /**
+     * queued acquisition, the first of a grant, a timeout and a cancellation to move {@code status} away from
+     * {@code WAITING} decides its outcome
+     */
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int DELIVERED = 2;
+        private static final int CANCELLED = 3;
+        private static final int ABANDONED = 4;
+
+        private static final VarHandle STATUS;
+
+        static {
+            try {
+                STATUS = MethodHandles.lookup().findVarHandle(Waiter.class, "status", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Object owner;
+        private final MonoSink<Boolean> sink;
+        @SuppressWarnings("unused")
+        private volatile int status;
+
+        private Waiter(final Object owner, final MonoSink<Boolean> sink) {
+            this.owner = owner;
+            this.sink = sink;
+        }
+
+        private boolean grant() {
+            return STATUS.compareAndSet(this, WAITING, GRANTED);
+        }
+
+        private boolean cancel() {
+            return STATUS.compareAndSet(this, WAITING, CANCELLED);
+        }
+
+        /**
+         * @return false when the subscription was cancelled after the grant, the granting release frees the lock then
+         */
+        private boolean deliver() {
+            return STATUS.compareAndSet(this, GRANTED, DELIVERED);
+        }
+
+        /**
+         * @return false when the grant was already delivered, the cancellation frees the lock then
+         */
+        private boolean abandon() {
+            return STATUS.compareAndSet(this, GRANTED, ABANDONED);
+        }
+
+        private boolean isDelivered() {
+            return (int) STATUS.getVolatile(this) == DELIVERED;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package dev.mfataka.locks.core.locker.reactive.distributed;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +45,11 @@ public class DefaultReactiveDistributedLock implements ReactiveDistributedLock {
         delegate.remove(lockName);
     }
 
+    @Override
+    public Locker find(final String lockName) {
+        return delegate.find(lockName);
+    }
+
     @Override
     public boolean exists(final String lockName) {
         return delegate.exists(lockName);
@@ -69,6 +75,16 @@ public class DefaultReactiveDistributedLock implements ReactiveDistributedLock {
         return delegate.getLockers();
     }
 
+    @Override
+    public Stream<Locker> lockers() {
+        return delegate.lockers();
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return delegate.lockersAfter(lockName);
+    }
+
     @Override
     public LockType getLockType() {
         return LockType.DISTRIBUTED;
@@ -0,0 +1,99 @@
+package dev.mfataka.locks.core.locker.reactive.distributed;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+import dev.mfataka.locks.api.DistributedLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.api.service.R2dbcService;
+
+/**
+ * row of the lock table owned by one subscription of a {@link R2dbcReactiveDistributedLocker}.
+ * <p>
+ * {@link #acquire()} and {@link #release()} are what the reactive locker uses, they never block. The blocking
+ * {@link DistributedLocker} methods wait for the same statements and must not be called on an event loop.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public class R2dbcLocker implements DistributedLocker {
+    private final String lockName;
+    private final String ownerId;
+    private final R2dbcService r2dbcService;
+
+    R2dbcLocker(final String lockName, final String ownerId, final R2dbcService r2dbcService) {
+        this.lockName = lockName;
+        this.ownerId = ownerId;
+        this.r2dbcService = r2dbcService;
+    }
+
+    /**
+     * @return mono emitting whether the row of the lock was inserted for this owner
+     */
+    public Mono<Boolean> acquire() {
+        return r2dbcService.insertLock(lockName, ownerId);
+    }
+
+    /**
+     * @return mono emitting whether this owner held the lock
+     */
+    public Mono<Boolean> release() {
+        return r2dbcService.deleteLock(lockName, ownerId);
+    }
+
+    @Override
+    public boolean tryLock() {
+        return Boolean.TRUE.equals(acquire().block());
+    }
+
+    @Override
+    public boolean obtainLock(final Duration waitTimeout) throws InterruptedException {
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + waitTimeout.toNanos();
+        while (deadline - clock.nanoTime() > 0) {
+            if (tryLock()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean releaseLock() {
+        return Boolean.TRUE.equals(release().block());
+    }
+
+    @Override
+    public boolean isLockedByCurrentThread() {
+        return Boolean.TRUE.equals(r2dbcService.isLockedBy(lockName, ownerId).block());
+    }
+
+    @Override
+    public boolean isLocked() {
+        return Boolean.TRUE.equals(r2dbcService.isLocked(lockName).block());
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        return r2dbcService.lockedAt(lockName).blockOptional().orElse(0L);
+    }
+
+    @Override
+    public String getLockName() {
+        return lockName;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.REACTIVE;
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.DISTRIBUTED;
+    }
+}
@@ -0,0 +1,117 @@
+package dev.mfataka.locks.core.locker.reactive.distributed;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.ReactiveDistributedLocker;
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.api.factory.ReactiveDistributedLock;
+import dev.mfataka.locks.api.service.R2dbcService;
+
+/**
+ * Reactive distributed lock on the lock table of {@link R2dbcService}.
+ * <p>
+ * Locking never blocks. The management methods of {@link dev.mfataka.locks.api.base.Lock} return plain values, so
+ * they wait for their statements, they are called by the cleaner and the management endpoints, not on an event loop.
+ * Owner ids are the id of this lock followed by a counter, so a subscription gets its own owner without a random
+ * number per subscription.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class R2dbcReactiveDistributedLock implements ReactiveDistributedLock {
+    private final R2dbcService r2dbcService;
+    private final String lockId = UUID.randomUUID().toString();
+    private final AtomicLong owners = new AtomicLong();
+    @Getter
+    private final LockContext lockContext;
+
+    public static R2dbcReactiveDistributedLock create(final R2dbcService r2dbcService, final LockContext context) {
+        return new R2dbcReactiveDistributedLock(r2dbcService, context);
+    }
+
+    private R2dbcReactiveDistributedLock(final R2dbcService r2dbcService, final LockContext context) {
+        this.r2dbcService = r2dbcService;
+        this.lockContext = context;
+    }
+
+    @Override
+    public ReactiveDistributedLocker get(final String lockName) {
+        return R2dbcReactiveDistributedLocker.of(lockName, r2dbcService, this::nextOwner, lockContext.debugEnabled());
+    }
+
+    private String nextOwner() {
+        return lockId + ":" + owners.incrementAndGet();
+    }
+
+    @Override
+    public void remove(final String lockName) {
+        r2dbcService.deleteLock(lockName).block();
+    }
+
+    @Override
+    public Locker find(final String lockName) {
+        return r2dbcService.lockedAt(lockName)
+                .map(lockedAt -> Locker.jdbcLocker(lockName, lockedAt, LockMode.REACTIVE))
+                .block();
+    }
+
+    @Override
+    public boolean exists(final String lockName) {
+        return Boolean.TRUE.equals(r2dbcService.isLocked(lockName).block());
+    }
+
+    @Override
+    public int clearAllLocks(final Duration maxAge) {
+        return r2dbcService.cleanExpiredLocks(maxAge).blockOptional().orElse(0L).intValue();
+    }
+
+    @Override
+    public int clearAllLocks() {
+        return r2dbcService.deleteAllLocks().blockOptional().orElse(0L).intValue();
+    }
+
+    @Override
+    public int existingLocksCount() {
+        return r2dbcService.existingLocksCount().blockOptional().orElse(0L).intValue();
+    }
+
+    @Override
+    public Collection<Locker> getLockers() {
+        return r2dbcService.findAfter(LockMode.REACTIVE, null)
+                .collectList()
+                .blockOptional()
+                .orElse(List.of());
+    }
+
+    @Override
+    public Stream<Locker> lockers() {
+        return r2dbcService.findAfter(LockMode.REACTIVE, null).toStream();
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return r2dbcService.findAfter(LockMode.REACTIVE, lockName).toStream();
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.DISTRIBUTED;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.REACTIVE;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.mfataka.locks.core.locker.reactive.distributed;
+
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.ReactiveDistributedLocker;
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.api.service.R2dbcService;
+import dev.mfataka.locks.api.utils.LoggingUtils;
+import dev.mfataka.locks.core.locker.reactive.ReactiveLockerSupport;
+
+/**
+ * reactive distributed locker whose subscriptions insert and delete their row through R2DBC, so no thread blocks on
+ * the database while a subscription waits for or holds the lock. Every subscription owns its row under an owner id of
+ * its own.
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class R2dbcReactiveDistributedLocker extends ReactiveLockerSupport implements ReactiveDistributedLocker {
+    private final R2dbcService r2dbcService;
+    private final Supplier<String> owners;
+
+    static R2dbcReactiveDistributedLocker of(final String lockName, final R2dbcService r2dbcService, final Supplier<String> owners, final boolean debugEnabled) {
+        return new R2dbcReactiveDistributedLocker(lockName, r2dbcService, owners, LoggingUtils.of(log, debugEnabled));
+    }
+
+    private R2dbcReactiveDistributedLocker(final String lockName, final R2dbcService r2dbcService, final Supplier<String> owners, final LoggingUtils loggingUtils) {
+        super(lockName, loggingUtils);
+        this.r2dbcService = r2dbcService;
+        this.owners = owners;
+    }
+
+    @Override
+    protected BaseLocker getBaseLock() {
+        return new R2dbcLocker(lockName, owners.get(), r2dbcService);
+    }
+
+    @Override
+    protected Mono<Boolean> tryAcquire(final BaseLocker lock) {
+        return ((R2dbcLocker) lock).acquire();
+    }
+
+    @Override
+    protected Mono<Boolean> releaseLock(final BaseLocker lock) {
+        return ((R2dbcLocker) lock).release();
+    }
+
+    @Override
+    public String getLockName() {
+        return lockName;
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.DISTRIBUTED;
+    }
+
+    /**
+     * blocks on the lock table, meant for management callers only
+     */
+    @Override
+    public long getLockElapsedTime() {
+        return r2dbcService.lockedAt(lockName).blockOptional().orElse(0L);
+    }
+}
@@ -0,0 +1,22 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.util.List;
+
+/**
+ * threads of a detected deadlock, the thread at an index waits for the lock at the same index, which is held by the
+ * thread at the next index. the first thread is the one that was failed, the last lock is held by it
+ *
+ * @author HAMMA FATAKA
+ */
+public record DeadlockCycle(List<String> threadNames, List<String> lockNames) {
+
+    @Override
+    public String toString() {
+        final var description = new StringBuilder();
+        for (var i = 0; i < threadNames.size(); i++) {
+            final var holder = threadNames.get((i + 1) % threadNames.size());
+            description.append(i == 0 ? "" : ", ").append('[').append(threadNames.get(i)).append("] waits for [").append(lockNames.get(i)).append("] held by [").append(holder).append(']');
+        }
+        return description.toString();
+    }
+}
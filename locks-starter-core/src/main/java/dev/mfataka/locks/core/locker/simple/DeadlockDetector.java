@@ -0,0 +1,131 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.exception.LockDeadlockException;
+
+/**
+ * Wait-for graph of the threads parked in {@link SimpleLockSupport} lockers, enabled with
+ * {@code locks.starter.local.deadlock-detection}.
+ * <p>
+ * An edge is added right before a thread parks and removed once it stops waiting, the owner side of the edge is read
+ * from the lock state, so nothing is tracked for holders. Adding an edge walks the chain of owners from the awaited
+ * lock, if it leads back to the waiting thread the wait would never end, the thread is failed with a
+ * {@link LockDeadlockException} instead of parking until its timeout. Edges are added one at a time, so only the
+ * thread that closes a cycle is failed, the other threads keep waiting and get their locks once it unwinds. When
+ * detection is disabled only the parking path reads the flag, acquisitions that do not wait are not touched.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public final class DeadlockDetector {
+    private final Map<Long, Waiting> waiting = new ConcurrentHashMap<>();
+    private final List<DeadlockListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder detected = new LongAdder();
+    private final AtomicReference<DeadlockCycle> lastCycle = new AtomicReference<>();
+    private final ReentrantLock graphLock = new ReentrantLock();
+
+    public void addListener(final DeadlockListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(final DeadlockListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * records that the current thread is about to wait for the locker
+     *
+     * @throws LockDeadlockException when the owner chain of the locker leads back to the current thread, the edge is
+     *                               not recorded then
+     */
+    void beforeWait(final SimpleLockSupport locker) {
+        final var current = Thread.currentThread();
+        final DeadlockCycle cycle;
+        graphLock.lock();
+        try {
+            cycle = cycleFrom(current, locker);
+            if (cycle == null) {
+                waiting.put(current.getId(), new Waiting(current, locker));
+                return;
+            }
+        } finally {
+            graphLock.unlock();
+        }
+        detected.increment();
+        lastCycle.set(cycle);
+        log.warn("deadlock detected, failing thread [{}]: {}", current.getName(), cycle);
+        for (final var listener : listeners) {
+            try {
+                listener.onDeadlock(cycle);
+            } catch (RuntimeException e) {
+                log.warn("deadlock listener [{}] failed", listener, e);
+            }
+        }
+        throw new LockDeadlockException(locker.getLockName(), cycle.lockNames());
+    }
+
+    void afterWait() {
+        waiting.remove(Thread.currentThread().getId());
+    }
+
+    /**
+     * follows owner, awaited lock, owner... at most once around every waiting thread, a chain that does not return to
+     * the current thread within that many steps ends in a cycle of other threads, which they detect themselves
+     */
+    private DeadlockCycle cycleFrom(final Thread current, final SimpleLockSupport awaited) {
+        final var threadNames = new ArrayList<String>();
+        final var lockNames = new ArrayList<String>();
+        threadNames.add(current.getName());
+        lockNames.add(awaited.getLockName());
+        var locker = awaited;
+        for (var steps = waiting.size(); steps >= 0; steps--) {
+            final var owner = locker.live().ownerId();
+            if (owner == current.getId()) {
+                return new DeadlockCycle(List.copyOf(threadNames), List.copyOf(lockNames));
+            }
+            final var next = owner == 0 ? null : waiting.get(owner);
+            if (next == null) {
+                return null;
+            }
+            threadNames.add(next.thread().getName());
+            lockNames.add(next.locker().getLockName());
+            locker = next.locker();
+        }
+        return null;
+    }
+
+    /**
+     * @return number of deadlocks detected since startup
+     */
+    public long getDetectedCount() {
+        return detected.sum();
+    }
+
+    /**
+     * @return number of threads currently parked on a tracked locker
+     */
+    public int getWaitingCount() {
+        return waiting.size();
+    }
+
+    /**
+     * @return the last detected deadlock, null if there was none
+     */
+    public DeadlockCycle getLastCycle() {
+        return lastCycle.get();
+    }
+
+    private record Waiting(Thread thread, SimpleLockSupport locker) {
+    }
+}
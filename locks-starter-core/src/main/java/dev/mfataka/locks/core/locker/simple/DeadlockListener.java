@@ -0,0 +1,13 @@
+package dev.mfataka.locks.core.locker.simple;
+
+/**
+ * notified by {@link DeadlockDetector} on the failed thread, right before it throws
+ * {@link dev.mfataka.locks.api.exception.LockDeadlockException}
+ *
+ * @author HAMMA FATAKA
+ */
+@FunctionalInterface
+public interface DeadlockListener {
+
+    void onDeadlock(final DeadlockCycle cycle);
+}
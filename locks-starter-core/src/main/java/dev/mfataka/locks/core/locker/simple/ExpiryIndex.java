@@ -0,0 +1,105 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.CleanupSlice;
+import dev.mfataka.locks.api.clock.LockClock;
+
+/**
+ * Lockers of one registry filed by the epoch second they were last known to be locked, so a cleanup visits only the
+ * lockers that may have expired instead of every registered locker.
+ * <p>
+ * Locking does not touch the index, the hot path stays as it is. A locker is filed once when it is created, a cleanup
+ * that finds it locked again since then files it under its new lock time instead of removing it. A locker in use is
+ * therefore visited at most once per max age, whatever the number of registered lockers, and lockers removed from
+ * their registry in the meantime are dropped from the index when their second comes up.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public final class ExpiryIndex<L extends Locker> {
+    private final ConcurrentNavigableMap<Long, Queue<L>> buckets = new ConcurrentSkipListMap<>();
+
+    /**
+     * @return epoch second before which a locker last locked is expired, the same as {@link Locker#expiredPredicate}
+     */
+    public static long threshold(final Duration maxAge) {
+        return LockClock.current().epochSecond() - maxAge.getSeconds();
+    }
+
+    /**
+     * files a locker just added to its registry
+     */
+    public void add(final L locker) {
+        file(locker, Math.max(locker.getLockElapsedTime(), LockClock.current().epochSecond()));
+    }
+
+    /**
+     * visits at most {@code limit} lockers filed before {@code threshold}, oldest first
+     *
+     * @param registered whether the locker is still the one registered under its name, others are dropped
+     * @param evict      removes an expired locker from its registry, a locker it keeps is visited again by the next
+     *                   cleanup
+     */
+    public synchronized CleanupSlice expire(final long threshold, final int limit, final Predicate<L> registered, final Predicate<L> evict) {
+        var visited = 0;
+        var cleared = 0;
+        while (visited < limit) {
+            final var bucket = buckets.firstEntry();
+            if (bucket == null || bucket.getKey() >= threshold) {
+                break;
+            }
+            final var queue = bucket.getValue();
+            L locker;
+            while (visited < limit && (locker = queue.poll()) != null) {
+                visited++;
+                if (!registered.test(locker)) {
+                    continue;
+                }
+                final var lockedAt = locker.getLockElapsedTime();
+                if (lockedAt >= threshold) {
+                    file(locker, lockedAt);
+                } else if (evict.test(locker)) {
+                    cleared++;
+                } else {
+                    file(locker, threshold);
+                }
+            }
+            if (queue.isEmpty()) {
+                retire(bucket.getKey(), queue);
+            }
+        }
+        return new CleanupSlice(visited, cleared, !hasExpired(threshold));
+    }
+
+    /**
+     * @return whether lockers filed before the threshold are left
+     */
+    public boolean hasExpired(final long threshold) {
+        final var first = buckets.firstEntry();
+        return first != null && first.getKey() < threshold;
+    }
+
+    private void file(final L locker, final long second) {
+        buckets.computeIfAbsent(second, key -> new ConcurrentLinkedQueue<>()).add(locker);
+    }
+
+    /**
+     * drops an emptied bucket, a locker filed into it while it was being dropped is filed again
+     */
+    private void retire(final long second, final Queue<L> queue) {
+        if (!buckets.remove(second, queue)) {
+            return;
+        }
+        L locker;
+        while ((locker = queue.poll()) != null) {
+            file(locker, second);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import lombok.Getter;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.CleanupSlice;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.api.factory.AutoHandlerFactory;
+
+/**
+ * registry of {@link HierarchicalLocker}s, names are paths whose segments are separated by {@value #SEPARATOR}.
+ * <p>
+ * The lockers form a trie, every locker points to the locker of its enclosing path, which is registered along with it.
+ * Lookups stay a single map access like in {@link SimpleLock}. A locker is only dropped once it is released, nothing
+ * below it is locked and no registered path lies below it, so a registered path always hangs off registered ancestors.
+ * </p>
+ * <p>
+ * Lockers are filed in an {@link ExpiryIndex} like in the other local registries. Dropping a locker also drops the
+ * idle ancestors it was the last registered path below, so an idle subtree goes in one pass whatever the order its
+ * paths are visited in.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public class HierarchicalLock implements Lock<HierarchicalLocker> {
+    public static final char SEPARATOR = ':';
+
+    private final LockerMap<HierarchicalLocker> hierarchicalLocks = new LockerMap<>();
+    private final ExpiryIndex<HierarchicalLocker> expiry = new ExpiryIndex<>();
+    @Getter
+    private final LockContext lockContext;
+
+    private HierarchicalLock(final LockContext lockContext) {
+        this.lockContext = lockContext;
+    }
+
+    public static HierarchicalLock create(final LockContext factoryContext) {
+        return new HierarchicalLock(factoryContext);
+    }
+
+    /**
+     * @return locker of the path, the lockers of its ancestors are registered as well
+     */
+    @Override
+    public HierarchicalLocker get(final String lockName) {
+        while (true) {
+            final var existing = hierarchicalLocks.get(lockName);
+            if (existing != null && !existing.isRetired()) {
+                return existing;
+            }
+            final var cut = lockName.lastIndexOf(SEPARATOR);
+            final var parent = cut < 0 ? null : get(lockName.substring(0, cut));
+            final var registered = hierarchicalLocks.compute(lockName, (key, current) -> current != null && !current.isRetired() ? current : create(key, parent));
+            if (registered != null) {
+                return registered;
+            }
+            // the parent was dropped before it counted the new path, look it up again
+        }
+    }
+
+    private HierarchicalLocker create(final String lockName, final HierarchicalLocker parent) {
+        if (parent != null && !parent.adopt()) {
+            return null;
+        }
+        final var locker = new HierarchicalLocker(lockName, parent, this);
+        expiry.add(locker);
+        return locker;
+    }
+
+    /**
+     * drops the locker unless it is locked, locked below or has registered paths below it
+     */
+    @Override
+    public void remove(final String lockName) {
+        final var locker = hierarchicalLocks.get(lockName);
+        if (Objects.nonNull(locker)) {
+            retire(locker);
+        }
+    }
+
+    private boolean retire(final HierarchicalLocker locker) {
+        if (!locker.retire()) {
+            return false;
+        }
+        hierarchicalLocks.remove(locker.getLockName(), locker);
+        AutoHandlerFactory.removeHandler(locker);
+        return true;
+    }
+
+    @Override
+    public Locker find(final String lockName) {
+        return hierarchicalLocks.get(lockName);
+    }
+
+    @Override
+    public boolean exists(final String lockName) {
+        return hierarchicalLocks.containsKey(lockName);
+    }
+
+    @Override
+    public int clearAllLocks(final Duration maxAge) {
+        return clearExpiredLocks(maxAge, Integer.MAX_VALUE).cleared();
+    }
+
+    /**
+     * visits only lockers filed before the max age, an ancestor dropped along with its last path below is counted as
+     * cleared without being visited
+     */
+    @Override
+    public CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        final var expired = Locker.expiredPredicate(maxAge);
+        final var ancestors = new AtomicInteger();
+        final var slice = expiry.expire(ExpiryIndex.threshold(maxAge), limit,
+                locker -> hierarchicalLocks.get(locker.getLockName()) == locker,
+                locker -> {
+                    if (!retire(locker)) {
+                        return false;
+                    }
+                    ancestors.addAndGet(retireAncestors(locker, expired));
+                    return true;
+                });
+        return new CleanupSlice(slice.visited(), slice.cleared() + ancestors.get(), slice.complete());
+    }
+
+    @Override
+    public int clearAllLocks() {
+        return hierarchicalLocks.values()
+                .stream()
+                .filter(this::retire)
+                .mapToInt(locker -> 1 + retireAncestors(locker, ancestor -> true))
+                .sum();
+    }
+
+    /**
+     * drops the ancestors of a dropped locker as long as they are idle and the dropped path was the last one below them
+     *
+     * @return number of dropped ancestors
+     */
+    private int retireAncestors(final HierarchicalLocker locker, final Predicate<Locker> expired) {
+        var retired = 0;
+        for (var ancestor = locker.getParent(); ancestor != null && expired.test(ancestor) && retire(ancestor); ancestor = ancestor.getParent()) {
+            retired++;
+        }
+        return retired;
+    }
+
+    @Override
+    public int existingLocksCount() {
+        return hierarchicalLocks.size();
+    }
+
+    @Override
+    public Collection<Locker> getLockers() {
+        return hierarchicalLocks.values()
+                .stream()
+                .map(h -> (Locker) h)
+                .toList();
+    }
+
+    @Override
+    public Stream<Locker> lockers() {
+        return hierarchicalLocks.values()
+                .stream()
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return hierarchicalLocks.after(lockName)
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+}
@@ -0,0 +1,405 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * Exclusive lock on one path of a {@link HierarchicalLock}, it also excludes every lock below and above the path.
+ * <p>
+ * Locking {@code tenant:42:order:7} takes an intention on {@code tenant} and {@code tenant:42:order} and the
+ * exclusive lock on the path itself. Intentions are compatible with each other, so two orders of the same tenant run in
+ * parallel, while the exclusive lock of {@code tenant:42} is only granted once no intention is left on it and no
+ * intention is granted while it is held. Without a coarse holder a fine lock costs one CAS per ancestor and never
+ * waits on them.
+ * </p>
+ * <p>
+ * {@code state} keeps the exclusive bit, the retired bit, the number of registered children and the number of
+ * intentions in one word, so every transition is a single CAS. A thread only waits while it holds nothing, a failed
+ * attempt gives back the intentions it took, so paths locked in any order cannot deadlock. Waiters are woken when the
+ * path they wait for is released or its last intention leaves, they are not served in FIFO order and a steady stream
+ * of fine locks may delay a coarse one. Lockers are not reentrant, a thread holding {@code tenant:42} waits for
+ * itself when it locks {@code tenant:42:order:7}.
+ * </p>
+ * <p>
+ * {@link #whenReleased()} follows the locker in the way of {@link #tryLock()} at the time of the call, the path itself
+ * while it or a path below is locked, otherwise the nearest locked ancestor. It completes when that locker is released
+ * or, for the path itself, when the last lock below leaves, another locker may be in the way by then.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class HierarchicalLocker implements BaseLocker {
+    private static final long INTENTION = 1L;
+    private static final long INTENTIONS = (1L << 30) - 1;
+    private static final long CHILD = 1L << 30;
+    private static final long RETIRED = 1L << 61;
+    private static final long EXCLUSIVE = 1L << 62;
+    private static final long RELEASED = 0L;
+
+    private static final VarHandle STATE;
+    private static final VarHandle OWNER;
+    private static final VarHandle LOCKED_AT;
+    private static final VarHandle WAITERS;
+    private static final ReleaseListeners RELEASE_LISTENERS = new ReleaseListeners();
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            STATE = lookup.findVarHandle(HierarchicalLocker.class, "state", long.class);
+            OWNER = lookup.findVarHandle(HierarchicalLocker.class, "owner", long.class);
+            LOCKED_AT = lookup.findVarHandle(HierarchicalLocker.class, "lockedAt", long.class);
+            WAITERS = lookup.findVarHandle(HierarchicalLocker.class, "waiters", Queue.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Getter
+    private final String lockName;
+    /**
+     * locker of the enclosing path, null for a top level path
+     */
+    @Getter
+    private final HierarchicalLocker parent;
+    private final HierarchicalLock registry;
+
+    @SuppressWarnings("unused")
+    private volatile long state;
+    @SuppressWarnings("unused")
+    private volatile long owner;
+    @SuppressWarnings("unused")
+    private volatile long lockedAt;
+    @SuppressWarnings("unused")
+    private volatile Queue<Thread> waiters;
+
+    HierarchicalLocker(final String lockName, final HierarchicalLocker parent, final HierarchicalLock registry) {
+        this.lockName = lockName;
+        this.parent = parent;
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean tryLock() {
+        final var live = live();
+        if (live != this) {
+            return live.tryLock();
+        }
+        final var acquired = attempt() == null;
+        if (log.isDebugEnabled()) {
+            log.debug("lock with name [{}] is {} by current thread [{}]", lockName, acquired ? "locked" : "not locked", Thread.currentThread().getName());
+        }
+        return acquired;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        final var live = live();
+        if (live != this) {
+            return live.obtainLock(timeout);
+        }
+        var blocker = attempt();
+        if (blocker == null) {
+            return true;
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            return false;
+        }
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + timeout.toNanos();
+        final var current = Thread.currentThread();
+        while (true) {
+            final var queue = blocker.waitQueue();
+            queue.add(current);
+            try {
+                // checked again once queued, a release in between would otherwise wake nobody
+                final var next = attempt();
+                if (next == null) {
+                    return true;
+                }
+                final var remaining = deadline - clock.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                if (next == this && isRetired()) {
+                    // dropped from the registry while waiting, wait for the locker that took over the path
+                    return live().obtainLock(Duration.ofNanos(remaining));
+                }
+                if (next == blocker) {
+                    LockSupport.parkNanos(this, remaining);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+                blocker = next;
+            } finally {
+                queue.remove(current);
+            }
+        }
+    }
+
+    /**
+     * takes the intentions on every ancestor top down and then the path itself, everything taken is given back when a
+     * step fails
+     *
+     * @return null when the lock was taken, otherwise the locker that is in the way
+     */
+    private HierarchicalLocker attempt() {
+        final var blocker = parent == null ? null : parent.intendAll();
+        if (blocker != null) {
+            return blocker;
+        }
+        if (!acquire()) {
+            if (parent != null) {
+                parent.unintendAll();
+            }
+            return this;
+        }
+        OWNER.setRelease(this, Thread.currentThread().getId());
+        LOCKED_AT.setRelease(this, LockClock.current().epochSecond());
+        return null;
+    }
+
+    private HierarchicalLocker intendAll() {
+        if (parent != null) {
+            final var blocker = parent.intendAll();
+            if (blocker != null) {
+                return blocker;
+            }
+        }
+        if (intend()) {
+            return null;
+        }
+        if (parent != null) {
+            parent.unintendAll();
+        }
+        return this;
+    }
+
+    /**
+     * gives back the intentions of this locker and all of its ancestors
+     */
+    private void unintendAll() {
+        for (var locker = this; locker != null; locker = locker.parent) {
+            locker.unintend();
+        }
+    }
+
+    private boolean acquire() {
+        var current = (long) STATE.getVolatile(this);
+        while ((current & (INTENTIONS | EXCLUSIVE | RETIRED)) == 0) {
+            final var witness = (long) STATE.compareAndExchange(this, current, current | EXCLUSIVE);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private boolean intend() {
+        var current = (long) STATE.getVolatile(this);
+        while ((current & (EXCLUSIVE | RETIRED)) == 0) {
+            final var witness = (long) STATE.compareAndExchange(this, current, current + INTENTION);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private void unintend() {
+        final var previous = (long) STATE.getAndAdd(this, -INTENTION);
+        if ((previous & INTENTIONS) == INTENTION) {
+            // the last lock below left, a waiter for this path may take it now
+            signalAll();
+        }
+    }
+
+    @Override
+    public boolean releaseLock() {
+        final var live = live();
+        if (live != this) {
+            return live.releaseLock();
+        }
+        if (!isLocked()) {
+            return true;
+        }
+        final var currentThread = Thread.currentThread();
+        if (!OWNER.compareAndSet(this, currentThread.getId(), RELEASED)) {
+            if (log.isDebugEnabled()) {
+                log.debug("lock with name [{}] cannot be released by current thread [{}]", lockName, currentThread.getName());
+            }
+            return false;
+        }
+        STATE.getAndBitwiseAnd(this, ~EXCLUSIVE);
+        signalAll();
+        if (parent != null) {
+            parent.unintendAll();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("lock with name [{}] is released by current thread [{}]", lockName, currentThread.getName());
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Queue<Thread> waitQueue() {
+        final var existing = (Queue<Thread>) WAITERS.getAcquire(this);
+        if (existing != null) {
+            return existing;
+        }
+        final var created = new ConcurrentLinkedQueue<Thread>();
+        final var witness = (Queue<Thread>) WAITERS.compareAndExchange(this, null, created);
+        return witness == null ? created : witness;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void signalAll() {
+        final var queue = (Queue<Thread>) WAITERS.getAcquire(this);
+        if (queue != null) {
+            queue.forEach(LockSupport::unpark);
+        }
+        RELEASE_LISTENERS.released(this);
+    }
+
+    /**
+     * @return future completed on the thread that releases the locker in the way, already completed when the path can
+     * be locked
+     */
+    @Override
+    public CompletableFuture<Void> whenReleased() {
+        final var live = live();
+        final var blocker = live.blocker();
+        if (blocker == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final var released = new CompletableFuture<Void>();
+        RELEASE_LISTENERS.add(blocker, released);
+        if (!blocker.blocks(blocker == live)) {
+            // the release may have checked for listeners before this one was added
+            RELEASE_LISTENERS.released(blocker);
+        }
+        return released;
+    }
+
+    /**
+     * @return the path itself when it or a path below is locked, otherwise the nearest locked ancestor, null when the
+     * path can be locked
+     */
+    private HierarchicalLocker blocker() {
+        if (blocks(true)) {
+            return this;
+        }
+        for (var ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            if (ancestor.blocks(false)) {
+                return ancestor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param own whether the lock asked for is the one of this path, a lock below is only kept out by the exclusive lock
+     */
+    private boolean blocks(final boolean own) {
+        final var busy = own ? INTENTIONS | EXCLUSIVE : EXCLUSIVE;
+        return ((long) STATE.getVolatile(this) & busy) != 0;
+    }
+
+    /**
+     * counts a new child path, fails once this locker was dropped from its registry
+     */
+    boolean adopt() {
+        var current = (long) STATE.getVolatile(this);
+        while ((current & RETIRED) == 0) {
+            final var witness = (long) STATE.compareAndExchange(this, current, current + CHILD);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * marks the locker as no longer registered, only succeeds while it is neither locked, nor locked below, nor the
+     * parent of a registered path
+     */
+    boolean retire() {
+        if (!STATE.compareAndSet(this, RELEASED, RETIRED)) {
+            return false;
+        }
+        if (parent != null) {
+            STATE.getAndAdd(parent, -CHILD);
+        }
+        return true;
+    }
+
+    boolean isRetired() {
+        return ((long) STATE.getVolatile(this) & RETIRED) != 0;
+    }
+
+    private HierarchicalLocker live() {
+        return isRetired() ? registry.get(lockName) : this;
+    }
+
+    /**
+     * @return whether a path below this one is currently locked
+     */
+    public boolean isLockedBelow() {
+        return ((long) STATE.getVolatile(live()) & INTENTIONS) != 0;
+    }
+
+    /**
+     * @return whether there are threads waiting until this path is released or nothing below it is locked anymore
+     */
+    @SuppressWarnings("unchecked")
+    public boolean hasQueuedThreads() {
+        final var queue = (Queue<Thread>) WAITERS.getAcquire(live());
+        return queue != null && !queue.isEmpty();
+    }
+
+    @Override
+    public boolean isLockedByCurrentThread() {
+        final var live = live();
+        return live.isLocked() && (long) OWNER.getVolatile(live) == Thread.currentThread().getId();
+    }
+
+    @Override
+    public boolean isLocked() {
+        return ((long) STATE.getVolatile(live()) & EXCLUSIVE) != 0;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        return (long) LOCKED_AT.getAcquire(this);
+    }
+}
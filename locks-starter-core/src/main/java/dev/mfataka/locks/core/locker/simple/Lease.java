@@ -0,0 +1,72 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * one leased acquisition of a {@link SimpleLockSupport} locker, either the holder releases it first or the
+ * {@link LeaseWheel} expires it, whoever wins {@code status} frees the lock.
+ * <p>
+ * {@code deadlineTick}, {@code bucket}, {@code prev} and {@code next} belong to the wheel thread, they link the lease
+ * into its bucket so a released lease is unlinked in constant time.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+final class Lease {
+    private static final int ACTIVE = 0;
+    private static final int RELEASED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final VarHandle STATUS;
+
+    static {
+        try {
+            STATUS = MethodHandles.lookup().findVarHandle(Lease.class, "status", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final SimpleLockSupport locker;
+    /**
+     * id of the thread that took the lock, the lock is only freed while it still holds this owner
+     */
+    final long owner;
+    /**
+     * {@link dev.mfataka.locks.api.clock.LockClock#nanoTime()} after which the lease expires
+     */
+    final long deadline;
+
+    long deadlineTick;
+    int bucket = -1;
+    Lease prev;
+    Lease next;
+
+    @SuppressWarnings("unused")
+    private volatile int status;
+
+    Lease(final SimpleLockSupport locker, final long owner, final long deadline) {
+        this.locker = locker;
+        this.owner = owner;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return true when the holder got here before the wheel, the holder frees the lock then
+     */
+    boolean release() {
+        return STATUS.compareAndSet(this, ACTIVE, RELEASED);
+    }
+
+    /**
+     * @return true when the wheel got here before the holder, the wheel frees the lock then
+     */
+    boolean expire() {
+        return STATUS.compareAndSet(this, ACTIVE, EXPIRED);
+    }
+
+    boolean isActive() {
+        return (int) STATUS.getVolatile(this) == ACTIVE;
+    }
+}
@@ -0,0 +1,186 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.clock.LockClock;
+
+/**
+ * Hashed timing wheel expiring the leases of local lockers.
+ * <p>
+ * The wheel has {@value #WHEEL_SIZE} buckets of {@link #TICK} each, a lease is linked into the bucket of its deadline
+ * tick and a lease further away than one revolution stays in its bucket until the wheel has turned often enough.
+ * Every tick only visits one bucket, so neither scheduling, releasing nor expiring a lease depends on the number of
+ * lockers or leases. Holders never touch the buckets, they hand new and released leases over through two queues that
+ * the ticker thread drains before it visits a bucket.
+ * </p>
+ * <p>
+ * The ticker is a daemon thread started with the first lease. It counts ticks from {@link LockClock#nanoTime()}, so a
+ * test clock moved forward expires leases on the next tick, and it catches up with at most one revolution however
+ * far the clock jumps.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public final class LeaseWheel {
+    public static final Duration TICK = Duration.ofMillis(10);
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final long TICK_NANOS = TICK.toNanos();
+
+    private final Lease[] buckets = new Lease[WHEEL_SIZE];
+    private final Queue<Lease> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Lease> released = new ConcurrentLinkedQueue<>();
+    private final LongAdder active = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private volatile Thread ticker;
+    private long tick;
+    private long lastNanos;
+
+    /**
+     * hands a new lease over to the ticker, its lock is freed after the lease deadline unless it is released before
+     */
+    void schedule(final Lease lease) {
+        active.increment();
+        scheduled.add(lease);
+        if (ticker == null) {
+            start();
+        }
+    }
+
+    /**
+     * hands a lease the holder won over to the ticker, which unlinks it from its bucket
+     */
+    void cancel(final Lease lease) {
+        active.decrement();
+        released.add(lease);
+    }
+
+    private synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        lastNanos = LockClock.current().nanoTime();
+        final var thread = new Thread(this::run, "lock-lease-wheel");
+        thread.setDaemon(true);
+        thread.start();
+        ticker = thread;
+        log.debug("started lease wheel with tick [{}] and [{}] buckets", TICK, WHEEL_SIZE);
+    }
+
+    private void run() {
+        while (true) {
+            LockSupport.parkNanos(this, TICK_NANOS);
+            try {
+                advance();
+            } catch (RuntimeException e) {
+                log.error("lease wheel failed to advance, retrying on the next tick", e);
+            }
+        }
+    }
+
+    private void advance() {
+        final var now = LockClock.current().nanoTime();
+        final var elapsed = (now - lastNanos) / TICK_NANOS;
+        if (elapsed < 0) {
+            // the clock was replaced by one with a different origin, count from its reading
+            lastNanos = now;
+        }
+        if (elapsed > 0) {
+            lastNanos += elapsed * TICK_NANOS;
+        }
+        final var from = tick + 1;
+        tick += Math.max(elapsed, 0);
+        drain(now);
+        for (var t = Math.max(from, tick - MASK); t <= tick; t++) {
+            expireBucket((int) (t & MASK));
+        }
+    }
+
+    private void drain(final long now) {
+        Lease lease;
+        while ((lease = scheduled.poll()) != null) {
+            if (!lease.isActive()) {
+                continue;
+            }
+            final var remaining = lease.deadline - now;
+            if (remaining <= 0) {
+                expire(lease);
+                continue;
+            }
+            lease.deadlineTick = tick + (remaining + TICK_NANOS - 1) / TICK_NANOS;
+            link(lease);
+        }
+        while ((lease = released.poll()) != null) {
+            unlink(lease);
+        }
+    }
+
+    private void expireBucket(final int bucket) {
+        var lease = buckets[bucket];
+        while (lease != null) {
+            final var next = lease.next;
+            if (lease.deadlineTick <= tick) {
+                unlink(lease);
+                expire(lease);
+            }
+            lease = next;
+        }
+    }
+
+    private void expire(final Lease lease) {
+        if (lease.expire()) {
+            active.decrement();
+            expired.increment();
+            lease.locker.expire(lease);
+        }
+    }
+
+    private void link(final Lease lease) {
+        final var bucket = (int) (lease.deadlineTick & MASK);
+        final var head = buckets[bucket];
+        lease.bucket = bucket;
+        lease.next = head;
+        if (head != null) {
+            head.prev = lease;
+        }
+        buckets[bucket] = lease;
+    }
+
+    private void unlink(final Lease lease) {
+        if (lease.bucket < 0) {
+            return;
+        }
+        if (lease.prev != null) {
+            lease.prev.next = lease.next;
+        } else {
+            buckets[lease.bucket] = lease.next;
+        }
+        if (lease.next != null) {
+            lease.next.prev = lease.prev;
+        }
+        lease.bucket = -1;
+        lease.prev = null;
+        lease.next = null;
+    }
+
+    /**
+     * @return number of leases neither released nor expired yet
+     */
+    public long getActiveCount() {
+        return active.sum();
+    }
+
+    /**
+     * @return number of leases expired since startup, each of them freed a lock its holder did not release
+     */
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+}
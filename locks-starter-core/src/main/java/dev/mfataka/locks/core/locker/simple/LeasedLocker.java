@@ -0,0 +1,103 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * view of a {@link SimpleLockSupport} locker whose acquisitions expire after {@code leaseTime}, see
+ * {@link BaseLocker#withLease(Duration)}.
+ * <p>
+ * The view remembers the lease of its last acquisition and only releases that one, a release after the lease expired
+ * returns false and leaves the lock to whoever took it in the meantime. Views are cheap and meant to be created per
+ * use, one view must not be shared by concurrent holders.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+final class LeasedLocker implements BaseLocker {
+    private final SimpleLockSupport locker;
+    private final Duration leaseTime;
+    private volatile Lease lease;
+
+    LeasedLocker(final SimpleLockSupport locker, final Duration leaseTime) {
+        if (leaseTime.isNegative() || leaseTime.isZero()) {
+            throw new IllegalArgumentException("lease time must be positive, was " + leaseTime);
+        }
+        this.locker = locker;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public boolean tryLock() {
+        final var acquired = locker.tryLease(leaseTime);
+        if (acquired == null) {
+            return false;
+        }
+        lease = acquired;
+        return true;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        final var acquired = locker.obtainLease(timeout, leaseTime);
+        if (acquired == null) {
+            return false;
+        }
+        lease = acquired;
+        return true;
+    }
+
+    @Override
+    public boolean releaseLock() {
+        final var held = lease;
+        if (held == null) {
+            return false;
+        }
+        lease = null;
+        return held.locker.releaseLease(held);
+    }
+
+    @Override
+    public BaseLocker withLease(final Duration leaseTime) {
+        return locker.withLease(leaseTime);
+    }
+
+    @Override
+    public CompletableFuture<Void> whenReleased() {
+        return locker.whenReleased();
+    }
+
+    @Override
+    public boolean isLockedByCurrentThread() {
+        return locker.isLockedByCurrentThread();
+    }
+
+    @Override
+    public boolean isLocked() {
+        return locker.isLocked();
+    }
+
+    @Override
+    public String getLockName() {
+        return locker.getLockName();
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return locker.getLockMode();
+    }
+
+    @Override
+    public LockType getLockType() {
+        return locker.getLockType();
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        return locker.getLockElapsedTime();
+    }
+}
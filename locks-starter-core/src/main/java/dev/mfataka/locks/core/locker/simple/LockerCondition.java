@@ -0,0 +1,166 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import dev.mfataka.locks.api.clock.LockClock;
+
+/**
+ * Condition of a {@link SimpleLockSupport} locker, created by {@link SimpleLockSupport#newCondition()}.
+ * <p>
+ * {@link #await(Duration)} queues the current thread on the condition before it releases the locker, so a
+ * {@link #signal()} of the next holder cannot be missed, parks until it is signalled or its timeout runs out and takes
+ * the locker back before it returns. Signalled threads are woken in FIFO order and then compete for the locker like any
+ * other thread. Awaiting and signalling both require the current thread to hold the locker.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public final class LockerCondition {
+    private final SimpleLockSupport locker;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    LockerCondition(final SimpleLockSupport locker) {
+        this.locker = locker;
+    }
+
+    /**
+     * releases the locker, waits for a signal at most {@code timeout} and takes the locker back, however long that takes
+     *
+     * @return false when the timeout ran out before a signal
+     * @throws InterruptedException         when the thread was interrupted before it was signalled, the locker is held
+     *                                      again then
+     * @throws IllegalMonitorStateException when the current thread does not hold the locker
+     */
+    public boolean await(final Duration timeout) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        checkHeld();
+        final var waiter = new Waiter(Thread.currentThread());
+        // queued while the lock is still held, a signal can only come after the release below
+        waiters.add(waiter);
+        final int holds;
+        try {
+            holds = locker.releaseForWait();
+        } catch (RuntimeException e) {
+            waiters.remove(waiter);
+            throw e;
+        }
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + timeout.toNanos();
+        var interrupted = false;
+        while (!waiter.isSignalled()) {
+            final var remaining = deadline - clock.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                interrupted = true;
+                break;
+            }
+        }
+        final var signalled = !waiter.cancel();
+        if (!signalled) {
+            waiters.remove(waiter);
+        }
+        interrupted |= locker.reacquireAfterWait(holds);
+        if (interrupted && !signalled) {
+            throw new InterruptedException();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return signalled;
+    }
+
+    /**
+     * wakes the thread waiting longest, if any
+     *
+     * @throws IllegalMonitorStateException when the current thread does not hold the locker
+     */
+    public void signal() {
+        checkHeld();
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            if (waiter.signal()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * wakes every waiting thread
+     *
+     * @throws IllegalMonitorStateException when the current thread does not hold the locker
+     */
+    public void signalAll() {
+        checkHeld();
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.signal();
+        }
+    }
+
+    /**
+     * @return whether threads wait on this condition, a snapshot only
+     */
+    public boolean hasWaiters() {
+        return !waiters.isEmpty();
+    }
+
+    private void checkHeld() {
+        if (!locker.isLockedByCurrentThread()) {
+            throw new IllegalMonitorStateException("lock with name [" + locker.lockName + "] is not held by the current thread");
+        }
+    }
+
+    /**
+     * either a signal or the waiter itself, on timeout or interrupt, wins {@code status}, so a signal is never spent
+     * on a thread that already stopped waiting
+     */
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        private static final int SIGNALLED = 1;
+        private static final int CANCELLED = 2;
+
+        private static final VarHandle STATUS;
+
+        static {
+            try {
+                STATUS = MethodHandles.lookup().findVarHandle(Waiter.class, "status", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Thread thread;
+        @SuppressWarnings("unused")
+        private volatile int status;
+
+        private Waiter(final Thread thread) {
+            this.thread = thread;
+        }
+
+        private boolean signal() {
+            if (!STATUS.compareAndSet(this, WAITING, SIGNALLED)) {
+                return false;
+            }
+            LockSupport.unpark(thread);
+            return true;
+        }
+
+        private boolean cancel() {
+            return STATUS.compareAndSet(this, WAITING, CANCELLED);
+        }
+
+        private boolean isSignalled() {
+            return (int) STATUS.getVolatile(this) == SIGNALLED;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Name to locker map of a local registry that can list its lockers in name order, see
+ * {@link dev.mfataka.locks.api.base.Lock#lockersAfter(String)}.
+ * <p>
+ * Lockers live in a {@link ConcurrentHashMap} only, creating and evicting a locker is on the lock path of reference
+ * counted registries and must not pay for the ordering. A listing orders the names when it is read instead, it heaps
+ * the names after the cursor in one pass over the keys and takes them off the heap as the page is read, so a page of
+ * {@code k} lockers costs one pass over the registry plus {@code k log n}.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public final class LockerMap<L> {
+    private final Map<String, L> lockers = new ConcurrentHashMap<>();
+
+    public L get(final String lockName) {
+        return lockers.get(lockName);
+    }
+
+    public boolean containsKey(final String lockName) {
+        return lockers.containsKey(lockName);
+    }
+
+    public L computeIfAbsent(final String lockName, final Function<String, ? extends L> factory) {
+        final var existing = lockers.get(lockName);
+        if (existing != null) {
+            return existing;
+        }
+        return lockers.computeIfAbsent(lockName, factory);
+    }
+
+    public L compute(final String lockName, final BiFunction<String, ? super L, ? extends L> remapping) {
+        return lockers.compute(lockName, remapping);
+    }
+
+    public L computeIfPresent(final String lockName, final BiFunction<String, ? super L, ? extends L> remapping) {
+        return lockers.computeIfPresent(lockName, remapping);
+    }
+
+    public L put(final String lockName, final L locker) {
+        return lockers.put(lockName, locker);
+    }
+
+    public L remove(final String lockName) {
+        return lockers.remove(lockName);
+    }
+
+    public boolean remove(final String lockName, final L locker) {
+        return lockers.remove(lockName, locker);
+    }
+
+    public Collection<L> values() {
+        return lockers.values();
+    }
+
+    public int size() {
+        return lockers.size();
+    }
+
+    /**
+     * @param lockName name to start after, null to start from the first name
+     * @return lockers whose name sorts after the name, in name order, lockers evicted meanwhile are skipped
+     */
+    public Stream<L> after(final String lockName) {
+        final var names = new ArrayList<String>();
+        for (final var name : lockers.keySet()) {
+            if (lockName == null || name.compareTo(lockName) > 0) {
+                names.add(name);
+            }
+        }
+        final var remaining = new PriorityQueue<>(names);
+        return Stream.generate(remaining::poll)
+                .takeWhile(Objects::nonNull)
+                .map(lockers::get)
+                .filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,122 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import dev.mfataka.locks.api.base.CleanupSlice;
+import dev.mfataka.locks.api.factory.AutoHandlerFactory;
+import dev.mfataka.locks.core.factory.LockRegistry;
+
+/**
+ * name to locker map shared by {@link SimpleLock} and {@link SimpleJvmLock}.
+ * <p>
+ * With {@code locks.starter.local.reference-counted} enabled the created lockers count their holders and waiters and
+ * drop themselves from the table once the count reaches zero, so the table only keeps names that are currently in use.
+ * A locker that was dropped while a caller still references it either registers itself again or forwards to the
+ * locker registered under its name, so two lockers never guard the same name at once.
+ * </p>
+ * <p>
+ * Lockers that are not reference counted stay until a cleanup removes them, they are filed in an {@link ExpiryIndex}
+ * so the cleanup only visits the ones not locked within the max age.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+final class LockerTable<L extends SimpleLockSupport> {
+    private final LockerMap<L> lockers = new LockerMap<>();
+    private final ExpiryIndex<L> expiry = new ExpiryIndex<>();
+    private final BiFunction<String, LockerTable<L>, L> lockerFactory;
+
+    LockerTable(final BiFunction<String, LockerTable<L>, L> lockerFactory) {
+        this.lockerFactory = lockerFactory;
+    }
+
+    L get(final String lockName) {
+        final var existing = lockers.get(lockName);
+        if (existing != null) {
+            return existing;
+        }
+        return lockers.computeIfAbsent(lockName, this::create);
+    }
+
+    private L create(final String lockName) {
+        if (LockRegistry.localProperties().isReferenceCounted()) {
+            return lockerFactory.apply(lockName, this);
+        }
+        final var locker = lockerFactory.apply(lockName, null);
+        expiry.add(locker);
+        return locker;
+    }
+
+    L peek(final String lockName) {
+        return lockers.get(lockName);
+    }
+
+    /**
+     * removes the locker registered under the name, reference counted lockers are kept while they are held or waited on
+     *
+     * @return whether no locker is registered under the name anymore
+     */
+    boolean remove(final String lockName) {
+        final var remaining = lockers.computeIfPresent(lockName, (key, locker) -> locker.isReferenceCounted() && !locker.retire() ? locker : null);
+        return remaining == null;
+    }
+
+    /**
+     * removes at most {@code limit} of the indexed lockers not locked within the max age, reference counted lockers
+     * leave the table on their own and are not indexed
+     */
+    CleanupSlice expire(final Duration maxAge, final int limit) {
+        return expiry.expire(ExpiryIndex.threshold(maxAge), limit, locker -> lockers.get(locker.lockName) == locker, this::drop);
+    }
+
+    private boolean drop(final L locker) {
+        if (!lockers.remove(locker.lockName, locker)) {
+            return false;
+        }
+        AutoHandlerFactory.removeHandler(locker);
+        return true;
+    }
+
+    boolean contains(final String lockName) {
+        return lockers.containsKey(lockName);
+    }
+
+    Collection<L> values() {
+        return lockers.values();
+    }
+
+    Stream<L> after(final String lockName) {
+        return lockers.after(lockName);
+    }
+
+    int size() {
+        return lockers.size();
+    }
+
+    /**
+     * called once the last holder or waiter leaves, the locker is dropped only if nobody retained it in the meantime
+     */
+    void evict(final SimpleLockSupport locker) {
+        final var remaining = lockers.computeIfPresent(locker.lockName, (key, registered) -> registered == locker && locker.retire() ? null : registered);
+        if (remaining != locker) {
+            AutoHandlerFactory.removeHandler(locker);
+        }
+    }
+
+    /**
+     * registers a dropped locker again, or returns the locker that took over its name while it was not registered
+     */
+    @SuppressWarnings("unchecked")
+    SimpleLockSupport revive(final SimpleLockSupport locker) {
+        return lockers.compute(locker.lockName, (key, registered) -> {
+            if (registered != null) {
+                return registered;
+            }
+            locker.revive();
+            return (L) locker;
+        });
+    }
+}
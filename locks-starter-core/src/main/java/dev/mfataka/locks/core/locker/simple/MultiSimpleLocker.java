@@ -0,0 +1,182 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * Locks several names as one, see {@link SimpleLock#getAll(java.util.Collection)}.
+ * <p>
+ * The lockers are kept in name order and taken in that order, so two composites sharing names never wait for each
+ * other in a cycle. When a locker is taken by someone outside that order, e.g. a nested single-name lock, the
+ * acquisition backs off instead of holding on: everything taken so far is released and the attempt starts over by
+ * waiting for the locker that was busy. Release always happens in reverse name order.
+ * </p>
+ * <p>
+ * {@link #whenReleased()} follows the first locker that is held, once it is released another one may still be held and
+ * a caller that fails to lock again asks again.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class MultiSimpleLocker implements BaseLocker {
+    private final BaseLocker[] lockers;
+    @Getter
+    private final String lockName;
+
+    MultiSimpleLocker(final List<? extends BaseLocker> lockers) {
+        this.lockers = lockers.toArray(BaseLocker[]::new);
+        this.lockName = lockers.stream()
+                .map(Locker::getLockName)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    /**
+     * @return lockers in the order they are taken
+     */
+    public List<BaseLocker> getLockers() {
+        return List.of(lockers);
+    }
+
+    @Override
+    public boolean tryLock() {
+        final var failed = tryLockAllExcept(-1);
+        if (failed < 0) {
+            log.debug("multi lock {} is locked by current thread [{}]", lockName, Thread.currentThread().getName());
+            return true;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("multi lock {} is not locked by current thread [{}], [{}] is taken", lockName, Thread.currentThread().getName(), lockers[failed].getLockName());
+        }
+        return false;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        if (lockers.length == 0) {
+            return true;
+        }
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + timeout.toNanos();
+        var first = 0;
+        while (true) {
+            if (!lockers[first].obtainLock(Duration.ofNanos(Math.max(0, deadline - clock.nanoTime())))) {
+                log.debug("multi lock {} timed out waiting for [{}]", lockName, lockers[first].getLockName());
+                return false;
+            }
+            final var failed = tryLockAllExcept(first);
+            if (failed < 0) {
+                log.debug("multi lock {} is locked by current thread [{}]", lockName, Thread.currentThread().getName());
+                return true;
+            }
+            lockers[first].releaseLock();
+            log.trace("multi lock {} backs off, [{}] is taken", lockName, lockers[failed].getLockName());
+            first = failed;
+            Thread.yield();
+        }
+    }
+
+    /**
+     * takes every locker in order except the one already held, on failure releases what this call took
+     *
+     * @return index of the locker that could not be taken, {@code -1} when all are held
+     */
+    private int tryLockAllExcept(final int held) {
+        for (var i = 0; i < lockers.length; i++) {
+            if (i == held || lockers[i].tryLock()) {
+                continue;
+            }
+            for (var j = i - 1; j >= 0; j--) {
+                if (j != held) {
+                    lockers[j].releaseLock();
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * releases every locker in reverse order, keeps going when one of them cannot be released
+     *
+     * @return whether all lockers were released
+     */
+    @Override
+    public boolean releaseLock() {
+        var released = true;
+        for (var i = lockers.length - 1; i >= 0; i--) {
+            released &= lockers[i].releaseLock();
+        }
+        log.debug("multi lock {} is released by current thread [{}]", lockName, Thread.currentThread().getName());
+        return released;
+    }
+
+    /**
+     * @return future completed once the first locker held right now is released, already completed when none is held
+     */
+    @Override
+    public CompletableFuture<Void> whenReleased() {
+        for (final var locker : lockers) {
+            if (locker.isLocked()) {
+                return locker.whenReleased();
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * @return whether the current thread holds every locker
+     */
+    @Override
+    public boolean isLockedByCurrentThread() {
+        for (final var locker : lockers) {
+            if (!locker.isLockedByCurrentThread()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether any of the lockers is held
+     */
+    @Override
+    public boolean isLocked() {
+        for (final var locker : lockers) {
+            if (locker.isLocked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        var latest = 0L;
+        for (final var locker : lockers) {
+            latest = Math.max(latest, locker.getLockElapsedTime());
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.mfataka.locks.core.locker.simple;
+
+/**
+ * order in which {@link ReadWriteSimpleLocker} grants the lock to waiting readers and writers
+ *
+ * @author HAMMA FATAKA
+ */
+public enum ReadWritePolicy {
+    /**
+     * arriving threads may barge in front of waiting ones, best throughput but a steady stream of readers can starve
+     * writers
+     */
+    NON_FAIR,
+    /**
+     * arriving threads queue behind waiting ones and the lock is granted in arrival order, consecutive readers are
+     * admitted together
+     */
+    FAIR,
+    /**
+     * readers do not enter while a writer is waiting and released locks are handed to waiting writers first
+     */
+    WRITER_PREFERENCE;
+
+    public static ReadWritePolicy of(final boolean fair, final boolean writerPreference) {
+        if (fair) {
+            return FAIR;
+        }
+        return writerPreference ? WRITER_PREFERENCE : NON_FAIR;
+    }
+}
@@ -0,0 +1,144 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.CleanupSlice;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * registry of {@link ReadWriteSimpleLocker}s, one locker per name whatever policy it is asked for. The policy of a name
+ * is fixed by the call that creates its locker, readers and writers asking for another one share that locker, so they
+ * still exclude each other
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class ReadWriteSimpleLock implements Lock<ReadWriteSimpleLocker> {
+    public static final ReadWritePolicy DEFAULT_POLICY = ReadWritePolicy.NON_FAIR;
+
+    private final LockerMap<ReadWriteSimpleLocker> readWriteLocks = new LockerMap<>();
+    private final ExpiryIndex<ReadWriteSimpleLocker> expiry = new ExpiryIndex<>();
+
+    @Getter
+    private final LockContext lockContext;
+
+    private ReadWriteSimpleLock(final LockContext lockContext) {
+        this.lockContext = lockContext;
+    }
+
+    public static ReadWriteSimpleLock create(final LockContext factoryContext) {
+        return new ReadWriteSimpleLock(factoryContext);
+    }
+
+    /**
+     * @return locker of the name, created with {@link #DEFAULT_POLICY} when the name has none yet
+     */
+    @Override
+    public ReadWriteSimpleLocker get(final String lockName) {
+        return get(lockName, DEFAULT_POLICY);
+    }
+
+    /**
+     * @param policy policy of the locker when it is created by this call, an existing locker keeps its own
+     */
+    public ReadWriteSimpleLocker get(final String lockName, final ReadWritePolicy policy) {
+        var locker = readWriteLocks.get(lockName);
+        if (locker == null) {
+            locker = readWriteLocks.computeIfAbsent(lockName, key -> create(key, policy));
+        }
+        if (locker.getPolicy() != policy) {
+            log.warn("read-write lock with name [{}] already exists with policy [{}], requested [{}]", lockName, locker.getPolicy(), policy);
+        }
+        return locker;
+    }
+
+    private ReadWriteSimpleLocker create(final String lockName, final ReadWritePolicy policy) {
+        final var locker = new ReadWriteSimpleLocker(lockName, policy);
+        expiry.add(locker);
+        return locker;
+    }
+
+    @Override
+    public void remove(final String lockName) {
+        readWriteLocks.remove(lockName);
+    }
+
+    @Override
+    public Locker find(final String lockName) {
+        return readWriteLocks.get(lockName);
+    }
+
+    @Override
+    public boolean exists(final String lockName) {
+        return readWriteLocks.containsKey(lockName);
+    }
+
+    @Override
+    public int clearAllLocks(final Duration maxAge) {
+        return clearExpiredLocks(maxAge, Integer.MAX_VALUE).cleared();
+    }
+
+    /**
+     * held lockers are kept however long ago they were taken
+     */
+    @Override
+    public CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        return expiry.expire(ExpiryIndex.threshold(maxAge), limit,
+                locker -> readWriteLocks.get(locker.getLockName()) == locker,
+                locker -> locker.isReleased() && readWriteLocks.remove(locker.getLockName(), locker));
+    }
+
+    @Override
+    public int clearAllLocks() {
+        return readWriteLocks.values()
+                .stream()
+                .filter(ReadWriteSimpleLocker::isReleased)
+                .mapToInt(locker -> readWriteLocks.remove(locker.getLockName(), locker) ? 1 : 0)
+                .sum();
+    }
+
+    @Override
+    public int existingLocksCount() {
+        return readWriteLocks.size();
+    }
+
+    @Override
+    public Collection<Locker> getLockers() {
+        return readWriteLocks.values()
+                .stream()
+                .map(r -> (Locker) r)
+                .toList();
+    }
+
+    @Override
+    public Stream<Locker> lockers() {
+        return readWriteLocks.values()
+                .stream()
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return readWriteLocks.after(lockName)
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+}
@@ -0,0 +1,411 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * Shared/exclusive local lock, any number of readers or a single writer may hold it at once.
+ * <p>
+ * {@code state} holds the number of readers, or {@code -1} while the write lock is held. Waiting threads are parked
+ * in a FIFO queue the same way as in {@link SimpleLockSupport}, the {@link ReadWritePolicy} decides whether arriving
+ * threads may barge and whether waiting writers are served before readers. The write lock is owned by the thread
+ * that locked it, read holds are counted per thread the way {@link java.util.concurrent.locks.ReentrantReadWriteLock}
+ * does, so only a thread holding a read lock can release it.
+ * </p>
+ * <p>
+ * {@link BaseLocker#whenReleased()} of the write view waits until nobody holds the lock, the one of the read view only
+ * until no writer holds it, readers do not keep out other readers.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class ReadWriteSimpleLocker implements Locker {
+    private static final int RELEASED = 0;
+    private static final int WRITE_LOCKED = -1;
+
+    private static final VarHandle STATE;
+    private static final VarHandle WRITER;
+    private static final VarHandle LOCKED_AT;
+    private static final VarHandle WAITING_WRITERS;
+    private static final ReleaseListeners RELEASE_LISTENERS = new ReleaseListeners();
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            STATE = lookup.findVarHandle(ReadWriteSimpleLocker.class, "state", int.class);
+            WRITER = lookup.findVarHandle(ReadWriteSimpleLocker.class, "writer", long.class);
+            LOCKED_AT = lookup.findVarHandle(ReadWriteSimpleLocker.class, "lockedAt", long.class);
+            WAITING_WRITERS = lookup.findVarHandle(ReadWriteSimpleLocker.class, "waitingWriters", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Getter
+    private final String lockName;
+    @Getter
+    private final ReadWritePolicy policy;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final BaseLocker readLock = new ReadLock();
+    private final BaseLocker writeLock = new WriteLock();
+    /**
+     * read holds of the current thread, the entry is removed once the thread released all of them
+     */
+    private final ThreadLocal<int[]> readHolds = new ThreadLocal<>();
+
+    @SuppressWarnings("unused")
+    private volatile int state;
+    @SuppressWarnings("unused")
+    private volatile long writer;
+    @SuppressWarnings("unused")
+    private volatile long lockedAt;
+    @SuppressWarnings("unused")
+    private volatile int waitingWriters;
+
+    ReadWriteSimpleLocker(final String lockName, final ReadWritePolicy policy) {
+        this.lockName = lockName;
+        this.policy = policy;
+    }
+
+    /**
+     * @return shared view of this lock, it can be held by many threads as long as no writer holds it
+     */
+    public BaseLocker readLock() {
+        return readLock;
+    }
+
+    /**
+     * @return exclusive view of this lock, it is held by a single thread and excludes readers
+     */
+    public BaseLocker writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * @return number of readers holding the lock
+     */
+    public int getReadLockCount() {
+        return Math.max((int) STATE.getVolatile(this), 0);
+    }
+
+    public boolean isWriteLocked() {
+        return (int) STATE.getVolatile(this) == WRITE_LOCKED;
+    }
+
+    public boolean isLocked() {
+        return (int) STATE.getVolatile(this) != RELEASED;
+    }
+
+    public boolean isReleased() {
+        return !isLocked();
+    }
+
+    public boolean hasQueuedThreads() {
+        return !waiters.isEmpty();
+    }
+
+    private boolean tryAcquire(final boolean shared, final boolean queued) {
+        if (!queued && policy == ReadWritePolicy.FAIR && !waiters.isEmpty()) {
+            return false;
+        }
+        final var acquired = shared ? tryAcquireShared() : tryAcquireExclusive();
+        if (acquired) {
+            if (shared) {
+                holdRead();
+            }
+            LOCKED_AT.setRelease(this, LockClock.current().epochSecond());
+        }
+        return acquired;
+    }
+
+    private boolean tryAcquireShared() {
+        if (policy == ReadWritePolicy.WRITER_PREFERENCE && (int) WAITING_WRITERS.getVolatile(this) > 0) {
+            return false;
+        }
+        var current = (int) STATE.getVolatile(this);
+        while (current >= RELEASED) {
+            final var witness = (int) STATE.compareAndExchange(this, current, current + 1);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private boolean tryAcquireExclusive() {
+        if (!STATE.compareAndSet(this, RELEASED, WRITE_LOCKED)) {
+            return false;
+        }
+        WRITER.setRelease(this, Thread.currentThread().getId());
+        return true;
+    }
+
+    private boolean acquire(final boolean shared, final Duration timeout) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (tryAcquire(shared, false)) {
+            return true;
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            return false;
+        }
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + timeout.toNanos();
+        final var waiter = new Waiter(Thread.currentThread(), shared);
+        if (!shared) {
+            WAITING_WRITERS.getAndAdd(this, 1);
+        }
+        waiters.add(waiter);
+        var acquired = false;
+        try {
+            while (true) {
+                if (isEligible(waiter) && tryAcquire(shared, true)) {
+                    acquired = true;
+                    return true;
+                }
+                final var remaining = deadline - clock.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiters.remove(waiter);
+            if (!shared) {
+                WAITING_WRITERS.getAndAdd(this, -1);
+            }
+            // an admitted reader lets the next reader in, a leaving waiter passes on a wake-up it may have consumed
+            if (acquired ? shared : !isWriteLocked()) {
+                signalNext();
+            }
+        }
+    }
+
+    private boolean isEligible(final Waiter waiter) {
+        if (policy == ReadWritePolicy.WRITER_PREFERENCE && !waiter.shared()) {
+            return true;
+        }
+        return waiters.peek() == waiter;
+    }
+
+    private void signalNext() {
+        if (policy == ReadWritePolicy.WRITER_PREFERENCE && (int) WAITING_WRITERS.getVolatile(this) > 0) {
+            for (final var waiter : waiters) {
+                if (!waiter.shared()) {
+                    LockSupport.unpark(waiter.thread());
+                    return;
+                }
+            }
+        }
+        final var next = waiters.peek();
+        if (next != null) {
+            LockSupport.unpark(next.thread());
+        }
+    }
+
+    private void holdRead() {
+        final var holds = readHolds.get();
+        if (holds == null) {
+            readHolds.set(new int[]{1});
+        } else {
+            holds[0]++;
+        }
+    }
+
+    private int readHoldCount() {
+        final var holds = readHolds.get();
+        return holds == null ? 0 : holds[0];
+    }
+
+    private boolean releaseShared() {
+        final var holds = readHolds.get();
+        if (holds == null) {
+            log.trace("read lock with name [{}] is not locked by current thread [{}], cannot release", lockName, Thread.currentThread().getName());
+            return false;
+        }
+        if (--holds[0] == 0) {
+            readHolds.remove();
+        }
+        var current = (int) STATE.getVolatile(this);
+        while (current > RELEASED) {
+            final var witness = (int) STATE.compareAndExchange(this, current, current - 1);
+            if (witness == current) {
+                if (current == 1) {
+                    signalNext();
+                    RELEASE_LISTENERS.released(writeLock);
+                }
+                log.debug("read lock with name [{}] is released by thread [{}]", lockName, Thread.currentThread().getName());
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private boolean releaseExclusive() {
+        if (!isWriteLockedByCurrentThread()) {
+            log.trace("write lock with name [{}] is not locked by current thread [{}], cannot release", lockName, Thread.currentThread().getName());
+            return false;
+        }
+        WRITER.setRelease(this, 0L);
+        STATE.setVolatile(this, RELEASED);
+        signalNext();
+        RELEASE_LISTENERS.released(readLock);
+        RELEASE_LISTENERS.released(writeLock);
+        log.debug("write lock with name [{}] is released by thread [{}]", lockName, Thread.currentThread().getName());
+        return true;
+    }
+
+    private boolean isWriteLockedByCurrentThread() {
+        return isWriteLocked() && (long) WRITER.getAcquire(this) == Thread.currentThread().getId();
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        return (long) LOCKED_AT.getAcquire(this);
+    }
+
+    private record Waiter(Thread thread, boolean shared) {
+    }
+
+    private abstract class View implements BaseLocker {
+
+        @Override
+        public String getLockName() {
+            return lockName;
+        }
+
+        @Override
+        public LockMode getLockMode() {
+            return LockMode.BLOCKING;
+        }
+
+        @Override
+        public LockType getLockType() {
+            return LockType.LOCAL;
+        }
+
+        @Override
+        public long getLockElapsedTime() {
+            return ReadWriteSimpleLocker.this.getLockElapsedTime();
+        }
+
+        /**
+         * @return future completed on the thread that next frees the view, already completed while it is free
+         */
+        @Override
+        public CompletableFuture<Void> whenReleased() {
+            if (isFree()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            final var released = new CompletableFuture<Void>();
+            RELEASE_LISTENERS.add(this, released);
+            if (isFree()) {
+                // the release may have checked for listeners before this one was added
+                RELEASE_LISTENERS.released(this);
+            }
+            return released;
+        }
+
+        /**
+         * @return whether the holders of the lock do not keep this view out
+         */
+        abstract boolean isFree();
+    }
+
+    private final class ReadLock extends View {
+
+        @Override
+        public boolean tryLock() {
+            return tryAcquire(true, false);
+        }
+
+        @Override
+        public boolean obtainLock(final Duration timeout) throws InterruptedException {
+            return acquire(true, timeout);
+        }
+
+        @Override
+        public boolean releaseLock() {
+            return releaseShared();
+        }
+
+        @Override
+        public boolean isLockedByCurrentThread() {
+            return readHoldCount() > 0;
+        }
+
+        @Override
+        public boolean isLocked() {
+            return getReadLockCount() > 0;
+        }
+
+        @Override
+        boolean isFree() {
+            return !isWriteLocked();
+        }
+    }
+
+    private final class WriteLock extends View {
+
+        @Override
+        public boolean tryLock() {
+            return tryAcquire(false, false);
+        }
+
+        @Override
+        public boolean obtainLock(final Duration timeout) throws InterruptedException {
+            return acquire(false, timeout);
+        }
+
+        @Override
+        public boolean releaseLock() {
+            return releaseExclusive();
+        }
+
+        @Override
+        public boolean isLockedByCurrentThread() {
+            return isWriteLockedByCurrentThread();
+        }
+
+        @Override
+        public boolean isLocked() {
+            return isWriteLocked();
+        }
+
+        @Override
+        boolean isFree() {
+            return ReadWriteSimpleLocker.this.isReleased();
+        }
+    }
+}
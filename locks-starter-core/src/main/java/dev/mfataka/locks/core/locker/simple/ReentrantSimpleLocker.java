@@ -0,0 +1,103 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+
+/**
+ * {@link SimpleLocker} that can be locked again by the thread that already holds it.
+ * <p>
+ * Nested acquisitions only increment a hold count, they neither touch the lock state nor the lock timestamp, and the
+ * lock is released once {@link #releaseLock()} was called as many times as it was acquired.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+public class ReentrantSimpleLocker extends SimpleLocker {
+    /**
+     * written only by the owning thread, ownership is handed over through the volatile lock state
+     */
+    private int holds;
+
+    ReentrantSimpleLocker(final String lockName, final LockerTable<SimpleLocker> table) {
+        super(lockName, table);
+    }
+
+    @Override
+    public boolean tryLock() {
+        if (isOwner()) {
+            holds++;
+            return true;
+        }
+        final var locked = super.tryLock();
+        if (locked) {
+            holds = 1;
+        }
+        return locked;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        if (isOwner()) {
+            holds++;
+            return true;
+        }
+        final var locked = super.obtainLock(timeout);
+        if (locked) {
+            holds = 1;
+        }
+        return locked;
+    }
+
+    @Override
+    public boolean releaseLock() {
+        if (isOwner() && holds > 1) {
+            holds--;
+            return true;
+        }
+        if (isOwner()) {
+            holds = 0;
+        }
+        return super.releaseLock();
+    }
+
+    /**
+     * not supported, an expiring lease would free the lock under nested holds of the owner
+     */
+    @Override
+    public BaseLocker withLease(final Duration leaseTime) {
+        throw new UnsupportedOperationException("reentrant lock [" + lockName + "] cannot be leased");
+    }
+
+    /**
+     * releases all nested holds for the wait, they are restored once the lock is held again
+     */
+    @Override
+    int releaseForWait() {
+        if (!isOwner()) {
+            throw new IllegalMonitorStateException("lock with name [" + lockName + "] is not held by the current thread");
+        }
+        final var saved = holds;
+        holds = 0;
+        super.releaseForWait();
+        return saved;
+    }
+
+    @Override
+    boolean reacquireAfterWait(final int holds) {
+        final var interrupted = super.reacquireAfterWait(holds);
+        this.holds = holds;
+        return interrupted;
+    }
+
+    /**
+     * @return number of holds of the current thread, {@code 0} when it does not own the lock
+     */
+    public int getHoldCount() {
+        return isOwner() ? holds : 0;
+    }
+
+    private boolean isOwner() {
+        return ownerId() == Thread.currentThread().getId();
+    }
+}
@@ -0,0 +1,56 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+
+/**
+ * futures of {@link BaseLocker#whenReleased()} by locker, every locker class keeps an instance of its own.
+ * <p>
+ * Kept aside instead of in the lockers, registries hold millions of lockers and only a few of them are ever watched.
+ * A release only checks whether any locker is watched, the futures of a locker are completed and dropped together.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+final class ReleaseListeners {
+    private final Map<BaseLocker, List<CompletableFuture<Void>>> watched = new ConcurrentHashMap<>();
+
+    void add(final BaseLocker locker, final CompletableFuture<Void> released) {
+        watched.compute(locker, (key, futures) -> {
+            final var list = futures == null ? new ArrayList<CompletableFuture<Void>>(2) : futures;
+            list.add(released);
+            return list;
+        });
+        // a cancelled future must not stay until the holder releases, which may take long
+        released.whenComplete((ignored, error) -> {
+            if (released.isCancelled()) {
+                remove(locker, released);
+            }
+        });
+    }
+
+    private void remove(final BaseLocker locker, final CompletableFuture<Void> released) {
+        watched.computeIfPresent(locker, (key, futures) -> {
+            futures.remove(released);
+            return futures.isEmpty() ? null : futures;
+        });
+    }
+
+    /**
+     * called on every release, only looks the locker up while some locker is watched
+     */
+    void released(final BaseLocker locker) {
+        if (watched.isEmpty()) {
+            return;
+        }
+        final var futures = watched.remove(locker);
+        if (futures != null) {
+            futures.forEach(released -> released.complete(null));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.CleanupSlice;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * registry of {@link SemaphoreLocker}s, the number of permits of a name is fixed by the call that creates its locker
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class SemaphoreLock implements Lock<SemaphoreLocker> {
+    public static final int DEFAULT_PERMITS = 1;
+
+    private final LockerMap<SemaphoreLocker> semaphoreLocks = new LockerMap<>();
+    private final ExpiryIndex<SemaphoreLocker> expiry = new ExpiryIndex<>();
+
+    @Getter
+    private final LockContext lockContext;
+
+    private SemaphoreLock(final LockContext lockContext) {
+        this.lockContext = lockContext;
+    }
+
+    public static SemaphoreLock create(final LockContext factoryContext) {
+        return new SemaphoreLock(factoryContext);
+    }
+
+    @Override
+    public SemaphoreLocker get(final String lockName) {
+        return get(lockName, DEFAULT_PERMITS);
+    }
+
+    /**
+     * @param permits number of permits of the locker, ignored when a locker with this name already exists
+     */
+    public SemaphoreLocker get(final String lockName, final int permits) {
+        var locker = semaphoreLocks.get(lockName);
+        if (locker == null) {
+            locker = semaphoreLocks.computeIfAbsent(lockName, key -> create(key, permits));
+        }
+        if (locker.getPermits() != permits) {
+            log.debug("lock with name [{}] already exists with [{}] permits, requested [{}]", lockName, locker.getPermits(), permits);
+        }
+        return locker;
+    }
+
+    private SemaphoreLocker create(final String lockName, final int permits) {
+        final var locker = new SemaphoreLocker(lockName, permits);
+        expiry.add(locker);
+        return locker;
+    }
+
+    @Override
+    public void remove(final String lockName) {
+        semaphoreLocks.remove(lockName);
+    }
+
+    @Override
+    public Locker find(final String lockName) {
+        return semaphoreLocks.get(lockName);
+    }
+
+    @Override
+    public boolean exists(final String lockName) {
+        return semaphoreLocks.containsKey(lockName);
+    }
+
+    @Override
+    public int clearAllLocks(final Duration maxAge) {
+        return clearExpiredLocks(maxAge, Integer.MAX_VALUE).cleared();
+    }
+
+    /**
+     * held lockers are kept however long ago they were taken
+     */
+    @Override
+    public CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        return expiry.expire(ExpiryIndex.threshold(maxAge), limit,
+                locker -> semaphoreLocks.get(locker.getLockName()) == locker,
+                locker -> locker.isReleased() && semaphoreLocks.remove(locker.getLockName(), locker));
+    }
+
+    @Override
+    public int clearAllLocks() {
+        return semaphoreLocks.values()
+                .stream()
+                .filter(SemaphoreLocker::isReleased)
+                .mapToInt(locker -> semaphoreLocks.remove(locker.getLockName(), locker) ? 1 : 0)
+                .sum();
+    }
+
+    @Override
+    public int existingLocksCount() {
+        return semaphoreLocks.size();
+    }
+
+    @Override
+    public Collection<Locker> getLockers() {
+        return semaphoreLocks.values()
+                .stream()
+                .map(s -> (Locker) s)
+                .toList();
+    }
+
+    @Override
+    public Stream<Locker> lockers() {
+        return semaphoreLocks.values()
+                .stream()
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return semaphoreLocks.after(lockName)
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+}
@@ -0,0 +1,255 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * Local lock that admits up to {@link #getPermits()} concurrent holders per name.
+ * <p>
+ * {@code available} holds the number of free permits. Waiting threads are parked in a FIFO queue and only the head
+ * may take permits, so a request for many permits is not starved by a stream of small ones; {@link #tryAcquire(int)}
+ * may still barge. As a {@link BaseLocker} every lock and release takes or returns a single permit. Permits are not
+ * owned by threads, any thread may return them.
+ * </p>
+ * <p>
+ * Futures of {@link #whenReleased()} wait for a free permit, not for every permit to come back.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class SemaphoreLocker implements BaseLocker {
+    private static final VarHandle AVAILABLE;
+    private static final VarHandle LOCKED_AT;
+    private static final ReleaseListeners RELEASE_LISTENERS = new ReleaseListeners();
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            AVAILABLE = lookup.findVarHandle(SemaphoreLocker.class, "available", int.class);
+            LOCKED_AT = lookup.findVarHandle(SemaphoreLocker.class, "lockedAt", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Getter
+    private final String lockName;
+    @Getter
+    private final int permits;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    @SuppressWarnings("unused")
+    private volatile int available;
+    @SuppressWarnings("unused")
+    private volatile long lockedAt;
+
+    SemaphoreLocker(final String lockName, final int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive, was " + permits);
+        }
+        this.lockName = lockName;
+        this.permits = permits;
+        this.available = permits;
+    }
+
+    /**
+     * takes the permits if they are free right now
+     *
+     * @param requested number of permits, between 1 and {@link #getPermits()}
+     * @return whether the permits were taken
+     */
+    public boolean tryAcquire(final int requested) {
+        checkRequested(requested);
+        final var acquired = take(requested);
+        if (log.isDebugEnabled()) {
+            log.debug("lock with name [{}] {} [{}] permits for thread [{}]", lockName, acquired ? "acquired" : "could not acquire", requested, Thread.currentThread().getName());
+        }
+        return acquired;
+    }
+
+    /**
+     * takes the permits, waiting until they are released or the timeout runs out
+     *
+     * @param requested number of permits, between 1 and {@link #getPermits()}
+     * @param timeout   non-negative time to wait
+     * @return whether the permits were taken
+     * @throws InterruptedException if thread is interrupted
+     */
+    public boolean tryAcquire(final int requested, final Duration timeout) throws InterruptedException {
+        checkRequested(requested);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (take(requested)) {
+            return true;
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            return false;
+        }
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + timeout.toNanos();
+        final var waiter = new Waiter(Thread.currentThread(), requested);
+        waiters.add(waiter);
+        try {
+            while (true) {
+                if (waiters.peek() == waiter && take(requested)) {
+                    log.debug("lock with name [{}] handed [{}] permits to waiting thread [{}]", lockName, requested, waiter.thread().getName());
+                    return true;
+                }
+                final var remaining = deadline - clock.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waiters.remove(waiter);
+            if (availablePermits() > 0) {
+                // permits may be left for the next waiter, or we consumed a wake-up meant for it
+                signalNext();
+            }
+        }
+    }
+
+    /**
+     * returns permits, more permits than are taken are never returned
+     *
+     * @param released number of permits to return
+     * @return whether the permits were returned
+     */
+    public boolean release(final int released) {
+        checkRequested(released);
+        var current = availablePermits();
+        while (current + released <= permits) {
+            final var witness = (int) AVAILABLE.compareAndExchange(this, current, current + released);
+            if (witness == current) {
+                signalNext();
+                RELEASE_LISTENERS.released(this);
+                log.debug("lock with name [{}] got [{}] permits back from thread [{}]", lockName, released, Thread.currentThread().getName());
+                return true;
+            }
+            current = witness;
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("lock with name [{}] cannot take back [{}] permits, only [{}] are taken", lockName, released, permits - current);
+        }
+        return false;
+    }
+
+    /**
+     * @return future completed on the thread that next returns permits, already completed while a permit is free
+     */
+    @Override
+    public CompletableFuture<Void> whenReleased() {
+        if (availablePermits() > 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final var released = new CompletableFuture<Void>();
+        RELEASE_LISTENERS.add(this, released);
+        if (availablePermits() > 0) {
+            // the release may have checked for listeners before this one was added
+            RELEASE_LISTENERS.released(this);
+        }
+        return released;
+    }
+
+    public int availablePermits() {
+        return (int) AVAILABLE.getVolatile(this);
+    }
+
+    public boolean hasQueuedThreads() {
+        return !waiters.isEmpty();
+    }
+
+    private boolean take(final int requested) {
+        var current = availablePermits();
+        while (current >= requested) {
+            final var witness = (int) AVAILABLE.compareAndExchange(this, current, current - requested);
+            if (witness == current) {
+                LOCKED_AT.setRelease(this, LockClock.current().epochSecond());
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private void signalNext() {
+        final var next = waiters.peek();
+        if (next != null) {
+            LockSupport.unpark(next.thread());
+        }
+    }
+
+    private void checkRequested(final int requested) {
+        if (requested < 1 || requested > permits) {
+            throw new IllegalArgumentException("requested permits must be between 1 and " + permits + ", was " + requested);
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        return tryAcquire(1);
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        return tryAcquire(1, timeout);
+    }
+
+    @Override
+    public boolean releaseLock() {
+        return release(1);
+    }
+
+    /**
+     * permits are not owned by threads, reports whether any permit is taken
+     */
+    @Override
+    public boolean isLockedByCurrentThread() {
+        return isLocked();
+    }
+
+    /**
+     * @return whether any permit is taken
+     */
+    @Override
+    public boolean isLocked() {
+        return availablePermits() < permits;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public long getLockElapsedTime() {
+        return (long) LOCKED_AT.getAcquire(this);
+    }
+
+    private record Waiter(Thread thread, int permits) {
+    }
+}
@@ -2,13 +2,12 @@ package dev.mfataka.locks.core.locker.simple;
 
 import java.time.Duration;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import lombok.Getter;
 
 import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.CleanupSlice;
 import dev.mfataka.locks.api.base.Lock;
 import dev.mfataka.locks.api.context.LockContext;
 import dev.mfataka.locks.api.enums.LockMode;
@@ -19,7 +18,7 @@ import dev.mfataka.locks.api.enums.LockType;
  * @author HAMMA FATAKA
  */
 public class SimpleJvmLock implements Lock<SimpleJvmLocker> {
-    private final Map<String, SimpleJvmLocker> jvmLocks = new ConcurrentHashMap<>();
+    private final LockerTable<SimpleJvmLocker> jvmLocks = new LockerTable<>(SimpleJvmLocker::new);
 
     @Getter
     private final LockContext lockContext;
@@ -35,13 +34,7 @@ public class SimpleJvmLock implements Lock<SimpleJvmLocker> {
 
     @Override
     public SimpleJvmLocker get(final String lockName) {
-        final var defaultLock = jvmLocks.get(lockName);
-        if (Objects.nonNull(defaultLock)) {
-            return defaultLock;
-        }
-        final var createdLock = new SimpleJvmLocker(lockName);
-        jvmLocks.put(lockName, createdLock);
-        return createdLock;
+        return jvmLocks.get(lockName);
     }
 
     @Override
@@ -49,18 +42,23 @@ public class SimpleJvmLock implements Lock<SimpleJvmLocker> {
         jvmLocks.remove(lockName);
     }
 
+    @Override
+    public Locker find(final String lockName) {
+        return jvmLocks.peek(lockName);
+    }
+
     public boolean exists(final String key) {
-        return jvmLocks.containsKey(key);
+        return jvmLocks.contains(key);
     }
 
     @Override
     public int clearAllLocks(final Duration maxAge) {
-        final var list = jvmLocks.values()
-                .stream()
-                .filter(Locker.expiredPredicate(maxAge))
-                .toList();
-        list.forEach(locker -> jvmLocks.remove(locker.getLockName()));
-        return list.size();
+        return clearExpiredLocks(maxAge, Integer.MAX_VALUE).cleared();
+    }
+
+    @Override
+    public CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        return jvmLocks.expire(maxAge, limit);
     }
 
     @Override
@@ -68,10 +66,7 @@ public class SimpleJvmLock implements Lock<SimpleJvmLocker> {
         return jvmLocks.values()
                 .stream()
                 .filter(SimpleJvmLocker::isReleased)
-                .mapToInt(lock -> {
-                    jvmLocks.remove(lock.getLockName());
-                    return 1;
-                })
+                .mapToInt(lock -> jvmLocks.remove(lock.getLockName()) ? 1 : 0)
                 .sum();
     }
 
@@ -89,6 +84,19 @@ public class SimpleJvmLock implements Lock<SimpleJvmLocker> {
 
     }
 
+    @Override
+    public Stream<Locker> lockers() {
+        return jvmLocks.values()
+                .stream()
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return jvmLocks.after(lockName)
+                .map(Locker.class::cast);
+    }
+
     @Override
     public LockType getLockType() {
         return LockType.LOCAL;
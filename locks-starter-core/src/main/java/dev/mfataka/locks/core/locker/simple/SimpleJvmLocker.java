@@ -14,7 +14,16 @@ public class SimpleJvmLocker extends SimpleLockSupport implements JvmLocker {
     private static final Logger log = LoggerFactory.getLogger(SimpleJvmLocker.class);
 
     public SimpleJvmLocker(final String lockName) {
-        super(log, lockName);
+        super(lockName);
+    }
+
+    SimpleJvmLocker(final String lockName, final LockerTable<SimpleJvmLocker> table) {
+        super(lockName, table);
+    }
+
+    @Override
+    protected Logger logger() {
+        return log;
     }
 
     @Override
@@ -24,6 +33,6 @@ public class SimpleJvmLocker extends SimpleLockSupport implements JvmLocker {
 
     @Override
     public long getLockElapsedTime() {
-        return lastLockedAt.get();
+        return lastLockedAt();
     }
 }
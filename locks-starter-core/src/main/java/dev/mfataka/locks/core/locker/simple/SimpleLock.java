@@ -2,13 +2,13 @@ package dev.mfataka.locks.core.locker.simple;
 
 import java.time.Duration;
 import java.util.Collection;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import lombok.Getter;
 
 import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.CleanupSlice;
 import dev.mfataka.locks.api.base.Lock;
 import dev.mfataka.locks.api.context.LockContext;
 import dev.mfataka.locks.api.enums.LockMode;
@@ -20,52 +20,70 @@ import dev.mfataka.locks.api.factory.AutoHandlerFactory;
  */
 public class SimpleLock implements Lock<SimpleLocker> {
 
-    private final Map<String, SimpleLocker> defaultLocks = new ConcurrentHashMap<>();
+    private final LockerTable<SimpleLocker> defaultLocks;
     @Getter
     private final LockContext lockContext;
 
-    private SimpleLock(final LockContext lockContext) {
+    private SimpleLock(final LockContext lockContext, final LockerTable<SimpleLocker> defaultLocks) {
         this.lockContext = lockContext;
+        this.defaultLocks = defaultLocks;
     }
 
     public static SimpleLock create(final LockContext factoryContext) {
-        return new SimpleLock(factoryContext);
+        return new SimpleLock(factoryContext, new LockerTable<>(SimpleLocker::new));
+    }
+
+    /**
+     * @return lock whose lockers are {@link ReentrantSimpleLocker}s
+     */
+    public static SimpleLock createReentrant(final LockContext factoryContext) {
+        return new SimpleLock(factoryContext, new LockerTable<>(ReentrantSimpleLocker::new));
     }
 
 
     @Override
     public SimpleLocker get(final String lockName) {
-        final var defaultLock = defaultLocks.get(lockName);
-        if (Objects.nonNull(defaultLock)) {
-            return defaultLock;
-        }
-        final var createdLock = new SimpleLocker(lockName);
-        defaultLocks.put(lockName, createdLock);
-        return createdLock;
+        return defaultLocks.get(lockName);
+    }
+
+    /**
+     * @return locker that takes the lockers of all given names at once, in name order, duplicates are locked once
+     */
+    public MultiSimpleLocker getAll(final Collection<String> lockNames) {
+        return new MultiSimpleLocker(lockNames.stream()
+                .distinct()
+                .sorted()
+                .map(this::get)
+                .toList());
     }
 
     @Override
     public void remove(final String lockName) {
-        final var simpleLocker = defaultLocks.get(lockName);
+        final var simpleLocker = defaultLocks.peek(lockName);
         if (Objects.nonNull(simpleLocker)) {
             AutoHandlerFactory.removeHandler(simpleLocker);
         }
         defaultLocks.remove(lockName);
     }
 
+    @Override
+    public Locker find(final String lockName) {
+        return defaultLocks.peek(lockName);
+    }
+
     @Override
     public boolean exists(final String lockName) {
-        return defaultLocks.containsKey(lockName);
+        return defaultLocks.contains(lockName);
     }
 
     @Override
     public int clearAllLocks(final Duration maxAge) {
-        final var list = defaultLocks.values()
-                .stream()
-                .filter(Locker.expiredPredicate(maxAge))
-                .toList();
-        list.forEach(locker -> defaultLocks.remove(locker.getLockName()));
-        return list.size();
+        return clearExpiredLocks(maxAge, Integer.MAX_VALUE).cleared();
+    }
+
+    @Override
+    public CleanupSlice clearExpiredLocks(final Duration maxAge, final int limit) {
+        return defaultLocks.expire(maxAge, limit);
     }
 
     @Override
@@ -73,10 +91,7 @@ public class SimpleLock implements Lock<SimpleLocker> {
         return defaultLocks.values()
                 .stream()
                 .filter(SimpleLocker::isReleased)
-                .mapToInt(lock -> {
-                    defaultLocks.remove(lock.getLockName());
-                    return 1;
-                })
+                .mapToInt(lock -> defaultLocks.remove(lock.getLockName()) ? 1 : 0)
                 .sum();
     }
 
@@ -93,6 +108,19 @@ public class SimpleLock implements Lock<SimpleLocker> {
                 .toList();
     }
 
+    @Override
+    public Stream<Locker> lockers() {
+        return defaultLocks.values()
+                .stream()
+                .map(Locker.class::cast);
+    }
+
+    @Override
+    public Stream<Locker> lockersAfter(final String lockName) {
+        return defaultLocks.after(lockName)
+                .map(Locker.class::cast);
+    }
+
     @Override
     public LockType getLockType() {
         return LockType.LOCAL;
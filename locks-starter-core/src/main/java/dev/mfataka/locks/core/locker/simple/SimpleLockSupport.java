@@ -1,99 +1,526 @@
 package dev.mfataka.locks.core.locker.simple;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Duration;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 
 import org.slf4j.Logger;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
-
 import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
 import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.exception.LockDeadlockException;
+import dev.mfataka.locks.core.factory.LockRegistry;
 
 /**
+ * Lock engine shared by {@link SimpleLocker} and {@link SimpleJvmLocker}.
+ * <p>
+ * Threads that cannot obtain the lock are queued in FIFO order and parked, releasing the lock unparks the head of
+ * the queue so the next waiter retries right away instead of sleeping until its timeout runs out.
+ * {@link #tryLock()} may still barge in front of queued waiters, same as a non-fair {@link java.util.concurrent.locks.ReentrantLock}.
+ * </p>
+ * <p>
+ * No monitor is held while waiting, so a parked virtual thread unmounts from its carrier instead of pinning it.
+ * </p>
+ * <p>
+ * Registries keep one locker per distinct name, so the state is kept compact: {@code state} holds the owner thread
+ * id ({@code 0} when released), {@code lockedAt} holds the epoch second of the last acquisition and the wait queue is
+ * only allocated once the lock is contended.
+ * </p>
+ * <p>
+ * With deadlock detection enabled every waiter is recorded in the {@link DeadlockDetector} before it parks.
+ * </p>
+ * <p>
+ * An acquisition taken through {@link #withLease(Duration)} keeps its {@link Lease} in {@code lease} until it is
+ * released. The {@link LeaseWheel} frees the lock once the lease runs out, every release first has to win the lease
+ * back from the wheel, so exactly one of them frees the acquisition.
+ * </p>
+ * <p>
+ * Futures of {@link #whenReleased()} are kept in {@link ReleaseListeners}, a release only checks whether any locker is
+ * watched before it looks for its own futures.
+ * </p>
+ * <p>
+ * A {@link LockerCondition} from {@link #newCondition()} keeps its own queue, the locker itself holds no condition
+ * state, its waiters release the lock through {@link #releaseForWait()} and take it back like any other thread.
+ * </p>
+ * <p>
+ * Lockers created by a reference counted {@link LockerTable} also count their holders and waiters in {@code refs} and
+ * leave the table when the count drops to zero, {@code -1} marks a locker that is no longer registered.
+ * </p>
+ *
  * @author HAMMA FATAKA
  */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class SimpleLockSupport implements BaseLocker {
-    private final AtomicBoolean locker = new AtomicBoolean(false);
-    private final AtomicLong owner = new AtomicLong();
-    private final Logger log;
+    /**
+     * number of busy-spin attempts before a waiter parks, keeps hand-off cheap for very short critical sections
+     */
+    private static final int SPINS_BEFORE_PARK = 16;
+    private static final long RELEASED = 0L;
+    private static final int RETIRED = -1;
+    /**
+     * wait of one attempt to take the lock back after a condition wait, attempts are repeated until one succeeds
+     */
+    private static final Duration REACQUIRE_WAIT = Duration.ofMinutes(1);
+    private static final ReleaseListeners RELEASE_LISTENERS = new ReleaseListeners();
+
+    private static final VarHandle STATE;
+    private static final VarHandle LOCKED_AT;
+    private static final VarHandle WAITERS;
+    private static final VarHandle REFS;
+    private static final VarHandle LEASE;
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            STATE = lookup.findVarHandle(SimpleLockSupport.class, "state", long.class);
+            LOCKED_AT = lookup.findVarHandle(SimpleLockSupport.class, "lockedAt", long.class);
+            WAITERS = lookup.findVarHandle(SimpleLockSupport.class, "waiters", Queue.class);
+            REFS = lookup.findVarHandle(SimpleLockSupport.class, "refs", int.class);
+            LEASE = lookup.findVarHandle(SimpleLockSupport.class, "lease", Lease.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     protected final String lockName;
-    protected final AtomicLong lastLockedAt = new AtomicLong();
+    private final LockerTable<? extends SimpleLockSupport> table;
+
+    @SuppressWarnings("unused")
+    private volatile long state;
+    @SuppressWarnings("unused")
+    private volatile long lockedAt;
+    @SuppressWarnings("unused")
+    private volatile Queue<Thread> waiters;
+    @SuppressWarnings("unused")
+    private volatile int refs;
+    @SuppressWarnings("unused")
+    private volatile Lease lease;
+
+    protected SimpleLockSupport(final String lockName) {
+        this(lockName, null);
+    }
+
+    SimpleLockSupport(final String lockName, final LockerTable<? extends SimpleLockSupport> table) {
+        this.lockName = lockName;
+        this.table = table;
+    }
+
+    /**
+     * @return logger of the concrete locker, kept static in subclasses so it does not cost a field per locker
+     */
+    protected abstract Logger logger();
 
     @Override
-    public synchronized boolean tryLock() {
-        final var locked = locker.compareAndSet(false, true);
-        final var threadName = Thread.currentThread().getName();
-        if (locked) {
-            lastLockedAt.set(System.currentTimeMillis() / 1000L);
-            log.debug("lock with name [{}] is locked at [{}] by current thread [{}]", lockName, lastLockedAt.get(), threadName);
-            owner.set(Thread.currentThread().getId());
+    public boolean tryLock() {
+        if (!retain()) {
+            return table.revive(this).tryLock();
+        }
+        final var locked = attempt();
+        if (!locked) {
+            unretain();
+        }
+        return locked;
+    }
+
+    private boolean attempt() {
+        final var locked = acquire();
+        final var logger = logger();
+        // guarded, the varargs array and the boxed timestamp would otherwise be allocated on every attempt
+        if (logger.isDebugEnabled()) {
+            final var threadName = Thread.currentThread().getName();
+            if (locked) {
+                logger.debug("lock with name [{}] is locked at [{}] by current thread [{}]", lockName, lastLockedAt(), threadName);
+            } else {
+                logger.debug("lock with name [{}] is not locked by current thread [{}], last locked at [{}]", lockName, threadName, lastLockedAt());
+            }
+        }
+        return locked;
+    }
+
+    @Override
+    public boolean obtainLock(final Duration timeout) throws InterruptedException {
+        return obtainLock(timeout, true);
+    }
+
+    /**
+     * @param detect whether the wait is checked by the {@link DeadlockDetector} when detection is enabled
+     */
+    private boolean obtainLock(final Duration timeout, final boolean detect) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (!retain()) {
+            return table.revive(this).obtainLock(timeout, detect);
+        }
+        return lockRetained(timeout, detect);
+    }
+
+    private boolean lockRetained(final Duration timeout, final boolean detect) throws InterruptedException {
+        var locked = false;
+        try {
+            locked = attempt() || lockWithTime(timeout, detect);
+            return locked;
+        } finally {
+            if (!locked) {
+                unretain();
+            }
+        }
+    }
+
+    private boolean lockWithTime(final Duration timeout, final boolean detect) throws InterruptedException {
+        if (timeout.isNegative() || timeout.isZero()) {
+            return false;
+        }
+        final var clock = LockClock.current();
+        final var deadline = clock.nanoTime() + timeout.toNanos();
+        if (!LockRegistry.localProperties().isVirtualThreads() && spin()) {
             return true;
         }
-        log.debug("lock with name [{}] is not locked by current thread [{}], last locked at [{}]", lockName, threadName, lastLockedAt.get());
+        final var detector = detect && LockRegistry.localProperties().isDeadlockDetection() ? LockRegistry.deadlockDetector() : null;
+        if (detector != null) {
+            detector.beforeWait(this);
+        }
+        final var current = Thread.currentThread();
+        final var queue = waitQueue();
+        queue.add(current);
+        try {
+            while (true) {
+                if (queue.peek() == current && acquire()) {
+                    logger().debug("lock with name [{}] is handed over to waiting thread [{}]", lockName, current.getName());
+                    return true;
+                }
+                final var remaining = deadline - clock.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            queue.remove(current);
+            if (detector != null) {
+                detector.afterWait();
+            }
+            if (isReleased()) {
+                // we may have consumed a wake-up meant for the head while leaving, pass it on
+                unparkNext();
+            }
+        }
+    }
+
+    private boolean spin() {
+        for (var i = 0; i < SPINS_BEFORE_PARK; i++) {
+            if (!hasQueuedThreads() && acquire()) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
         return false;
     }
 
+    private boolean acquire() {
+        if (!STATE.compareAndSet(this, RELEASED, Thread.currentThread().getId())) {
+            return false;
+        }
+        LOCKED_AT.setRelease(this, LockClock.current().epochSecond());
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Queue<Thread> waitQueue() {
+        final var existing = (Queue<Thread>) WAITERS.getAcquire(this);
+        if (existing != null) {
+            return existing;
+        }
+        final var created = new ConcurrentLinkedQueue<Thread>();
+        final var witness = (Queue<Thread>) WAITERS.compareAndExchange(this, null, created);
+        return witness == null ? created : witness;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void unparkNext() {
+        final var queue = (Queue<Thread>) WAITERS.getAcquire(this);
+        if (queue == null) {
+            return;
+        }
+        final var next = queue.peek();
+        if (next != null) {
+            LockSupport.unpark(next);
+        }
+    }
+
+    /**
+     * @param leaseTime positive time after which the lock is freed unless it was released before
+     * @return view of this locker whose acquisitions are leased
+     */
     @Override
-    public synchronized boolean obtainLock(final Duration timeout) throws InterruptedException {
+    public BaseLocker withLease(final Duration leaseTime) {
+        return new LeasedLocker(this, leaseTime);
+    }
+
+    /**
+     * @return lease of the acquisition, null when the lock was not taken
+     */
+    Lease tryLease(final Duration leaseTime) {
+        if (!retain()) {
+            return table.revive(this).tryLease(leaseTime);
+        }
+        if (!attempt()) {
+            unretain();
+            return null;
+        }
+        return lease(leaseTime);
+    }
+
+    /**
+     * @return lease of the acquisition, null when the lock was not taken within the timeout
+     */
+    Lease obtainLease(final Duration timeout, final Duration leaseTime) throws InterruptedException {
         if (Thread.interrupted()) {
             throw new InterruptedException();
         }
-        return tryLock() || lockWithTime(timeout);
+        if (!retain()) {
+            return table.revive(this).obtainLease(timeout, leaseTime);
+        }
+        return lockRetained(timeout, true) ? lease(leaseTime) : null;
+    }
+
+    private Lease lease(final Duration leaseTime) {
+        final var lease = new Lease(this, ownerId(), LockClock.current().nanoTime() + leaseTime.toNanos());
+        // published before the wheel sees it, an expiry must find the lease it clears
+        LEASE.setRelease(this, lease);
+        LockRegistry.leaseWheel().schedule(lease);
+        return lease;
+    }
+
+    /**
+     * releases the acquisition of the lease, fails when the lease already expired because the lock may belong to
+     * somebody else by now
+     */
+    boolean releaseLease(final Lease lease) {
+        if (LEASE.getAcquire(this) != lease || !unlease(lease)) {
+            return false;
+        }
+        return release(lease.owner);
     }
 
-    private synchronized boolean lockWithTime(Duration timeout) throws InterruptedException {
-        if (timeout.isNegative()) {
+    /**
+     * takes the lease back from the wheel
+     *
+     * @return false when the wheel expired it first
+     */
+    private boolean unlease(final Lease lease) {
+        if (!lease.release()) {
             return false;
         }
-        final var timeoutMillis = timeout.toMillis();
-        final var startedMillis = System.currentTimeMillis();
-        var elapsedTime = System.currentTimeMillis();
+        LEASE.compareAndSet(this, lease, null);
+        LockRegistry.leaseWheel().cancel(lease);
+        return true;
+    }
+
+    /**
+     * frees the acquisition of an expired lease, called by the wheel once it won the lease
+     */
+    void expire(final Lease lease) {
+        LEASE.compareAndSet(this, lease, null);
+        if (STATE.compareAndSet(this, lease.owner, RELEASED)) {
+            unparkNext();
+            RELEASE_LISTENERS.released(this);
+            unretain();
+            logger().warn("lease of lock with name [{}] expired, released it on behalf of thread [{}]", lockName, lease.owner);
+        }
+    }
+
+    /**
+     * @return future completed on the thread that next releases the lock, already completed when the lock is free
+     */
+    @Override
+    public CompletableFuture<Void> whenReleased() {
+        final var live = live();
+        if (live.ownerId() == RELEASED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final var released = new CompletableFuture<Void>();
+        RELEASE_LISTENERS.add(live, released);
+        if (live.ownerId() == RELEASED) {
+            // the release may have checked for listeners before this one was added
+            RELEASE_LISTENERS.released(live);
+        }
+        return released;
+    }
+
+    /**
+     * @return new condition bound to this locker, waiting on it releases the locker until the thread is signalled
+     */
+    public LockerCondition newCondition() {
+        return new LockerCondition(this);
+    }
+
+    /**
+     * fully releases the lock of the current thread before it waits on a condition
+     *
+     * @return holds of the thread to restore once it got the lock back, always {@code 1} for a lock that is not reentrant
+     */
+    int releaseForWait() {
+        final var live = live();
+        final var owner = live.ownerId();
+        if (owner != Thread.currentThread().getId()) {
+            throw new IllegalMonitorStateException("lock with name [" + lockName + "] is not held by the current thread");
+        }
+        if (LEASE.getAcquire(live) != null) {
+            // the lease would have to be dropped for the wait, the holder could not rely on it afterwards
+            throw new IllegalStateException("leased lock with name [" + lockName + "] cannot wait on a condition");
+        }
+        live.release(owner);
+        return 1;
+    }
+
+    /**
+     * takes the lock back after a condition wait, an interrupt only ends the wait once the lock is held again.
+     * <p>
+     * The waiter cannot give up the lock, the caller releases it once {@code await} returned. A deadlock found while
+     * taking it back is reported to the {@link DeadlockDetector} listeners once and the thread keeps waiting without
+     * detection, the other side of the cycle has to time out.
+     * </p>
+     *
+     * @param holds holds returned by {@link #releaseForWait()}, restored by lockers that count them
+     * @return whether the thread was interrupted while it took the lock back
+     */
+    boolean reacquireAfterWait(final int holds) {
+        var interrupted = false;
+        var detect = true;
         while (true) {
-            final var currentTimeMillis = System.currentTimeMillis();
-            elapsedTime = currentTimeMillis - startedMillis;
-            final var locked = tryLock();
-            if (locked) {
-                notifyAll();
-                return true;
-            }
-            if (elapsedTime >= timeoutMillis) {
-                notifyAll();
-                return false;
+            try {
+                if (obtainLock(REACQUIRE_WAIT, detect)) {
+                    return interrupted;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (LockDeadlockException e) {
+                detect = false;
             }
-            if (Thread.interrupted()) {
-                throw new InterruptedException();
-            }
-            wait(timeoutMillis);
         }
     }
 
     public boolean releaseLock() {
-        if (isReleased()) {
+        final var live = live();
+        if (live != this) {
+            return live.releaseLock();
+        }
+        final var owner = ownerId();
+        if (owner == RELEASED) {
             return true;
         }
-        final var releaseResult = locker.compareAndSet(true, false);
-        final var threadName = Thread.currentThread().getName();
+        final var lease = (Lease) LEASE.getAcquire(this);
+        if (lease != null && !unlease(lease)) {
+            // the wheel expired the lease and frees the lock itself
+            return false;
+        }
+        return release(owner);
+    }
+
+    private boolean release(final long owner) {
+        final var releaseResult = STATE.compareAndSet(this, owner, RELEASED);
         if (releaseResult) {
-            log.debug("lock with name [{}] is released by current thread [{}]", lockName, threadName);
+            unparkNext();
+            RELEASE_LISTENERS.released(this);
+            unretain();
+            logger().debug("lock with name [{}] is released by current thread [{}]", lockName, Thread.currentThread().getName());
             return true;
         }
-        log.debug("lock with name [{}] cannot be released by current thread [{}], last locked at [{}] by [{}]", lockName, threadName, lastLockedAt.get(), owner.get());
+        if (logger().isDebugEnabled()) {
+            logger().debug("lock with name [{}] cannot be released by current thread [{}], last locked at [{}] by [{}]", lockName, Thread.currentThread().getName(), lastLockedAt(), ownerId());
+        }
         return false;
     }
 
+    /**
+     * counts the calling thread as holder or waiter, fails once the locker was dropped from its table
+     */
+    private boolean retain() {
+        if (table == null) {
+            return true;
+        }
+        var current = (int) REFS.getVolatile(this);
+        while (current != RETIRED) {
+            final var witness = (int) REFS.compareAndExchange(this, current, current + 1);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private void unretain() {
+        if (table != null && (int) REFS.getAndAdd(this, -1) == 1) {
+            table.evict(this);
+        }
+    }
+
+    /**
+     * marks the locker as no longer registered, called by the table while it holds the bin of this name
+     */
+    boolean retire() {
+        return ownerId() == RELEASED && REFS.compareAndSet(this, 0, RETIRED);
+    }
+
+    void revive() {
+        REFS.setVolatile(this, 0);
+    }
+
+    boolean isReferenceCounted() {
+        return table != null;
+    }
+
+    /**
+     * @return locker registered under this name, differs from this locker only after it was dropped from its table
+     */
+    protected SimpleLockSupport live() {
+        if (table == null || (int) REFS.getVolatile(this) != RETIRED) {
+            return this;
+        }
+        final var registered = table.peek(lockName);
+        return registered == null ? this : registered;
+    }
+
+    /**
+     * @return whether there are threads parked waiting for this lock
+     */
+    @SuppressWarnings("unchecked")
+    public boolean hasQueuedThreads() {
+        final var queue = (Queue<Thread>) WAITERS.getAcquire(this);
+        return queue != null && !queue.isEmpty();
+    }
+
+    /**
+     * @return id of the thread holding the lock, {@code 0} when released
+     */
+    protected long ownerId() {
+        return (long) STATE.getVolatile(this);
+    }
+
+    /**
+     * @return epoch second of the last successful acquisition
+     */
+    protected long lastLockedAt() {
+        return (long) LOCKED_AT.getAcquire(this);
+    }
+
     @Override
     public boolean isLockedByCurrentThread() {
-        return owner.get() == Thread.currentThread().getId();
+        return live().ownerId() == Thread.currentThread().getId();
     }
 
     @Override
     public boolean isLocked() {
-        return locker.get();
+        return live().ownerId() != RELEASED;
     }
 
 
@@ -15,7 +15,16 @@ public class SimpleLocker extends SimpleLockSupport {
     private static final Logger log = LoggerFactory.getLogger(SimpleLocker.class);
 
     SimpleLocker(final String lockName) {
-        super(log, lockName);
+        super(lockName);
+    }
+
+    SimpleLocker(final String lockName, final LockerTable<SimpleLocker> table) {
+        super(lockName, table);
+    }
+
+    @Override
+    protected Logger logger() {
+        return log;
     }
 
     @Override
@@ -33,7 +42,7 @@ public class SimpleLocker extends SimpleLockSupport {
 
     @Override
     public long getLockElapsedTime() {
-        return lastLockedAt.get();
+        return lastLockedAt();
     }
 
 
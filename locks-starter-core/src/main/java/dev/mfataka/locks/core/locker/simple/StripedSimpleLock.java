@@ -0,0 +1,219 @@
+package dev.mfataka.locks.core.locker.simple;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * Fixed table of {@link SimpleLocker} stripes, a lock name is mapped onto a stripe by its hash.
+ * <p>
+ * Nothing is allocated or looked up per name, memory stays constant no matter how many names are used. Two names
+ * landing on the same stripe exclude each other, the per-stripe contention counters help to pick a stripe count
+ * that keeps such false conflicts rare.
+ * </p>
+ * <p>
+ * The stripe count is fixed once a stripe was handed out, threads holding a stripe of the old table would not
+ * exclude threads locking the same name on a resized one.
+ * </p>
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+public class StripedSimpleLock implements Lock<SimpleLocker> {
+    public static final int DEFAULT_STRIPES = 64;
+    private static final int MAX_STRIPES = 1 << 16;
+    private static final String STRIPE_SEPARATOR = "#stripe-";
+
+    private final Stripe[] stripes;
+    private final AtomicLongArray contention;
+    private final int mask;
+    @Getter
+    private final LockContext lockContext;
+    private volatile boolean handedOut;
+
+    private StripedSimpleLock(final LockContext lockContext, final int stripeCount) {
+        this.lockContext = lockContext;
+        this.stripes = new Stripe[stripeCount];
+        this.contention = new AtomicLongArray(stripeCount);
+        this.mask = stripeCount - 1;
+        for (var i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(lockContext.factoryName() + STRIPE_SEPARATOR + i, i, contention);
+        }
+    }
+
+    /**
+     * @param stripes requested number of stripes, rounded up to the next power of two
+     */
+    public static StripedSimpleLock create(final LockContext factoryContext, final int stripes) {
+        return new StripedSimpleLock(factoryContext, tableSizeFor(stripes));
+    }
+
+    public static int tableSizeFor(final int stripes) {
+        if (stripes <= 1) {
+            return 1;
+        }
+        return Math.min(MAX_STRIPES, Integer.highestOneBit(stripes - 1) << 1);
+    }
+
+    /**
+     * @return this lock when it already has the requested number of stripes or already handed out a stripe, otherwise
+     * a new one with the same context
+     */
+    public StripedSimpleLock resize(final int stripes) {
+        final var stripeCount = tableSizeFor(stripes);
+        if (stripeCount == stripeCount()) {
+            return this;
+        }
+        if (handedOut) {
+            log.warn("striped lock [{}] keeps [{}] stripes instead of [{}], its stripes are already in use", lockContext.factoryName(), stripeCount(), stripeCount);
+            return this;
+        }
+        return create(lockContext, stripes);
+    }
+
+    @Override
+    public SimpleLocker get(final String lockName) {
+        return handOut()[stripeOf(lockName)];
+    }
+
+    public int stripeOf(final String lockName) {
+        final var hash = lockName.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * @return number of acquisitions that found the stripe already locked
+     */
+    public long contention(final int stripe) {
+        return contention.get(stripe);
+    }
+
+    /**
+     * @return snapshot of {@link #contention(int)} for every stripe, indexed by stripe
+     */
+    public long[] contention() {
+        final var snapshot = new long[stripes.length];
+        for (var i = 0; i < snapshot.length; i++) {
+            snapshot[i] = contention.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * stripes are fixed, there is nothing to remove
+     */
+    @Override
+    public void remove(final String lockName) {
+    }
+
+    /**
+     * @return stripe whose own name is the given one, names mapped onto stripes are not registered
+     */
+    @Override
+    public Locker find(final String lockName) {
+        final var prefix = lockContext.factoryName() + STRIPE_SEPARATOR;
+        if (!lockName.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            final var index = Integer.parseInt(lockName.substring(prefix.length()));
+            return index >= 0 && index < stripes.length ? handOut()[index] : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return whether the name is the own name of a stripe, as {@link #find(String)} resolves it, names mapped onto
+     * stripes are not registered
+     */
+    @Override
+    public boolean exists(final String lockName) {
+        return find(lockName) != null;
+    }
+
+    @Override
+    public int clearAllLocks(final Duration maxAge) {
+        return 0;
+    }
+
+    @Override
+    public int clearAllLocks() {
+        return 0;
+    }
+
+    @Override
+    public int existingLocksCount() {
+        return stripes.length;
+    }
+
+    @Override
+    public Collection<Locker> getLockers() {
+        return List.of(handOut());
+    }
+
+    @Override
+    public Stream<Locker> lockers() {
+        return Stream.of(handOut());
+    }
+
+    @Override
+    public LockType getLockType() {
+        return LockType.LOCAL;
+    }
+
+    @Override
+    public LockMode getLockMode() {
+        return LockMode.BLOCKING;
+    }
+
+    private Stripe[] handOut() {
+        if (!handedOut) {
+            handedOut = true;
+        }
+        return stripes;
+    }
+
+    private static final class Stripe extends SimpleLocker {
+        private final int index;
+        private final AtomicLongArray contention;
+
+        private Stripe(final String lockName, final int index, final AtomicLongArray contention) {
+            super(lockName);
+            this.index = index;
+            this.contention = contention;
+        }
+
+        @Override
+        public boolean tryLock() {
+            final var locked = super.tryLock();
+            if (!locked) {
+                contention.incrementAndGet(index);
+            }
+            return locked;
+        }
+
+        @Override
+        public boolean obtainLock(final Duration timeout) throws InterruptedException {
+            if (isLocked()) {
+                contention.incrementAndGet(index);
+            }
+            return super.obtainLock(timeout);
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package dev.mfataka.locks.core.resolver;
 
 import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.RequiredArgsConstructor;
 
 import dev.mfataka.locks.api.annotation.DistributedLocked;
+import dev.mfataka.locks.api.annotation.HostLocked;
+import dev.mfataka.locks.api.annotation.LockedAttributes;
 import dev.mfataka.locks.api.annotation.SimpleLocked;
+import dev.mfataka.locks.api.annotation.SimpleMultiLocked;
+import dev.mfataka.locks.api.annotation.SimpleReadLocked;
+import dev.mfataka.locks.api.annotation.SimpleWriteLocked;
 import dev.mfataka.locks.api.annotation.ReactiveDistributedLocked;
 import dev.mfataka.locks.api.annotation.ReactiveLocked;
+import dev.mfataka.locks.core.descriptor.LockAccess;
 import dev.mfataka.locks.core.descriptor.LockDescriptor;
 import dev.mfataka.locks.api.enums.LockMode;
 import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.core.locker.simple.ReadWritePolicy;
 import dev.mfataka.locks.core.spel.SpelExpressionEvaluator;
 
 /**
@@ -19,19 +28,55 @@ import dev.mfataka.locks.core.spel.SpelExpressionEvaluator;
 @RequiredArgsConstructor
 public class LockMetadataResolver {
     protected final SpelExpressionEvaluator expressionEvaluator;
+    private final Set<Method> validated = ConcurrentHashMap.newKeySet();
 
+    /**
+     * @throws IllegalStateException    when the method has no lock annotation or its attributes cannot be combined
+     * @throws IllegalArgumentException when the names of a multi lock are empty or contain null
+     */
     public LockDescriptor resolve(Method method, Object[] args) {
         if (method.isAnnotationPresent(SimpleLocked.class)) {
 
             final var annotation = method.getAnnotation(SimpleLocked.class);
+            validate(method, annotation);
             final var lockName = getLockName(method, args, annotation.value());
-            return new LockDescriptor(lockName, annotation.waitFor(), annotation.timeUnit(), LockType.LOCAL, LockMode.BLOCKING);
+            return new LockDescriptor(lockName, annotation.waitFor(), annotation.timeUnit(), LockType.LOCAL, LockMode.BLOCKING)
+                    .withStriped(annotation.striped())
+                    .withReentrant(annotation.reentrant())
+                    .withPermits(annotation.permits())
+                    .withLeaseTime(annotation.leaseTime());
+
+        } else if (method.isAnnotationPresent(SimpleMultiLocked.class)) {
+
+            final var annotation = method.getAnnotation(SimpleMultiLocked.class);
+            final var lockNames = expressionEvaluator.evaluateAll(annotation.value(), method, args);
+            try {
+                return LockDescriptor.forMulti(lockNames, annotation.waitFor(), annotation.timeUnit());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("@SimpleMultiLocked(\"" + annotation.value() + "\") on method " + method.getDeclaringClass().getSimpleName() + "." + method.getName() + ": "
+                        + e.getMessage(), e);
+            }
+
+        } else if (method.isAnnotationPresent(SimpleReadLocked.class)) {
+
+            final var annotation = method.getAnnotation(SimpleReadLocked.class);
+            final var lockName = getLockName(method, args, annotation.value());
+            final var policy = ReadWritePolicy.of(annotation.fair(), annotation.writerPreference());
+            return LockDescriptor.forReadWrite(lockName, annotation.waitFor(), annotation.timeUnit(), LockAccess.READ, policy);
+
+        } else if (method.isAnnotationPresent(SimpleWriteLocked.class)) {
+
+            final var annotation = method.getAnnotation(SimpleWriteLocked.class);
+            final var lockName = getLockName(method, args, annotation.value());
+            final var policy = ReadWritePolicy.of(annotation.fair(), annotation.writerPreference());
+            return LockDescriptor.forReadWrite(lockName, annotation.waitFor(), annotation.timeUnit(), LockAccess.WRITE, policy);
 
         } else if (method.isAnnotationPresent(ReactiveLocked.class)) {
 
             final var annotation = method.getAnnotation(ReactiveLocked.class);
             final var lockName = getLockName(method, args, annotation.value());
-            return new LockDescriptor(lockName, annotation.waitFor(), annotation.timeUnit(), LockType.LOCAL, LockMode.REACTIVE);
+            return new LockDescriptor(lockName, annotation.waitFor(), annotation.timeUnit(), LockType.LOCAL, LockMode.REACTIVE)
+                    .withLeaseTime(annotation.leaseTime());
 
         } else if (method.isAnnotationPresent(DistributedLocked.class)) {
 
@@ -45,10 +90,29 @@ public class LockMetadataResolver {
             final var lockName = getLockName(method, args, annotation.value());
             return new LockDescriptor(lockName, annotation.waitFor(), annotation.timeUnit(), LockType.DISTRIBUTED, LockMode.REACTIVE);
 
+        } else if (method.isAnnotationPresent(HostLocked.class)) {
+
+            final var annotation = method.getAnnotation(HostLocked.class);
+            final var lockName = getLockName(method, args, annotation.value());
+            return new LockDescriptor(lockName, annotation.waitFor(), annotation.timeUnit(), LockType.HOST, LockMode.BLOCKING);
+
         }
         throw new IllegalStateException("No supported lock annotation found on method: " + method.getName());
     }
 
+    /**
+     * checks the attributes on the first call of the method only, they cannot change afterwards
+     */
+    private void validate(final Method method, final SimpleLocked annotation) {
+        if (validated.contains(method)) {
+            return;
+        }
+        LockedAttributes.conflictOf(annotation).ifPresent(conflict -> {
+            throw new IllegalStateException("@SimpleLocked on method " + method.getDeclaringClass().getSimpleName() + "." + method.getName() + ": " + conflict);
+        });
+        validated.add(method);
+    }
+
     private String getLockName(final Method method, final Object[] args, final String name) {
         return expressionEvaluator.evaluate(name, method, args);
     }
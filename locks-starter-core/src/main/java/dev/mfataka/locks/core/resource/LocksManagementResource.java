@@ -1,13 +1,20 @@
 package dev.mfataka.locks.core.resource;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,7 +25,11 @@ import dev.mfataka.locks.api.enums.LockMode;
 import dev.mfataka.locks.api.enums.LockType;
 import dev.mfataka.locks.core.descriptor.LockDescriptor;
 import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.reactive.LockIoScheduler;
+import dev.mfataka.locks.core.locker.simple.DeadlockCycle;
 import dev.mfataka.locks.core.service.LockCleanerService;
+import dev.mfataka.locks.core.snapshot.LockerFilter;
+import dev.mfataka.locks.core.snapshot.LockerPage;
 
 /**
  * @author HAMMA FATAKA
@@ -28,7 +39,10 @@ import dev.mfataka.locks.core.service.LockCleanerService;
 @Conditional(LocksEnabledCondition.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class LocksManagementResource {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final LockCleanerService lockCleanerService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping(path = "/existing/locks")
     public ResponseEntity<List<LockContext>> existingLocks() {
@@ -40,6 +54,63 @@ public class LocksManagementResource {
         return ResponseEntity.ok(LockRegistry.existingLockers());
     }
 
+    /**
+     * pass the returned {@code nextCursor} as {@code cursor} to read the next page, the limit is capped at {@value #MAX_PAGE_SIZE}
+     */
+    @GetMapping(path = "/existing/lockers/page")
+    public ResponseEntity<LockerPage> existingLockersPage(@RequestParam(required = false) final String cursor,
+                                                          @RequestParam(defaultValue = "100") final int limit,
+                                                          @RequestParam(required = false) final LockType type,
+                                                          @RequestParam(required = false) final LockMode mode,
+                                                          @RequestParam(required = false) final String prefix,
+                                                          @RequestParam(required = false) final Duration minAge) {
+        final var filter = new LockerFilter(type, mode, prefix, minAge);
+        return ResponseEntity.ok(LockRegistry.lockerPage(filter, cursor, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * writes one JSON line per locker while the lockers are read, nothing is collected in memory
+     */
+    @GetMapping(path = "/existing/lockers/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamExistingLockers(@RequestParam(required = false) final LockType type,
+                                                                       @RequestParam(required = false) final LockMode mode,
+                                                                       @RequestParam(required = false) final String prefix,
+                                                                       @RequestParam(required = false) final Duration minAge) {
+        final var filter = new LockerFilter(type, mode, prefix, minAge);
+        final StreamingResponseBody body = output -> {
+            try (final var snapshots = LockRegistry.lockerSnapshots(filter)) {
+                final var iterator = snapshots.iterator();
+                while (iterator.hasNext()) {
+                    output.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    output.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(path = "/deadlocks")
+    public ResponseEntity<DeadlockStatistics> deadlocks() {
+        final var detector = LockRegistry.deadlockDetector();
+        final var enabled = LockRegistry.localProperties().isDeadlockDetection();
+        return ResponseEntity.ok(new DeadlockStatistics(enabled, detector.getDetectedCount(), detector.getWaitingCount(), detector.getLastCycle()));
+    }
+
+    public record DeadlockStatistics(boolean enabled, long detected, int waiting, DeadlockCycle lastCycle) {
+    }
+
+    @GetMapping(path = "/lock-io")
+    public ResponseEntity<LockIoScheduler.Statistics> lockIo() {
+        return ResponseEntity.ok(LockRegistry.lockIoScheduler().statistics());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(final IllegalArgumentException exception) {
+        return ResponseEntity.badRequest().body(exception.getMessage());
+    }
+
     @GetMapping(path = "/clean/reactive/")
     public ResponseEntity<String> cleanReactive() {
         final var descriptor = LockDescriptor.forClean(LockType.LOCAL, LockMode.REACTIVE);
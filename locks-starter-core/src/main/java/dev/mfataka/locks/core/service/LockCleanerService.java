@@ -1,6 +1,10 @@
 package dev.mfataka.locks.core.service;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.annotation.PostConstruct;
 
@@ -10,12 +14,20 @@ import org.springframework.scheduling.support.PeriodicTrigger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import dev.mfataka.locks.api.base.Lock;
 import dev.mfataka.locks.api.utils.LoggingUtils;
 import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
 import dev.mfataka.locks.core.descriptor.LockDescriptor;
 import dev.mfataka.locks.core.factory.StandardReliableLocks;
 
 /**
+ * Removes the lockers not locked within {@code locks.starter.max-age} every {@code locks.starter.cleanup-interval}.
+ * <p>
+ * A cleanup visits at most {@code locks.starter.cleanup-slice} lockers per task, when expired lockers are left it
+ * schedules the next slice as a new task, so other tasks of the scheduler run in between. A cleanup that is still
+ * slicing when the next interval comes up is not started twice.
+ * </p>
+ *
  * @author HAMMA FATAKA
  */
 @Slf4j
@@ -24,6 +36,7 @@ public class LockCleanerService {
     private final LocksCorePropertyConfig locksCorePropertyConfig;
     private final StandardReliableLocks standardReliableLocks;
     private final TaskScheduler threadPoolTaskScheduler;
+    private final AtomicBoolean cleaning = new AtomicBoolean();
     private LoggingUtils loggingUtils;
 
 
@@ -41,9 +54,46 @@ public class LockCleanerService {
     }
 
     public void cleanAllExpired() {
-        final var cleaned = standardReliableLocks.cleanAll(locksCorePropertyConfig.getMaxAge());
-        loggingUtils.debugIfEnabled("cleaned {} expired locks", cleaned);
+        if (!cleaning.compareAndSet(false, true)) {
+            loggingUtils.debugIfEnabled("previous cleanup is still running, skipping this one");
+            return;
+        }
+        final var pending = new ArrayDeque<Lock<?>>();
+        standardReliableLocks.getLockFactories()
+                .values()
+                .stream()
+                .filter(lock -> lock.getLockContext().isCleanable())
+                .forEach(pending::add);
+        cleanSlice(pending, 0);
+    }
 
+    /**
+     * cleans the pending factories until the slice is used up, the factory that stopped at the limit stays first
+     */
+    private void cleanSlice(final Deque<Lock<?>> pending, final int cleanedBefore) {
+        var cleaned = cleanedBefore;
+        var budget = Math.max(locksCorePropertyConfig.getCleanupSlice(), 1);
+        try {
+            while (budget > 0 && !pending.isEmpty()) {
+                final var slice = pending.peek().clearExpiredLocks(locksCorePropertyConfig.getMaxAge(), budget);
+                cleaned += slice.cleared();
+                budget -= slice.visited();
+                if (slice.complete()) {
+                    pending.poll();
+                }
+            }
+        } catch (RuntimeException e) {
+            cleaning.set(false);
+            log.warn("cleanup of expired locks failed after cleaning {} locks", cleaned, e);
+            return;
+        }
+        if (pending.isEmpty()) {
+            cleaning.set(false);
+            loggingUtils.debugIfEnabled("cleaned {} expired locks", cleaned);
+            return;
+        }
+        final var total = cleaned;
+        threadPoolTaskScheduler.schedule(() -> cleanSlice(pending, total), Instant.now());
     }
 
     public int clean(final LockDescriptor descriptor) {
@@ -4,6 +4,7 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -141,8 +142,33 @@ public class SimpleJdbcService implements JdbcService {
         return elapsedTime != null ? elapsedTime : 0;
     }
 
+    @Override
+    public Long lockedAt(final String lockName) {
+        final var parameters = new MapSqlParameterSource()
+                .addValue("name", lockName);
+        return jdbcTemplate.query("SELECT locked_at FROM distributed_locks WHERE name = :name", parameters, (rs, rowNum) -> rs.getLong(1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
     @Override
     public List<Locker> findAll(final LockMode lockMode) {
         return jdbcTemplate.query("SELECT * FROM distributed_locks", new HashMap<>(), (rs, rowNum) -> Locker.jdbcLocker(rs.getString(1), rs.getLong(3), lockMode));
     }
+
+    /**
+     * keyset read on the primary key, so resuming after a name does not scan the rows before it. Runs outside of a
+     * transaction, a transaction would be committed and hand its connection back before the caller reads the rows.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Stream<Locker> streamAfter(final LockMode lockMode, final String afterName) {
+        final var parameters = new MapSqlParameterSource()
+                .addValue("after", afterName);
+        final var sql = afterName == null
+                ? "SELECT name, locked_at FROM distributed_locks ORDER BY name"
+                : "SELECT name, locked_at FROM distributed_locks WHERE name > :after ORDER BY name";
+        return jdbcTemplate.queryForStream(sql, parameters, (rs, rowNum) -> Locker.jdbcLocker(rs.getString(1), rs.getLong(2), lockMode));
+    }
 }
@@ -0,0 +1,150 @@
+package dev.mfataka.locks.core.service;
+
+import java.time.Duration;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.exception.LockOperationException;
+import dev.mfataka.locks.api.service.R2dbcService;
+
+
+/**
+ * R2DBC access to the {@code distributed_locks} table of {@link SimpleJdbcService}, both services may share one table.
+ * Every statement runs in its own auto-committed transaction, like the {@code REQUIRES_NEW} ones of the JDBC service.
+ *
+ * @author HAMMA FATAKA
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SimpleR2dbcService implements R2dbcService {
+    private static final String LOCK_TABLE = "distributed_locks";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * blocks until the table exists, it runs once while the context starts and not on an event loop
+     */
+    @PostConstruct
+    public void init() throws LockOperationException {
+        ensureLockTableExists().block();
+    }
+
+    @Override
+    public Mono<Void> ensureLockTableExists() {
+        return databaseClient.sql("CREATE TABLE IF NOT EXISTS distributed_locks (name VARCHAR(100) PRIMARY KEY, owner VARCHAR(100), locked_at int)")
+                .then()
+                .doOnSubscribe(subscription -> log.info("Checking if distributed_lock table exists"))
+                .onErrorMap(e -> new LockOperationException(LOCK_TABLE, "Failed to ensure lock table exists", e));
+    }
+
+    @Override
+    public Mono<Boolean> insertLock(final String name, final String ownerId) {
+        return databaseClient.sql("INSERT INTO distributed_locks (name, owner, locked_at) VALUES (:name, :owner, UNIX_TIMESTAMP())")
+                .bind("name", name)
+                .bind("owner", ownerId)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0)
+                .onErrorResume(DataIntegrityViolationException.class, e -> Mono.just(false));
+    }
+
+    @Override
+    public Mono<Boolean> isLocked(final String name) {
+        return databaseClient.sql("SELECT COUNT(*) FROM distributed_locks WHERE name = :name")
+                .bind("name", name)
+                .map(row -> row.get(0, Number.class))
+                .one()
+                .map(count -> count.longValue() > 0)
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<Boolean> isLockedBy(final String name, final String ownerId) {
+        return databaseClient.sql("SELECT COUNT(*) FROM distributed_locks WHERE name = :name AND owner = :owner")
+                .bind("name", name)
+                .bind("owner", ownerId)
+                .map(row -> row.get(0, Number.class))
+                .one()
+                .map(count -> count.longValue() > 0)
+                .defaultIfEmpty(false);
+    }
+
+    @Override
+    public Mono<Boolean> deleteLock(final String name, final String ownerId) {
+        return databaseClient.sql("DELETE FROM distributed_locks WHERE name = :name AND owner = :owner")
+                .bind("name", name)
+                .bind("owner", ownerId)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Long> deleteLock(final String name) {
+        return databaseClient.sql("DELETE FROM distributed_locks WHERE name = :name")
+                .bind("name", name)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> cleanExpiredLocks(final Duration maxAge) {
+        return databaseClient.sql("DELETE FROM distributed_locks WHERE locked_at < (UNIX_TIMESTAMP() - :time_to_check)")
+                .bind("time_to_check", maxAge.getSeconds())
+                .fetch()
+                .rowsUpdated()
+                .doOnNext(removed -> {
+                    if (removed > 0) {
+                        log.info("Expired lock cleanup: removed {} stale locks", removed);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Long> existingLocksCount() {
+        return databaseClient.sql("SELECT COUNT(*) FROM distributed_locks")
+                .map(row -> row.get(0, Number.class))
+                .one()
+                .map(Number::longValue)
+                .defaultIfEmpty(0L);
+    }
+
+    @Override
+    public Mono<Long> deleteAllLocks() {
+        return databaseClient.sql("DELETE FROM distributed_locks")
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> lockedAt(final String lockName) {
+        return databaseClient.sql("SELECT locked_at FROM distributed_locks WHERE name = :name")
+                .bind("name", lockName)
+                .map(row -> row.get(0, Number.class))
+                .one()
+                .map(Number::longValue);
+    }
+
+    /**
+     * keyset read on the primary key, so resuming after a name does not scan the rows before it
+     */
+    @Override
+    public Flux<Locker> findAfter(final LockMode lockMode, final String afterName) {
+        final var statement = afterName == null
+                ? databaseClient.sql("SELECT name, locked_at FROM distributed_locks ORDER BY name")
+                : databaseClient.sql("SELECT name, locked_at FROM distributed_locks WHERE name > :after ORDER BY name").bind("after", afterName);
+        return statement.map(row -> Locker.jdbcLocker(row.get(0, String.class), row.get(1, Number.class).longValue(), lockMode))
+                .all();
+    }
+}
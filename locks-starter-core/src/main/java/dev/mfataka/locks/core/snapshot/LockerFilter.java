@@ -0,0 +1,40 @@
+package dev.mfataka.locks.core.snapshot;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * Criteria of a locker listing, a criterion left null matches every locker.
+ *
+ * @param lockType   type of the factory the locker belongs to
+ * @param lockMode   mode of the factory the locker belongs to
+ * @param namePrefix prefix the locker name has to start with
+ * @param minAge     minimal time since the locker was last locked
+ * @author HAMMA FATAKA
+ */
+public record LockerFilter(LockType lockType, LockMode lockMode, String namePrefix, Duration minAge) {
+
+    public static LockerFilter all() {
+        return new LockerFilter(null, null, null, null);
+    }
+
+    /**
+     * type and mode are decided per factory, so factories that cannot match are not iterated at all
+     */
+    public boolean accepts(final Lock<?> lock) {
+        return (lockType == null || lock.getLockType() == lockType) && (lockMode == null || lock.getLockMode() == lockMode);
+    }
+
+    /**
+     * @return predicate over the lockers of an accepted factory, the age threshold is computed once per listing
+     */
+    public Predicate<Locker> lockerPredicate() {
+        final Predicate<Locker> byName = namePrefix == null ? locker -> true : locker -> locker.getLockName().startsWith(namePrefix);
+        return minAge == null ? byName : byName.and(Locker.expiredPredicate(minAge));
+    }
+}
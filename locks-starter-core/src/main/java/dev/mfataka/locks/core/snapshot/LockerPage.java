@@ -0,0 +1,88 @@
+package dev.mfataka.locks.core.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import dev.mfataka.locks.api.base.Lock;
+
+/**
+ * One page of a locker listing ordered by factory name and then by locker name.
+ * <p>
+ * The cursor is an opaque token of the last returned factory and locker name, the next page resumes right after them
+ * through {@link Lock#lockersAfter(String)}, so the distributed table is read from the primary key on instead of from
+ * the beginning. Lockers created or removed between two pages show up or disappear according to their names.
+ * </p>
+ *
+ * @param lockers    lockers of this page
+ * @param nextCursor cursor of the next page, null when this is the last page
+ * @author HAMMA FATAKA
+ */
+public record LockerPage(List<LockerSnapshot> lockers, String nextCursor) {
+    private static final char SEPARATOR = '\n';
+
+    public static LockerPage read(final Collection<Lock<?>> factories, final LockerFilter filter, final String cursor, final int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("page limit must be positive, was " + limit);
+        }
+        final var position = Position.decode(cursor);
+        final var predicate = filter.lockerPredicate();
+        final var ordered = factories.stream()
+                .filter(filter::accepts)
+                .sorted(Comparator.comparing(lock -> lock.getLockContext().factoryName()))
+                .toList();
+        final var lockers = new ArrayList<LockerSnapshot>();
+        for (final var lock : ordered) {
+            final var factoryName = lock.getLockContext().factoryName();
+            final var comparison = position == null ? 1 : factoryName.compareTo(position.factoryName());
+            if (comparison < 0) {
+                continue;
+            }
+            final var remaining = limit - lockers.size();
+            // one locker more than needed tells whether there is a next page
+            final List<LockerSnapshot> taken;
+            try (final var stream = lock.lockersAfter(comparison == 0 ? position.lockName() : null)) {
+                taken = stream.filter(predicate)
+                        .limit(remaining + 1L)
+                        .map(locker -> LockerSnapshot.of(lock, locker))
+                        .toList();
+            }
+            if (taken.size() > remaining) {
+                lockers.addAll(taken.subList(0, remaining));
+                final var last = lockers.get(lockers.size() - 1);
+                return new LockerPage(lockers, new Position(last.factoryName(), last.lockName()).encode());
+            }
+            lockers.addAll(taken);
+        }
+        return new LockerPage(lockers, null);
+    }
+
+    private record Position(String factoryName, String lockName) {
+
+        private String encode() {
+            final var raw = factoryName + SEPARATOR + lockName;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Position decode(final String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            final byte[] decoded;
+            try {
+                decoded = Base64.getUrlDecoder().decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("malformed cursor " + cursor, e);
+            }
+            final var raw = new String(decoded, StandardCharsets.UTF_8);
+            final var separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("malformed cursor " + cursor);
+            }
+            return new Position(raw.substring(0, separator), raw.substring(separator + 1));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.mfataka.locks.core.snapshot;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+
+/**
+ * Immutable view of a locker as listed by the management API.
+ *
+ * @param factoryName name of the factory holding the locker
+ * @param lockName    name of the locker
+ * @param lockedAt    epoch second of the last acquisition
+ * @author HAMMA FATAKA
+ */
+public record LockerSnapshot(String factoryName, String lockName, LockType lockType, LockMode lockMode, long lockedAt) {
+
+    public static LockerSnapshot of(final Lock<?> lock, final Locker locker) {
+        return new LockerSnapshot(lock.getLockContext().factoryName(), locker.getLockName(), lock.getLockType(), lock.getLockMode(), locker.getLockElapsedTime());
+    }
+}
@@ -1,6 +1,9 @@
 package dev.mfataka.locks.core.spel;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.core.StandardReflectionParameterNameDiscoverer;
@@ -22,6 +25,35 @@ public class SpelExpressionEvaluator {
         if (!isSpelExpression(expression)) {
             return expression;
         }
+        final var parsedExpression = parser.parseExpression(expression);
+        return parsedExpression.getValue(createContext(method, args), String.class);
+    }
+
+    /**
+     * evaluates an expression that yields a collection or an array, every element becomes a name
+     *
+     * @return names in iteration order, a single name when the expression is not a spel expression or yields a single value,
+     * no name when it yields null, null elements stay null
+     */
+    public List<String> evaluateAll(final String expression, final Method method, final Object[] args) {
+        if (!isSpelExpression(expression)) {
+            return List.of(expression);
+        }
+        final var value = parser.parseExpression(expression).getValue(createContext(method, args));
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(SpelExpressionEvaluator::nameOf).toList();
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.stream(array).map(SpelExpressionEvaluator::nameOf).toList();
+        }
+        return value == null ? List.of() : List.of(String.valueOf(value));
+    }
+
+    private static String nameOf(final Object element) {
+        return element == null ? null : String.valueOf(element);
+    }
+
+    private StandardEvaluationContext createContext(final Method method, final Object[] args) {
         final var context = new StandardEvaluationContext();
 
         final var paramNames = paramDiscoverer.getParameterNames(method);
@@ -30,9 +62,7 @@ public class SpelExpressionEvaluator {
                 context.setVariable(paramNames[i], args[i]);
             }
         }
-
-        final var parsedExpression = parser.parseExpression(expression);
-        return parsedExpression.getValue(context, String.class);
+        return context;
     }
 
     public boolean isSpelExpression(String expression) {
@@ -5,6 +5,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import lombok.RequiredArgsConstructor;
 
 import dev.mfataka.locks.api.exception.LockOperationException;
+import dev.mfataka.locks.core.descriptor.LockAccess;
 import dev.mfataka.locks.core.descriptor.LockDescriptor;
 import dev.mfataka.locks.core.factory.StandardReliableLocks;
 
@@ -22,12 +23,31 @@ public class BlockingLockExecutor extends UnifiedStrategySupport {
                 if (descriptor.lockType().isDistributed()) {
                     yield standardReliableLocks.createDistributed(descriptor.name());
                 }
+                if (descriptor.lockType().isHost()) {
+                    yield standardReliableLocks.createHost(descriptor.name());
+                }
+                if (descriptor.multi()) {
+                    yield standardReliableLocks.createMulti(descriptor.names());
+                }
+                if (descriptor.access().isReadWrite()) {
+                    final var readWriteLocker = standardReliableLocks.createReadWrite(descriptor.name(), descriptor.readWritePolicy());
+                    yield descriptor.access() == LockAccess.READ ? readWriteLocker.readLock() : readWriteLocker.writeLock();
+                }
+                if (descriptor.isShared()) {
+                    yield standardReliableLocks.createSemaphore(descriptor.name(), descriptor.permits());
+                }
+                if (descriptor.striped()) {
+                    yield standardReliableLocks.createStriped(descriptor.name());
+                }
+                if (descriptor.reentrant()) {
+                    yield standardReliableLocks.createReentrant(descriptor.name());
+                }
                 yield standardReliableLocks.createSimple(descriptor.name());
 
             }
             case REACTIVE -> throw new IllegalStateException("FATAL: Lock mode must not be reactive");
         };
-        return executeCriticalSection(pjp, descriptor, lock);
+        return executeCriticalSection(pjp, descriptor, descriptor.isLeased() ? lock.withLease(descriptor.getLeaseTime()) : lock);
     }
 
 }
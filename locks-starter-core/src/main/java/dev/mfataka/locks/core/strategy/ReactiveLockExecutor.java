@@ -25,7 +25,7 @@ public class ReactiveLockExecutor extends UnifiedStrategySupport {
             }
             case BLOCKING -> throw new IllegalStateException("FATAL: Lock mode must not be Blocking");
         };
-        return getCorePublisher(pjp, descriptor, lock);
+        return getCorePublisher(pjp, descriptor, descriptor.isLeased() ? lock.withLease(descriptor.getLeaseTime()) : lock);
 
     }
 }
@@ -31,18 +31,14 @@ public abstract class UnifiedStrategySupport {
             if (!waitTime.isZero() && !waitTime.isNegative()) {
                 final var locked = locker.obtainLock(waitTime);
                 if (locked) {
-                    final var executed = executeJoinPoint(joinPoint);
-                    locker.releaseLock();
-                    return executed;
+                    return executeAndRelease(joinPoint, locker);
                 }
                 throw new LockAlreadyAcquiredException(lockName, "Could not obtain lock: " + lockName);
             }
 
             final var locked = locker.tryLock();
             if (locked) {
-                final var executed = executeJoinPoint(joinPoint);
-                locker.releaseLock();
-                return executed;
+                return executeAndRelease(joinPoint, locker);
             }
             throw new LockAlreadyAcquiredException(lockName, "Could not obtain lock: " + lockName);
         } catch (Exception e) {
@@ -53,6 +49,17 @@ public abstract class UnifiedStrategySupport {
         }
     }
 
+    /**
+     * the lock is released when the method throws as well, otherwise the name stays locked until it is cleaned up
+     */
+    private static Object executeAndRelease(final ProceedingJoinPoint joinPoint, final BaseLocker locker) throws LockOperationException {
+        try {
+            return executeJoinPoint(joinPoint);
+        } finally {
+            locker.releaseLock();
+        }
+    }
+
     private static Object executeJoinPoint(final ProceedingJoinPoint joinPoint) throws LockOperationException {
         final Object proceed;
         try {
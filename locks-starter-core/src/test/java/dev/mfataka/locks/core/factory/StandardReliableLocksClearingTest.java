@@ -28,14 +28,14 @@ public class StandardReliableLocksClearingTest extends AbstractLockTest {
     @Test
     @SneakyThrows
     void cleanAllDuration() {
-        Assertions.assertEquals(6, LockRegistry.existingLocks().size());
+        Assertions.assertEquals(13, LockRegistry.existingLocks().size());
 
         Thread.sleep(5_000);
         final var distributedLock = SimpleDistributedLock.create(jdbcService, new LockContext("test", true, true));
         LockRegistry.lockFactories.put("test", distributedLock);
-        Assertions.assertEquals(7, LockRegistry.existingLocks().size());
+        Assertions.assertEquals(14, LockRegistry.existingLocks().size());
         final var cleaned = reliableLocks.cleanAll(Duration.ofSeconds(5));
-        Assertions.assertEquals(6, cleaned);
+        Assertions.assertEquals(13, cleaned);
         Assertions.assertEquals(1, LockRegistry.existingLocks().size());
 
     }
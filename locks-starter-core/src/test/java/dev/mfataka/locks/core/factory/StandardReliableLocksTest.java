@@ -1,5 +1,7 @@
 package dev.mfataka.locks.core.factory;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import dev.mfataka.locks.api.service.JdbcService;
 import dev.mfataka.locks.core.AbstractLockTest;
 import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
+import dev.mfataka.locks.core.locker.simple.ReadWritePolicy;
 
 /**
  * @author HAMMA FATAKA
@@ -27,12 +30,66 @@ public class StandardReliableLocksTest extends AbstractLockTest {
         Assertions.assertNotNull(simple);
     }
 
+    @Test
+    void createStriped() {
+        final var stripe = reliableLocks.createStriped("createStriped");
+        Assertions.assertSame(LockRegistry.stripedSimpleLock().get("createStriped"), stripe);
+    }
+
+    @Test
+    void createReentrant() {
+        final var reentrantLocker = reliableLocks.createReentrant("createReentrant");
+        Assertions.assertSame(LockRegistry.reentrantSimpleLock().get("createReentrant"), reentrantLocker);
+    }
+
+    @Test
+    void createReadWrite() {
+        final var readWriteLocker = reliableLocks.createReadWrite("createReadWrite", ReadWritePolicy.FAIR);
+        Assertions.assertSame(LockRegistry.readWriteLock().get("createReadWrite", ReadWritePolicy.FAIR), readWriteLocker);
+        Assertions.assertEquals(ReadWritePolicy.FAIR, readWriteLocker.getPolicy());
+    }
+
+    @Test
+    void createSemaphore() {
+        final var semaphoreLocker = reliableLocks.createSemaphore("createSemaphore", 3);
+        Assertions.assertSame(LockRegistry.semaphoreLock().get("createSemaphore"), semaphoreLocker);
+        Assertions.assertEquals(3, semaphoreLocker.getPermits());
+    }
+
+    @Test
+    void createMulti() {
+        final var multiLocker = reliableLocks.createMulti(List.of("createMulti-b", "createMulti-a"));
+        Assertions.assertEquals(List.of(LockRegistry.simpleLock().get("createMulti-a"), LockRegistry.simpleLock().get("createMulti-b")), multiLocker.getLockers());
+    }
+
+    @Test
+    void createHierarchical() {
+        final var hierarchicalLocker = reliableLocks.createHierarchical("createHierarchical:child");
+        Assertions.assertSame(LockRegistry.hierarchicalLock().get("createHierarchical:child"), hierarchicalLocker);
+        Assertions.assertSame(LockRegistry.hierarchicalLock().get("createHierarchical"), hierarchicalLocker.getParent());
+    }
+
     @Test
     void createReactive() {
         final var reactiveLocker = reliableLocks.createReactive("createReactive");
         Assertions.assertNotNull(reactiveLocker);
     }
 
+    @Test
+    void closeShouldUnmapHostLock() {
+        final var hostLocker = reliableLocks.createHost("closeHost");
+        Assertions.assertSame(hostLocker, LockRegistry.findLocker("closeHost"));
+
+        ((StandardReliableLocksImp) reliableLocks).close();
+        Assertions.assertNull(LockRegistry.findLocker("closeHost"));
+        Assertions.assertThrows(IllegalStateException.class, hostLocker::tryLock);
+
+        final var remapped = reliableLocks.createHost("closeHost");
+        Assertions.assertNotSame(hostLocker, remapped);
+        Assertions.assertTrue(remapped.tryLock());
+        Assertions.assertTrue(remapped.releaseLock());
+    }
+
     @Test
     void createDistributed() {
         final var distributedLocker = reliableLocks.createDistributed("createDistributed");
@@ -0,0 +1,56 @@
+package dev.mfataka.locks.core.locker.reactive;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * lives next to {@link SinkQueueLocker} to build lockers on a table of its own
+ *
+ * @author HAMMA FATAKA
+ */
+public class SinkQueueLockerTest {
+    private static final int ROUNDS = 10_000;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void waiterTimingOutDuringHandOffShouldNotKeepLockerRegistered() {
+        final var table = new ConcurrentHashMap<String, SinkQueueLocker>();
+        for (var round = 0; round < ROUNDS; round++) {
+            final var lockName = "sink-queue-evict-" + round;
+            final var locker = table.computeIfAbsent(lockName, key -> new SinkQueueLocker(key, table));
+            Assertions.assertTrue(locker.tryLock());
+            final var timeout = Duration.ofNanos(ThreadLocalRandom.current().nextLong(1, 50_000));
+            // the waiter queues around the release and times out around the hand-off
+            final var waiter = CompletableFuture.runAsync(() -> {
+                try {
+                    if (locker.obtainLock(timeout)) {
+                        locker.releaseLock();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, executor);
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(1, 50_000));
+            Assertions.assertTrue(locker.releaseLock());
+            waiter.join();
+
+            Assertions.assertFalse(locker.isLocked());
+            Assertions.assertFalse(table.containsKey(lockName), "locker of round " + round + " stayed registered");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.exception.LockDeadlockException;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.DeadlockCycle;
+import dev.mfataka.locks.core.locker.simple.DeadlockListener;
+import dev.mfataka.locks.core.locker.simple.ReentrantSimpleLocker;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class DeadlockDetectionTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<DeadlockCycle> reported = new CopyOnWriteArrayList<>();
+    private final DeadlockListener listener = reported::add;
+
+    @BeforeEach
+    void setUp() {
+        LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults().withDeadlockDetection(true));
+        LockRegistry.deadlockDetector().addListener(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LockRegistry.deadlockDetector().removeListener(listener);
+        LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void oppositeLockOrderShouldFailOneThreadFast() throws Exception {
+        final var detectedBefore = LockRegistry.deadlockDetector().getDetectedCount();
+        final var bothHolding = new CyclicBarrier(2);
+        final var first = CompletableFuture.supplyAsync(() -> lockBoth("deadlock-a", "deadlock-b", bothHolding), executor);
+        final var second = CompletableFuture.supplyAsync(() -> lockBoth("deadlock-b", "deadlock-a", bothHolding), executor);
+
+        final var outcomes = List.of(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(outcomes.contains("deadlock"));
+        Assertions.assertTrue(outcomes.contains("locked"));
+        Assertions.assertEquals(detectedBefore + 1, LockRegistry.deadlockDetector().getDetectedCount());
+        Assertions.assertEquals(1, reported.size());
+        Assertions.assertEquals(2, reported.get(0).lockNames().size());
+        Assertions.assertEquals(0, LockRegistry.deadlockDetector().getWaitingCount());
+    }
+
+    private static String lockBoth(final String firstName, final String secondName, final CyclicBarrier bothHolding) {
+        final var firstLocker = LockRegistry.simpleLock().get(firstName);
+        final var secondLocker = LockRegistry.simpleLock().get(secondName);
+        try {
+            Assertions.assertTrue(firstLocker.tryLock());
+            try {
+                bothHolding.await(5, TimeUnit.SECONDS);
+                // long enough that only detection can end the wait within the test timeout
+                if (!secondLocker.obtainLock(Duration.ofSeconds(30))) {
+                    return "timeout";
+                }
+                secondLocker.releaseLock();
+                return "locked";
+            } finally {
+                firstLocker.releaseLock();
+            }
+        } catch (LockDeadlockException e) {
+            return "deadlock";
+        } catch (Exception e) {
+            return e.toString();
+        }
+    }
+
+    @Test
+    public void waitingForOwnLockShouldFail() {
+        final var locker = LockRegistry.simpleLock().get("deadlock-self");
+        Assertions.assertTrue(locker.tryLock());
+        try {
+            final var exception = Assertions.assertThrows(LockDeadlockException.class, () -> locker.obtainLock(Duration.ofSeconds(30)));
+            Assertions.assertEquals(List.of("deadlock-self"), exception.getCycle());
+        } finally {
+            locker.releaseLock();
+        }
+    }
+
+    @Test
+    public void reentrantWaiterCaughtInCycleShouldStillTakeItsLockBack() throws Exception {
+        final var conditionLocker = (ReentrantSimpleLocker) LockRegistry.reentrantSimpleLock().get("deadlock-condition");
+        final var otherLocker = LockRegistry.simpleLock().get("deadlock-condition-other");
+        final var condition = conditionLocker.newCondition();
+        Assertions.assertTrue(conditionLocker.tryLock());
+        Assertions.assertTrue(conditionLocker.tryLock());
+        Assertions.assertTrue(otherLocker.tryLock());
+        try {
+            // takes the condition lock once the waiter released it, then waits for the lock the waiter still holds
+            final var blocker = CompletableFuture.supplyAsync(() -> {
+                try {
+                    Assertions.assertTrue(conditionLocker.obtainLock(Duration.ofSeconds(5)));
+                    try {
+                        return otherLocker.obtainLock(Duration.ofSeconds(1));
+                    } finally {
+                        conditionLocker.releaseLock();
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+            Assertions.assertFalse(condition.await(Duration.ofMillis(200)));
+            Assertions.assertFalse(blocker.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(conditionLocker.isLockedByCurrentThread());
+            Assertions.assertEquals(2, conditionLocker.getHoldCount());
+            Assertions.assertEquals(1, reported.size());
+        } finally {
+            otherLocker.releaseLock();
+            conditionLocker.releaseLock();
+            conditionLocker.releaseLock();
+        }
+        Assertions.assertFalse(conditionLocker.isLocked());
+        Assertions.assertEquals(0, LockRegistry.deadlockDetector().getWaitingCount());
+    }
+
+    @Test
+    public void disabledDetectionShouldWaitUntilTimeout() throws InterruptedException {
+        LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults());
+        final var locker = LockRegistry.simpleLock().get("deadlock-disabled");
+        Assertions.assertTrue(locker.tryLock());
+        try {
+            Assertions.assertFalse(locker.obtainLock(Duration.ofMillis(50)));
+            Assertions.assertTrue(reported.isEmpty());
+        } finally {
+            locker.releaseLock();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.HierarchicalLock;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class HierarchicalLockTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void siblingsShouldRunInParallel() throws Exception {
+        final var first = LockRegistry.hierarchicalLock().get("h-siblings:42:order:1");
+        final var second = LockRegistry.hierarchicalLock().get("h-siblings:42:order:2");
+        Assertions.assertTrue(first.tryLock());
+        Assertions.assertTrue(CompletableFuture.supplyAsync(() -> second.tryLock() && second.releaseLock(), executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(first.releaseLock());
+        Assertions.assertFalse(LockRegistry.hierarchicalLock().get("h-siblings:42").isLockedBelow());
+    }
+
+    @Test
+    public void ancestorShouldExcludeDescendants() throws Exception {
+        final var tenant = LockRegistry.hierarchicalLock().get("h-ancestor:42");
+        final var order = LockRegistry.hierarchicalLock().get("h-ancestor:42:order:1");
+        final var otherTenant = LockRegistry.hierarchicalLock().get("h-ancestor:43:order:1");
+        Assertions.assertTrue(tenant.tryLock());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(order::tryLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(CompletableFuture.supplyAsync(() -> otherTenant.tryLock() && otherTenant.releaseLock(), executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(LockRegistry.hierarchicalLock().get("h-ancestor").isLockedBelow());
+        Assertions.assertTrue(tenant.releaseLock());
+        Assertions.assertTrue(order.tryLock());
+        Assertions.assertTrue(order.releaseLock());
+    }
+
+    @Test
+    public void descendantShouldExcludeAncestors() throws Exception {
+        final var tenant = LockRegistry.hierarchicalLock().get("h-descendant:42");
+        final var order = LockRegistry.hierarchicalLock().get("h-descendant:42:order:1");
+        Assertions.assertTrue(order.tryLock());
+        Assertions.assertTrue(tenant.isLockedBelow());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(tenant::tryLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(CompletableFuture.supplyAsync(order::releaseLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(order.releaseLock());
+        Assertions.assertTrue(tenant.tryLock());
+        Assertions.assertTrue(tenant.releaseLock());
+    }
+
+    @Test
+    public void waitingAncestorShouldBeWokenWhenDescendantsLeave() throws Exception {
+        final var tenant = LockRegistry.hierarchicalLock().get("h-wake:42");
+        final var order = LockRegistry.hierarchicalLock().get("h-wake:42:order:1");
+        Assertions.assertTrue(order.tryLock());
+        final var waiter = CompletableFuture.supplyAsync(() -> obtain(tenant, Duration.ofSeconds(5)) && tenant.releaseLock(), executor);
+        while (!tenant.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        order.releaseLock();
+        Assertions.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void removeShouldKeepPathsInUse() {
+        final var hierarchicalLock = LockRegistry.hierarchicalLock();
+        final var order = hierarchicalLock.get("h-remove:42:order");
+        hierarchicalLock.remove("h-remove:42");
+        Assertions.assertTrue(hierarchicalLock.exists("h-remove:42"));
+
+        Assertions.assertTrue(order.tryLock());
+        hierarchicalLock.remove("h-remove:42:order");
+        Assertions.assertTrue(hierarchicalLock.exists("h-remove:42:order"));
+        order.releaseLock();
+
+        hierarchicalLock.remove("h-remove:42:order");
+        hierarchicalLock.remove("h-remove:42");
+        Assertions.assertFalse(hierarchicalLock.exists("h-remove:42:order"));
+        Assertions.assertFalse(hierarchicalLock.exists("h-remove:42"));
+        Assertions.assertTrue(hierarchicalLock.exists("h-remove"));
+
+        Assertions.assertTrue(order.tryLock());
+        Assertions.assertSame(hierarchicalLock.get("h-remove:42:order"), hierarchicalLock.find("h-remove:42:order"));
+        Assertions.assertTrue(hierarchicalLock.get("h-remove:42").isLockedBelow());
+        Assertions.assertTrue(order.releaseLock());
+    }
+
+    @Test
+    public void shouldKeepExclusionAcrossLevels() throws InterruptedException {
+        final var paths = new String[]{"h-stress", "h-stress:1", "h-stress:1:a", "h-stress:1:b", "h-stress:2", "h-stress:2:a"};
+        final var holders = new AtomicInteger[paths.length];
+        for (var i = 0; i < paths.length; i++) {
+            holders[i] = new AtomicInteger();
+        }
+        final var overlapped = new AtomicBoolean(false);
+        final var pool = Executors.newFixedThreadPool(8);
+        try {
+            for (var t = 0; t < 8; t++) {
+                pool.submit(() -> runContended(paths, holders, overlapped));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Assertions.assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+        Assertions.assertFalse(overlapped.get());
+        Assertions.assertFalse(LockRegistry.hierarchicalLock().get("h-stress").isLockedBelow());
+    }
+
+    private static void runContended(final String[] paths, final AtomicInteger[] holders, final AtomicBoolean overlapped) {
+        final var random = ThreadLocalRandom.current();
+        for (var i = 0; i < 5_000; i++) {
+            final var index = random.nextInt(paths.length);
+            final var locker = LockRegistry.hierarchicalLock().get(paths[index]);
+            if (!obtain(locker, Duration.ofSeconds(5))) {
+                overlapped.set(true);
+                return;
+            }
+            if (holders[index].incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            for (var other = 0; other < paths.length; other++) {
+                if (related(paths[index], paths[other]) && holders[other].get() > 0) {
+                    overlapped.set(true);
+                }
+            }
+            holders[index].decrementAndGet();
+            locker.releaseLock();
+        }
+    }
+
+    private static boolean related(final String path, final String other) {
+        return path.startsWith(other + HierarchicalLock.SEPARATOR) || other.startsWith(path + HierarchicalLock.SEPARATOR);
+    }
+
+    private static boolean obtain(final BaseLocker locker, final Duration timeout) {
+        try {
+            return locker.obtainLock(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package dev.mfataka.locks.core.locks;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.HostProperties;
+import dev.mfataka.locks.core.locker.host.HostLock;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class HostLockTest {
+    private static final int SLOTS = 64;
+    private static final String LOCKED = "locked";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void hostLockShouldExcludeOtherThreads() throws Exception {
+        final var locker = hostLock(directory).get("host-threads");
+        Assertions.assertEquals(LockType.HOST, locker.getLockType());
+        Assertions.assertTrue(locker.obtainLock(Duration.ofSeconds(1)));
+        Assertions.assertTrue(locker.isLockedByCurrentThread());
+
+        final var other = CompletableFuture.supplyAsync(() -> {
+            Assertions.assertFalse(locker.releaseLock());
+            return locker.tryLock();
+        }, executor);
+        Assertions.assertFalse(other.get(5, TimeUnit.SECONDS));
+
+        final var waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                final var locked = locker.obtainLock(Duration.ofSeconds(5));
+                locker.releaseLock();
+                return locked;
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, executor);
+        Thread.sleep(100);
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    @Test
+    public void tablesOfSameDirectoryShouldExcludeEachOther() throws Exception {
+        final var first = hostLock(directory).get("host-shared");
+        final var second = hostLock(directory).get("host-shared");
+
+        Assertions.assertTrue(first.tryLock());
+        Assertions.assertTrue(second.isLocked());
+        Assertions.assertFalse(second.tryLock());
+        Assertions.assertFalse(second.obtainLock(Duration.ofMillis(50)));
+        Assertions.assertTrue(first.releaseLock());
+
+        Assertions.assertTrue(second.tryLock());
+        Assertions.assertFalse(first.tryLock());
+        Assertions.assertTrue(second.releaseLock());
+    }
+
+    @Test
+    public void tableWithOtherSlotCountShouldBeRejected() {
+        hostLock(directory);
+        Assertions.assertThrows(IllegalStateException.class, () -> HostLock.create(new LockContext("host-other", true, false), new HostProperties(directory.toString(), SLOTS * 2)));
+    }
+
+    @Test
+    public void releasedHandlesShouldBeCleared() {
+        final var lock = hostLock(directory);
+        final var held = lock.get("host-held");
+        Assertions.assertTrue(held.tryLock());
+        lock.get("host-released");
+
+        Assertions.assertEquals(1, lock.clearAllLocks());
+        Assertions.assertTrue(lock.exists("host-held"));
+        Assertions.assertFalse(lock.exists("host-released"));
+        Assertions.assertTrue(held.releaseLock());
+    }
+
+    @Test
+    public void slotsOfClearedNamesShouldBeReused() {
+        final var lock = hostLock(directory);
+        for (var i = 0; i < SLOTS * 4; i++) {
+            final var locker = lock.get("host-cycle-" + i);
+            Assertions.assertTrue(locker.tryLock());
+            Assertions.assertTrue(locker.releaseLock());
+            Assertions.assertEquals(1, lock.clearAllLocks());
+        }
+    }
+
+    @Test
+    public void handleOnReclaimedSlotShouldStillExclude() {
+        final var first = hostLock(directory);
+        final var second = hostLock(directory);
+        final var stale = second.get("host-stale");
+        first.get("host-stale");
+        // frees the slot while the second table still has a handle on it
+        Assertions.assertEquals(1, first.clearAllLocks());
+        for (var i = 0; i < SLOTS / 2; i++) {
+            first.get("host-filler-" + i);
+        }
+        final var fresh = first.get("host-stale");
+
+        Assertions.assertTrue(stale.tryLock());
+        Assertions.assertFalse(fresh.tryLock());
+        Assertions.assertTrue(stale.releaseLock());
+        Assertions.assertTrue(fresh.tryLock());
+        Assertions.assertFalse(stale.tryLock());
+        Assertions.assertTrue(fresh.releaseLock());
+    }
+
+    @Test
+    public void closedLockShouldOnlyReleaseHeldSlots() throws Exception {
+        final var lock = hostLock(directory);
+        final var held = lock.get("host-closed");
+        Assertions.assertTrue(held.tryLock());
+
+        lock.close();
+        Assertions.assertTrue(lock.getTable().isClosed());
+        Assertions.assertThrows(IllegalStateException.class, () -> lock.get("host-other"));
+        Assertions.assertTrue(held.releaseLock());
+        Assertions.assertThrows(IllegalStateException.class, held::tryLock);
+        Assertions.assertFalse(held.isLockedByCurrentThread());
+        lock.close();
+
+        final var reopened = hostLock(directory).get("host-closed");
+        Assertions.assertTrue(reopened.tryLock());
+        Assertions.assertTrue(reopened.releaseLock());
+    }
+
+    @Test
+    public void lockOfCrashedProcessShouldBeReclaimed() throws Exception {
+        final var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        final var child = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), HostLockTest.class.getName(), directory.toString())
+                .redirectErrorStream(true)
+                .start();
+        try {
+            final var output = new BufferedReader(new InputStreamReader(child.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = output.readLine()) != null && !line.equals(LOCKED)) {
+                // skips whatever the child logs before it holds the lock
+            }
+            Assertions.assertEquals(LOCKED, line);
+
+            final var locker = hostLock(directory).get("host-crash");
+            Assertions.assertFalse(locker.tryLock());
+
+            child.destroyForcibly().waitFor(10, TimeUnit.SECONDS);
+            Assertions.assertTrue(locker.obtainLock(Duration.ofSeconds(5)));
+            Assertions.assertTrue(locker.releaseLock());
+        } finally {
+            child.destroyForcibly();
+        }
+    }
+
+    /**
+     * holds the lock until it is killed, run in a child JVM by {@link #lockOfCrashedProcessShouldBeReclaimed()}
+     */
+    public static void main(final String[] args) throws Exception {
+        final var locker = hostLock(Path.of(args[0])).get("host-crash");
+        if (locker.tryLock()) {
+            System.out.println(LOCKED);
+            System.out.flush();
+        }
+        Thread.sleep(Long.MAX_VALUE);
+    }
+
+    private static HostLock hostLock(final Path directory) {
+        return HostLock.create(new LockContext("host-" + directory.getFileName(), true, false), new HostProperties(directory.toString(), SLOTS));
+    }
+}
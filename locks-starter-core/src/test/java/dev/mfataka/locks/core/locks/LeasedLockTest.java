@@ -0,0 +1,114 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.LeaseWheel;
+import dev.mfataka.locks.core.utils.ManualLockClock;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class LeasedLockTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        LockClock.use(LockClock.system());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void expiredLeaseShouldHandLockToWaiter() throws Exception {
+        final var leased = LockRegistry.simpleLock().get("lease-expire").withLease(Duration.ofMillis(100));
+        Assertions.assertTrue(leased.tryLock());
+
+        final var waiter = LockRegistry.simpleLock().get("lease-expire");
+        final var obtained = CompletableFuture.supplyAsync(() -> obtain(waiter, Duration.ofSeconds(5)), executor);
+        Assertions.assertTrue(obtained.get(5, TimeUnit.SECONDS));
+
+        // the expired holder must not release the lock of the waiter
+        Assertions.assertFalse(leased.releaseLock());
+        Assertions.assertTrue(waiter.isLocked());
+        Assertions.assertTrue(CompletableFuture.supplyAsync(waiter::releaseLock, executor).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void releasedLeaseShouldNotExpireLaterAcquisition() throws InterruptedException {
+        final var locker = LockRegistry.simpleLock().get("lease-released");
+        final var leased = locker.withLease(Duration.ofMillis(50));
+        Assertions.assertTrue(leased.tryLock());
+        Assertions.assertTrue(leased.releaseLock());
+
+        Assertions.assertTrue(locker.tryLock());
+        try {
+            Thread.sleep(200);
+            Assertions.assertTrue(locker.isLockedByCurrentThread());
+        } finally {
+            locker.releaseLock();
+        }
+    }
+
+    @Test
+    public void leaseShouldExpireWithInjectedClock() throws InterruptedException {
+        final var clock = new ManualLockClock();
+        LockClock.use(clock);
+        final var leased = LockRegistry.simpleLock().get("lease-clock").withLease(Duration.ofMinutes(1));
+        Assertions.assertTrue(leased.tryLock());
+        Thread.sleep(5 * LeaseWheel.TICK.toMillis());
+        Assertions.assertTrue(leased.isLocked());
+
+        final var expiredBefore = LockRegistry.leaseWheel().getExpiredCount();
+        clock.advance(Duration.ofMinutes(2));
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (leased.isLocked() && System.nanoTime() < deadline) {
+            Thread.sleep(LeaseWheel.TICK.toMillis());
+        }
+        Assertions.assertFalse(leased.isLocked());
+        Assertions.assertEquals(expiredBefore + 1, LockRegistry.leaseWheel().getExpiredCount());
+    }
+
+    @Test
+    public void reactiveLeaseShouldFreeNeverEndingSubscription() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("lease-reactive");
+        final var hanging = reactiveLocker.withLease(Duration.ofMillis(100))
+                .tryLockMono(locked -> locked ? Mono.never() : Mono.empty())
+                .subscribe();
+        try {
+            StepVerifier.create(reactiveLocker.obtainLockMono(Duration.ofSeconds(5), Mono::just))
+                    .expectNext(true)
+                    .verifyComplete();
+        } finally {
+            hanging.dispose();
+        }
+    }
+
+    @Test
+    public void reentrantLockShouldNotBeLeased() {
+        final var locker = LockRegistry.reentrantSimpleLock().get("lease-reentrant");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> locker.withLease(Duration.ofSeconds(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LockRegistry.simpleLock().get("lease-zero").withLease(Duration.ZERO));
+    }
+
+    private static boolean obtain(final BaseLocker locker, final Duration timeout) {
+        try {
+            return locker.obtainLock(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.locks.api.exception.LockOperationException;
+import dev.mfataka.locks.api.service.JdbcService;
+import dev.mfataka.locks.core.AbstractLockTest;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.ReactiveProperties;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.factory.StandardReliableLocks;
+import dev.mfataka.locks.core.factory.StandardReliableLocksImp;
+import dev.mfataka.locks.core.locker.reactive.LockIoScheduler;
+
+/**
+ * runs in the blockHoundTest task only, BlockHound instruments the whole JVM
+ *
+ * @author HAMMA FATAKA
+ */
+@Tag("blockhound")
+public class LockIoSchedulerTest extends AbstractLockTest {
+    private final JdbcService jdbcService;
+    private final StandardReliableLocks locks;
+
+    @Autowired
+    public LockIoSchedulerTest(final JdbcService jdbcService, final LocksCorePropertyConfig locksCorePropertyConfig) {
+        this.jdbcService = jdbcService;
+        this.locks = new StandardReliableLocksImp(jdbcService, locksCorePropertyConfig);
+    }
+
+    @BeforeAll
+    void installBlockHound() {
+        // the test logger writes trace lines to the console from whatever thread locks
+        BlockHound.builder()
+                .allowBlockingCallsInside("ch.qos.logback.core.OutputStreamAppender", "subAppend")
+                .install();
+    }
+
+    @Test
+    public void blockingOnParallelThreadShouldBeDetected() {
+        StepVerifier.create(Mono.fromCallable(() -> {
+                            Thread.sleep(1);
+                            return true;
+                        })
+                        .subscribeOn(Schedulers.parallel()))
+                .expectError(BlockingOperationError.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void jdbcReactiveLockerShouldNotBlockParallelThreads() {
+        final var holder = locks.createReactiveDistributed("lock-io-jdbc");
+        final var waiter = locks.createReactiveDistributed("lock-io-jdbc");
+        final var held = Mono.defer(() -> holder.tryLockMono(locked -> Mono.delay(Duration.ofMillis(200)).thenReturn(locked)))
+                .subscribeOn(Schedulers.parallel());
+        final var waited = Mono.delay(Duration.ofMillis(50))
+                .then(Mono.defer(() -> waiter.obtainLockMono(Duration.ofSeconds(5), locked -> Mono.just(locked))));
+
+        StepVerifier.create(Mono.zip(held, waited))
+                .assertNext(results -> {
+                    Assertions.assertTrue(results.getT1());
+                    Assertions.assertTrue(results.getT2());
+                })
+                .verifyComplete();
+        Assertions.assertFalse(jdbcService.isLocked("lock-io-jdbc"));
+    }
+
+    @Test
+    public void resultShouldBeEmittedOffLockIoThread() {
+        final var scheduler = LockIoScheduler.create(1, 1);
+        try {
+            StepVerifier.create(scheduler.offload("lock-io-threads", () -> Thread.currentThread().getName())
+                            .map(ioThread -> ioThread + "|" + Thread.currentThread().getName()))
+                    .assertNext(threads -> {
+                        Assertions.assertTrue(threads.startsWith(LockIoScheduler.THREAD_PREFIX), threads);
+                        Assertions.assertTrue(threads.contains("|parallel"), threads);
+                    })
+                    .verifyComplete();
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    public void fullQueueShouldRejectCall() throws InterruptedException {
+        final var scheduler = LockIoScheduler.create(1, 1);
+        final var release = new CountDownLatch(1);
+        final var blocked = scheduler.offload("lock-io-queue", () -> await(release)).subscribe();
+        try {
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (scheduler.statistics().running() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            final var queued = scheduler.offload("lock-io-queue", () -> true).toFuture();
+
+            StepVerifier.create(scheduler.offload("lock-io-queue", () -> true))
+                    .expectError(LockOperationException.class)
+                    .verify(Duration.ofSeconds(5));
+            release.countDown();
+            Assertions.assertTrue(queued.join());
+            Assertions.assertEquals(1, scheduler.statistics().rejected());
+        } finally {
+            release.countDown();
+            blocked.dispose();
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    public void holderShouldReleaseWhileQueueIsFull() throws InterruptedException {
+        final var holder = locks.createReactiveDistributed("lock-io-release");
+        final var release = new CountDownLatch(1);
+        LockRegistry.configure(ReactiveProperties.defaults().withIoThreads(1).withIoQueueSize(1));
+        try {
+            final var held = holder.tryLockMono(locked -> Mono.delay(Duration.ofSeconds(1)).thenReturn(locked)).toFuture();
+            final var scheduler = LockRegistry.lockIoScheduler();
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!jdbcService.isLocked("lock-io-release") && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            scheduler.offload("lock-io-release", () -> await(release)).subscribe();
+            while (scheduler.statistics().running() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            scheduler.offload("lock-io-release", () -> await(release)).subscribe();
+            StepVerifier.create(scheduler.offload("lock-io-release", () -> true))
+                    .expectError(LockOperationException.class)
+                    .verify(Duration.ofSeconds(5));
+
+            Assertions.assertTrue(held.join());
+            Assertions.assertFalse(jdbcService.isLocked("lock-io-release"));
+        } finally {
+            release.countDown();
+            LockRegistry.configure(ReactiveProperties.defaults());
+        }
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -37,6 +37,30 @@ public class LockRegistryTest {
     }
 
 
+    @Test
+    public void findLockerShouldFollowFactories() {
+        final var simpleLock = LockRegistry.simpleLock();
+        LockRegistry.lockFactories.put(simpleLock.getLockContext().factoryName(), simpleLock);
+        Assertions.assertNull(LockRegistry.findLocker("registry-find"));
+
+        final var locker = simpleLock.get("registry-find");
+        Assertions.assertSame(locker, LockRegistry.findLocker("registry-find"));
+        Assertions.assertTrue(LockRegistry.lockerExists("registry-find"));
+
+        simpleLock.remove("registry-find");
+        Assertions.assertNull(LockRegistry.findLocker("registry-find"));
+        Assertions.assertFalse(LockRegistry.lockerExists("registry-find"));
+    }
+
+    @Test
+    public void findLockerShouldFindStripesByTheirOwnName() {
+        final var stripedLock = LockRegistry.stripedSimpleLock();
+        LockRegistry.lockFactories.put(stripedLock.getLockContext().factoryName(), stripedLock);
+        final var stripe = stripedLock.get("registry-striped");
+        Assertions.assertSame(stripe, LockRegistry.findLocker(stripe.getLockName()));
+        Assertions.assertNull(LockRegistry.findLocker("registry-striped"));
+    }
+
     @Test
     public void createDistributedLock() {
         final var context = new LockContext(getClass().getSimpleName(), true, true);
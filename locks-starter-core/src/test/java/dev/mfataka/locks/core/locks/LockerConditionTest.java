@@ -0,0 +1,148 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.LockerCondition;
+import dev.mfataka.locks.core.locker.simple.ReentrantSimpleLocker;
+import dev.mfataka.locks.core.locker.simple.SimpleLocker;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class LockerConditionTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void consumersShouldReceiveEveryProducedItem() throws Exception {
+        final var locker = LockRegistry.simpleLock().get("condition-queue");
+        final var notEmpty = locker.newCondition();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        final var consumers = new ArrayList<CompletableFuture<List<Integer>>>();
+        for (var i = 0; i < 3; i++) {
+            consumers.add(CompletableFuture.supplyAsync(() -> {
+                final var consumed = new ArrayList<Integer>();
+                try {
+                    while (true) {
+                        Assertions.assertTrue(locker.obtainLock(Duration.ofSeconds(5)));
+                        try {
+                            while (queue.isEmpty()) {
+                                notEmpty.await(Duration.ofSeconds(5));
+                            }
+                            final int item = queue.poll();
+                            if (item < 0) {
+                                return consumed;
+                            }
+                            consumed.add(item);
+                        } finally {
+                            locker.releaseLock();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor));
+        }
+
+        for (var item = 0; item < 1000; item++) {
+            produce(locker, notEmpty, queue, item);
+        }
+        for (var i = 0; i < consumers.size(); i++) {
+            produce(locker, notEmpty, queue, -1);
+        }
+
+        final var consumed = new ArrayList<Integer>();
+        for (final var consumer : consumers) {
+            consumed.addAll(consumer.get(10, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1000, consumed.size());
+        Assertions.assertEquals(999 * 1000 / 2, consumed.stream().mapToInt(Integer::intValue).sum());
+        Assertions.assertFalse(notEmpty.hasWaiters());
+    }
+
+    private static void produce(final SimpleLocker locker, final LockerCondition notEmpty, final Deque<Integer> queue, final int item) throws InterruptedException {
+        Assertions.assertTrue(locker.obtainLock(Duration.ofSeconds(5)));
+        try {
+            queue.add(item);
+            notEmpty.signal();
+        } finally {
+            locker.releaseLock();
+        }
+    }
+
+    @Test
+    public void awaitShouldTimeOutHoldingTheLock() throws InterruptedException {
+        final var locker = LockRegistry.simpleLock().get("condition-timeout");
+        final var condition = locker.newCondition();
+        Assertions.assertTrue(locker.tryLock());
+        try {
+            Assertions.assertFalse(condition.await(Duration.ofMillis(50)));
+            Assertions.assertTrue(locker.isLockedByCurrentThread());
+            Assertions.assertFalse(condition.hasWaiters());
+        } finally {
+            locker.releaseLock();
+        }
+        Assertions.assertThrows(IllegalMonitorStateException.class, condition::signal);
+        Assertions.assertThrows(IllegalMonitorStateException.class, () -> condition.await(Duration.ofMillis(50)));
+    }
+
+    @Test
+    public void reentrantWaitShouldRestoreNestedHolds() throws Exception {
+        final var locker = (ReentrantSimpleLocker) LockRegistry.reentrantSimpleLock().get("condition-reentrant");
+        final var condition = locker.newCondition();
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertTrue(locker.tryLock());
+        try {
+            final var signaller = CompletableFuture.supplyAsync(() -> {
+                try {
+                    Assertions.assertTrue(locker.obtainLock(Duration.ofSeconds(5)));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                try {
+                    condition.signal();
+                    return locker.getHoldCount();
+                } finally {
+                    locker.releaseLock();
+                }
+            }, executor);
+            Assertions.assertTrue(condition.await(Duration.ofSeconds(5)));
+            Assertions.assertEquals(1, signaller.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, locker.getHoldCount());
+        } finally {
+            locker.releaseLock();
+            locker.releaseLock();
+        }
+        Assertions.assertFalse(locker.isLocked());
+    }
+
+    @Test
+    public void leasedAcquisitionShouldNotWait() {
+        final var locker = LockRegistry.simpleLock().get("condition-leased");
+        final var leased = locker.withLease(Duration.ofSeconds(5));
+        Assertions.assertTrue(leased.tryLock());
+        try {
+            Assertions.assertThrows(IllegalStateException.class, () -> locker.newCondition().await(Duration.ofMillis(50)));
+            Assertions.assertTrue(locker.isLockedByCurrentThread());
+        } finally {
+            Assertions.assertTrue(leased.releaseLock());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.core.factory.LockRegistry;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class MultiSimpleLockTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldLockNamesInSortedOrderOnce() {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var multiLocker = simpleLock.getAll(List.of("multi-order-c", "multi-order-a", "multi-order-c", "multi-order-b"));
+        Assertions.assertEquals(List.of(simpleLock.get("multi-order-a"), simpleLock.get("multi-order-b"), simpleLock.get("multi-order-c")), multiLocker.getLockers());
+
+        Assertions.assertTrue(multiLocker.tryLock());
+        Assertions.assertTrue(multiLocker.isLockedByCurrentThread());
+        Assertions.assertTrue(simpleLock.get("multi-order-b").isLockedByCurrentThread());
+        Assertions.assertTrue(multiLocker.releaseLock());
+        Assertions.assertTrue(multiLocker.isReleased());
+    }
+
+    @Test
+    public void shouldReleaseTakenLockersWhenOneIsBusy() throws Exception {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var busy = simpleLock.get("multi-partial-b");
+        Assertions.assertTrue(busy.tryLock());
+
+        final var multiLocker = simpleLock.getAll(List.of("multi-partial-a", "multi-partial-b", "multi-partial-c"));
+        Assertions.assertFalse(CompletableFuture.supplyAsync(multiLocker::tryLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(CompletableFuture.supplyAsync(() -> obtain(multiLocker, Duration.ofMillis(100)), executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(simpleLock.get("multi-partial-a").isReleased());
+        Assertions.assertTrue(simpleLock.get("multi-partial-c").isReleased());
+        Assertions.assertTrue(busy.releaseLock());
+    }
+
+    @Test
+    public void waiterShouldGetAllNamesOnceBusyNameIsReleased() throws Exception {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var busy = simpleLock.get("multi-wait-b");
+        Assertions.assertTrue(busy.tryLock());
+
+        final var multiLocker = simpleLock.getAll(List.of("multi-wait-a", "multi-wait-b"));
+        final var waiter = CompletableFuture.supplyAsync(() -> obtain(multiLocker, Duration.ofSeconds(5)) && multiLocker.isLockedByCurrentThread() && multiLocker.releaseLock(), executor);
+        while (!busy.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        Assertions.assertTrue(simpleLock.get("multi-wait-a").isReleased());
+        busy.releaseLock();
+        Assertions.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldBackOffWhenNameIsHeldOutsideOfOrder() throws Exception {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var last = simpleLock.get("multi-backoff-c");
+        Assertions.assertTrue(last.tryLock());
+
+        final var all = simpleLock.getAll(List.of("multi-backoff-a", "multi-backoff-b", "multi-backoff-c"));
+        final var waiter = CompletableFuture.supplyAsync(() -> obtain(all, Duration.ofSeconds(5)) && all.releaseLock(), executor);
+        while (!last.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        // holding c, this thread now needs a and b, the waiter must not sit on them
+        final var firstTwo = simpleLock.getAll(List.of("multi-backoff-b", "multi-backoff-a"));
+        Assertions.assertTrue(firstTwo.obtainLock(Duration.ofSeconds(1)));
+        Assertions.assertTrue(firstTwo.releaseLock());
+        Assertions.assertTrue(last.releaseLock());
+        Assertions.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void overlappingBatchesShouldNotDeadlock() throws InterruptedException {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var batches = List.of(
+                List.of("multi-batch-1", "multi-batch-2", "multi-batch-3"),
+                List.of("multi-batch-3", "multi-batch-2"),
+                List.of("multi-batch-2", "multi-batch-4", "multi-batch-1"));
+        final var inCriticalSection = new AtomicInteger();
+        final var overlapped = new AtomicBoolean(false);
+        final var timedOut = new AtomicBoolean(false);
+        for (var t = 0; t < 9; t++) {
+            final var batch = batches.get(t % batches.size());
+            executor.submit(() -> {
+                final var multiLocker = simpleLock.getAll(batch);
+                for (var i = 0; i < 1_000; i++) {
+                    if (!obtain(multiLocker, Duration.ofSeconds(5))) {
+                        timedOut.set(true);
+                        return;
+                    }
+                    // every batch contains multi-batch-2
+                    if (inCriticalSection.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    inCriticalSection.decrementAndGet();
+                    multiLocker.releaseLock();
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        Assertions.assertFalse(timedOut.get());
+        Assertions.assertFalse(overlapped.get());
+    }
+
+    private static boolean obtain(final BaseLocker locker, final Duration timeout) {
+        try {
+            return locker.obtainLock(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
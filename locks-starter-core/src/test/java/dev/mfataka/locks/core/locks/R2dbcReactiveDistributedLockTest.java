@@ -0,0 +1,135 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.service.R2dbcService;
+import dev.mfataka.locks.core.config.R2dbcLockAutoConfigurer;
+import dev.mfataka.locks.core.locker.reactive.distributed.R2dbcReactiveDistributedLock;
+import dev.mfataka.locks.core.service.SimpleR2dbcService;
+
+/**
+ * @author HAMMA FATAKA
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class R2dbcReactiveDistributedLockTest {
+    private DatabaseClient databaseClient;
+    private SimpleR2dbcService r2dbcService;
+    private R2dbcReactiveDistributedLock lock;
+
+    @BeforeAll
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get("r2dbc:h2:mem:///r2dbc-locks?options=DB_CLOSE_DELAY=-1"));
+        databaseClient.sql("CREATE ALIAS IF NOT EXISTS UNIX_TIMESTAMP FOR \"dev.mfataka.locks.core.utils.H2Utils.unixTimestamp\"")
+                .then()
+                .block();
+        r2dbcService = new SimpleR2dbcService(databaseClient);
+        r2dbcService.init();
+        lock = R2dbcReactiveDistributedLock.create(r2dbcService, new LockContext("r2dbc", true, false));
+    }
+
+    @BeforeEach
+    void clean() {
+        r2dbcService.deleteAllLocks().block();
+    }
+
+    @Test
+    public void secondSubscriptionShouldNotGetHeldLock() {
+        final var first = lock.get("r2dbc-exclusive");
+        final var second = lock.get("r2dbc-exclusive");
+
+        StepVerifier.create(first.tryLockMono(locked -> second.tryLock(secondLocked -> locked && !secondLocked)))
+                .expectNext(true)
+                .verifyComplete();
+        Assertions.assertFalse(lock.exists("r2dbc-exclusive"));
+    }
+
+    @Test
+    public void waitingSubscriptionShouldGetLockOnRelease() {
+        final var locker = lock.get("r2dbc-wait");
+        final var running = new AtomicInteger();
+        final var overlapped = new AtomicInteger();
+        final var holder = locker.tryLockMono(locked -> critical(locked, running, overlapped));
+        final var waiter = Mono.delay(Duration.ofMillis(20))
+                .then(locker.obtainLockMono(Duration.ofSeconds(5), locked -> critical(locked, running, overlapped)));
+
+        StepVerifier.create(Mono.zip(holder, waiter))
+                .assertNext(results -> {
+                    Assertions.assertTrue(results.getT1());
+                    Assertions.assertTrue(results.getT2());
+                })
+                .verifyComplete();
+        Assertions.assertEquals(0, overlapped.get());
+        Assertions.assertEquals(0, lock.existingLocksCount());
+    }
+
+    @Test
+    public void timedOutSubscriptionShouldNotReleaseHolder() {
+        final var locker = lock.get("r2dbc-timeout");
+        StepVerifier.create(r2dbcService.insertLock("r2dbc-timeout", "other-owner"))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(locker.obtainLock(Duration.ofMillis(250), locked -> locked))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(r2dbcService.isLockedBy("r2dbc-timeout", "other-owner"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    public void expiredLocksShouldBeCleaned() {
+        databaseClient.sql("INSERT INTO distributed_locks (name, owner, locked_at) VALUES ('r2dbc-expired', 'crashed-owner', 0)")
+                .then()
+                .block();
+        StepVerifier.create(r2dbcService.insertLock("r2dbc-fresh", "live-owner"))
+                .expectNext(true)
+                .verifyComplete();
+
+        Assertions.assertEquals(2, lock.getLockers().size());
+        Assertions.assertEquals(1, lock.clearAllLocks(Duration.ofMinutes(1)));
+        Assertions.assertFalse(lock.exists("r2dbc-expired"));
+        Assertions.assertTrue(lock.exists("r2dbc-fresh"));
+        Assertions.assertEquals("r2dbc-fresh", lock.find("r2dbc-fresh").getLockName());
+    }
+
+    @Test
+    public void serviceShouldOnlyBeConfiguredWithConnectionFactory() {
+        final var runner = new ApplicationContextRunner()
+                .withPropertyValues("locks.starter.enabled=true")
+                .withConfiguration(AutoConfigurations.of(R2dbcLockAutoConfigurer.class));
+
+        runner.run(context -> Assertions.assertFalse(context.containsBean("r2dbcService")));
+        runner.withBean(ConnectionFactory.class, () -> ConnectionFactories.get("r2dbc:h2:mem:///r2dbc-config?options=DB_CLOSE_DELAY=-1"))
+                .run(context -> Assertions.assertInstanceOf(SimpleR2dbcService.class, context.getBean(R2dbcService.class)));
+    }
+
+    private static Mono<Boolean> critical(final boolean locked, final AtomicInteger running, final AtomicInteger overlapped) {
+        if (!locked) {
+            return Mono.just(false);
+        }
+        if (running.incrementAndGet() > 1) {
+            overlapped.incrementAndGet();
+        }
+        return Mono.delay(Duration.ofMillis(100))
+                .doFinally(signal -> running.decrementAndGet())
+                .thenReturn(true);
+    }
+}
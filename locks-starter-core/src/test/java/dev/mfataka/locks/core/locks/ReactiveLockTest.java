@@ -0,0 +1,153 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.locks.api.context.ReactiveLockContext;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig.ReactiveProperties;
+import dev.mfataka.locks.core.factory.LockRegistry;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ReactiveLockTest {
+
+    @AfterEach
+    void tearDown() {
+        LockRegistry.configure(ReactiveProperties.defaults());
+    }
+
+    @Test
+    public void releaseShouldHandLockToWaitersInOrder() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("reactive-fifo");
+        final List<Integer> order = new CopyOnWriteArrayList<>();
+        final var holder = reactiveLocker.tryLockMono(locked -> Mono.delay(Duration.ofMillis(50)).thenReturn(locked));
+        // waiters queue up 10ms apart while the holder keeps the lock for 50ms
+        final var waiters = Flux.range(0, 3)
+                .flatMap(index -> Mono.delay(Duration.ofMillis(10L * (index + 1)))
+                        .then(reactiveLocker.obtainLockMono(Duration.ofSeconds(5), locked -> Mono.fromSupplier(() -> order.add(index)).thenReturn(locked))));
+
+        final var started = System.nanoTime();
+        StepVerifier.create(Flux.merge(holder, waiters))
+                .expectNext(true, true, true, true)
+                .verifyComplete();
+        Assertions.assertEquals(List.of(0, 1, 2), order);
+        // polling waiters would have needed at least one 100ms backoff
+        Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofMillis(500)) < 0);
+        Assertions.assertFalse(reactiveLocker.getLock().isLocked());
+        Assertions.assertFalse(reactiveLocker.getLock().hasQueuedSubscribers());
+    }
+
+    @Test
+    public void failedSubscriptionShouldNotReleaseHolder() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("reactive-failed");
+        final var lock = reactiveLocker.getLock();
+        Assertions.assertTrue(lock.tryLock());
+
+        StepVerifier.create(reactiveLocker.tryLock(locked -> locked))
+                .expectNext(false)
+                .verifyComplete();
+        Assertions.assertTrue(lock.isLockedByCurrentThread());
+        Assertions.assertTrue(lock.releaseLock());
+    }
+
+    @Test
+    public void timedOutWaiterShouldLeaveQueue() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("reactive-timeout");
+        final var lock = reactiveLocker.getLock();
+        Assertions.assertTrue(lock.tryLock());
+
+        StepVerifier.create(reactiveLocker.obtainLock(Duration.ofMillis(50), locked -> locked))
+                .expectNext(false)
+                .verifyComplete();
+        Assertions.assertFalse(lock.hasQueuedSubscribers());
+        Assertions.assertTrue(lock.releaseLock());
+        Assertions.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void cancelledWaiterShouldLeaveQueue() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("reactive-cancel");
+        final var lock = reactiveLocker.getLock();
+        Assertions.assertTrue(lock.tryLock());
+
+        StepVerifier.create(reactiveLocker.obtainLock(Duration.ofSeconds(5), locked -> locked))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(20))
+                .thenCancel()
+                .verify();
+        Assertions.assertFalse(lock.hasQueuedSubscribers());
+        Assertions.assertTrue(lock.releaseLock());
+        Assertions.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void longQueueOfSynchronousSubscribersShouldBeServed() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("reactive-queue");
+        final var lock = reactiveLocker.getLock();
+        Assertions.assertTrue(lock.tryLock());
+
+        final var count = 20_000;
+        final var waiters = Flux.range(0, count)
+                .flatMap(index -> reactiveLocker.obtainLock(Duration.ofSeconds(30), locked -> locked), count)
+                .filter(Boolean::booleanValue)
+                .count();
+        StepVerifier.create(waiters)
+                .then(lock::releaseLock)
+                .expectNext((long) count)
+                .verifyComplete();
+        Assertions.assertFalse(lock.isLocked());
+    }
+
+    @Test
+    public void lockContextShouldBeOptIn() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("reactive-no-context");
+        StepVerifier.create(reactiveLocker.tryLockMono(locked -> ReactiveLockContext.current()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void lockContextShouldShowHeldLocks() {
+        LockRegistry.configure(ReactiveProperties.defaults().withContext(true));
+        final var outer = LockRegistry.reactiveLock().get("reactive-context-outer");
+        final var inner = LockRegistry.reactiveLock().get("reactive-context-inner");
+
+        final List<List<String>> held = new CopyOnWriteArrayList<>();
+        final var nested = outer.tryLockMono(outerLocked -> ReactiveLockContext.current()
+                .flatMap(outerContext -> inner.tryLockMono(innerLocked -> ReactiveLockContext.current()
+                                .doOnNext(innerContext -> held.add(innerContext.heldLockNames())))
+                        .map(innerContext -> List.of(outerContext, innerContext))));
+        StepVerifier.create(nested)
+                .assertNext(contexts -> {
+                    final var outerContext = contexts.get(0);
+                    final var innerContext = contexts.get(1);
+                    Assertions.assertSame(outerContext, innerContext.getOuter());
+                    Assertions.assertTrue(innerContext.getSubscriptionId() > outerContext.getSubscriptionId());
+                })
+                .verifyComplete();
+        Assertions.assertEquals(List.of(List.of("reactive-context-inner", "reactive-context-outer")), held);
+    }
+
+    @Test
+    public void failedSubscriptionShouldNotShowLockInContext() {
+        LockRegistry.configure(ReactiveProperties.defaults().withContext(true));
+        final var reactiveLocker = LockRegistry.reactiveLock().get("reactive-context-failed");
+        final var lock = reactiveLocker.getLock();
+        Assertions.assertTrue(lock.tryLock());
+
+        StepVerifier.create(reactiveLocker.tryLockMono(locked -> ReactiveLockContext.current()
+                        .map(context -> context.holds("reactive-context-failed"))))
+                .expectNext(false)
+                .verifyComplete();
+        Assertions.assertTrue(lock.releaseLock());
+    }
+}
@@ -0,0 +1,115 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.locks.core.locker.reactive.ReactiveLocks;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ReactiveLocksTest {
+
+    @Test
+    public void sameKeyShouldRunInOrderAndKeysShouldOverlap() {
+        final var running = new ConcurrentHashMap<String, AtomicInteger>();
+        final var overlapped = new AtomicInteger();
+        final var total = new AtomicInteger();
+        final var maxTotal = new AtomicInteger();
+        final var order = new ConcurrentHashMap<String, List<Integer>>();
+        final var events = Flux.just("a:1", "b:1", "a:2", "b:2", "a:3", "c:1", "b:3");
+
+        final var processed = events.transform(ReactiveLocks.serializeBy((String event) -> event.split(":")[0], event -> {
+            final var key = event.split(":")[0];
+            final var perKey = running.computeIfAbsent(key, ignored -> new AtomicInteger());
+            return Mono.fromRunnable(() -> {
+                        if (perKey.incrementAndGet() > 1) {
+                            overlapped.incrementAndGet();
+                        }
+                        maxTotal.accumulateAndGet(total.incrementAndGet(), Math::max);
+                        order.computeIfAbsent(key, ignored -> new CopyOnWriteArrayList<>()).add(Integer.parseInt(event.split(":")[1]));
+                    })
+                    .then(Mono.delay(Duration.ofMillis(50)))
+                    .doFinally(signal -> {
+                        perKey.decrementAndGet();
+                        total.decrementAndGet();
+                    })
+                    .thenReturn(event);
+        }));
+
+        StepVerifier.create(processed)
+                .expectNextCount(7)
+                .verifyComplete();
+        Assertions.assertEquals(0, overlapped.get());
+        Assertions.assertTrue(maxTotal.get() > 1, "keys did not run concurrently");
+        Assertions.assertEquals(Map.of("a", List.of(1, 2, 3), "b", List.of(1, 2, 3), "c", List.of(1)), order);
+    }
+
+    @Test
+    public void concurrencyShouldBoundElementsInFlight() {
+        final var total = new AtomicInteger();
+        final var maxTotal = new AtomicInteger();
+
+        final var processed = Flux.range(0, 20)
+                .transform(ReactiveLocks.serializeBy((Integer value) -> value, value -> Mono.fromRunnable(() -> maxTotal.accumulateAndGet(total.incrementAndGet(), Math::max))
+                        .then(Mono.delay(Duration.ofMillis(10)))
+                        .doFinally(signal -> total.decrementAndGet())
+                        .thenReturn(value), 2));
+
+        StepVerifier.create(processed)
+                .expectNextCount(20)
+                .verifyComplete();
+        Assertions.assertEquals(2, maxTotal.get());
+    }
+
+    @Test
+    public void failedElementShouldNotHoldItsKey() {
+        final var processed = Flux.just(1, 2, 3)
+                .transform(ReactiveLocks.serializeBy((Integer value) -> "same", value -> value == 2
+                        ? Mono.<Integer>error(new IllegalStateException("failed " + value)).onErrorResume(e -> Mono.empty())
+                        : Mono.delay(Duration.ofMillis(20)).thenReturn(value)));
+
+        StepVerifier.create(processed)
+                .expectNext(1, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    public void longSynchronousKeyShouldNotOverflowStack() {
+        final var processed = Flux.range(0, 100_000)
+                .transform(ReactiveLocks.serializeBy((Integer value) -> value % 2, Mono::just));
+
+        StepVerifier.create(processed.count())
+                .expectNext(100_000L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void synchronousElementsQueuedBehindAsyncHeadShouldNotOverflowStack() {
+        final var queued = 50_000;
+        final var processed = Flux.range(0, queued)
+                .transform(ReactiveLocks.serializeBy((Integer value) -> "same", value -> value == 0
+                        ? Mono.delay(Duration.ofMillis(100)).thenReturn(value)
+                        : Mono.just(value), queued));
+
+        StepVerifier.create(processed.collectList())
+                .assertNext(values -> {
+                    Assertions.assertEquals(queued, values.size());
+                    for (var i = 0; i < queued; i++) {
+                        Assertions.assertEquals(i, values.get(i));
+                    }
+                })
+                .verifyComplete();
+    }
+}
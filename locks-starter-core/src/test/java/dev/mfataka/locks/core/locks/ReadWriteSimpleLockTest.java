@@ -0,0 +1,173 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.base.BaseLocker;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.ReadWritePolicy;
+import dev.mfataka.locks.core.locker.simple.ReadWriteSimpleLocker;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ReadWriteSimpleLockTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void readersShouldShareLock() throws Exception {
+        final var locker = LockRegistry.readWriteLock().get("rw-shared");
+        final var bothReading = new CountDownLatch(2);
+        final var first = CompletableFuture.supplyAsync(() -> readWhileOtherReads(locker.readLock(), bothReading), executor);
+        final var second = CompletableFuture.supplyAsync(() -> readWhileOtherReads(locker.readLock(), bothReading), executor);
+        Assertions.assertTrue(first.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(second.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    private static boolean readWhileOtherReads(final BaseLocker readLock, final CountDownLatch bothReading) {
+        try {
+            if (!readLock.obtainLock(Duration.ofSeconds(1))) {
+                return false;
+            }
+            try {
+                bothReading.countDown();
+                return bothReading.await(2, TimeUnit.SECONDS);
+            } finally {
+                readLock.releaseLock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    public void writerShouldExcludeReadersAndWriters() throws Exception {
+        final var locker = LockRegistry.readWriteLock().get("rw-exclusive");
+        Assertions.assertTrue(locker.writeLock().tryLock());
+        Assertions.assertTrue(locker.writeLock().isLockedByCurrentThread());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.readLock()::tryLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.writeLock()::tryLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.writeLock()::releaseLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(locker.writeLock().releaseLock());
+
+        Assertions.assertTrue(locker.readLock().tryLock());
+        Assertions.assertEquals(1, locker.getReadLockCount());
+        Assertions.assertFalse(locker.writeLock().tryLock());
+        Assertions.assertTrue(locker.readLock().releaseLock());
+        Assertions.assertFalse(locker.readLock().releaseLock());
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    @Test
+    public void waitingWriterShouldBeHandedLockWhenReadersLeave() throws Exception {
+        final var locker = LockRegistry.readWriteLock().get("rw-hand-over");
+        Assertions.assertTrue(locker.readLock().tryLock());
+        final var writer = CompletableFuture.supplyAsync(() -> obtain(locker.writeLock(), Duration.ofSeconds(5)) && locker.isWriteLocked() && locker.writeLock().releaseLock(), executor);
+        awaitQueued(locker);
+        locker.readLock().releaseLock();
+        Assertions.assertTrue(writer.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    @Test
+    public void writerPreferenceShouldKeepNewReadersOut() throws Exception {
+        final var locker = LockRegistry.readWriteLock().get("rw-writer-preference", ReadWritePolicy.WRITER_PREFERENCE);
+        Assertions.assertTrue(locker.readLock().tryLock());
+        final var writer = CompletableFuture.supplyAsync(() -> obtain(locker.writeLock(), Duration.ofSeconds(5)), executor);
+        awaitQueued(locker);
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.readLock()::tryLock, executor).get(5, TimeUnit.SECONDS));
+        locker.readLock().releaseLock();
+        Assertions.assertTrue(writer.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void fairLockShouldNotLetReadersBargeInFrontOfWriter() throws Exception {
+        final var locker = LockRegistry.readWriteLock().get("rw-fair", ReadWritePolicy.FAIR);
+        Assertions.assertTrue(locker.readLock().tryLock());
+        final var writer = CompletableFuture.supplyAsync(() -> obtain(locker.writeLock(), Duration.ofSeconds(5)), executor);
+        awaitQueued(locker);
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.readLock()::tryLock, executor).get(5, TimeUnit.SECONDS));
+        locker.readLock().releaseLock();
+        Assertions.assertTrue(writer.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void readerAndWriterAskingForOtherPoliciesShouldExcludeEachOther() throws Exception {
+        final var reader = LockRegistry.readWriteLock().get("rw-mixed-policies", ReadWritePolicy.NON_FAIR);
+        final var writer = LockRegistry.readWriteLock().get("rw-mixed-policies", ReadWritePolicy.WRITER_PREFERENCE);
+        Assertions.assertSame(reader, writer);
+        Assertions.assertEquals(ReadWritePolicy.NON_FAIR, writer.getPolicy());
+
+        Assertions.assertTrue(reader.readLock().tryLock());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(writer.writeLock()::tryLock, executor).get(5, TimeUnit.SECONDS));
+        reader.readLock().releaseLock();
+        Assertions.assertTrue(CompletableFuture.supplyAsync(() -> writer.writeLock().tryLock() && writer.writeLock().releaseLock(), executor).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void nonFairLockShouldLetReadersJoinWhileWriterWaits() throws Exception {
+        final var locker = LockRegistry.readWriteLock().get("rw-non-fair", ReadWritePolicy.NON_FAIR);
+        Assertions.assertTrue(locker.readLock().tryLock());
+        final var writer = CompletableFuture.supplyAsync(() -> obtain(locker.writeLock(), Duration.ofMillis(200)), executor);
+        awaitQueued(locker);
+        final var joined = CompletableFuture.supplyAsync(() -> {
+            final var locked = locker.readLock().tryLock();
+            writer.join();
+            return locked && locker.readLock().releaseLock();
+        }, executor);
+        Assertions.assertTrue(joined.get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(writer.get(5, TimeUnit.SECONDS));
+        locker.readLock().releaseLock();
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    @Test
+    public void onlyReadersShouldReleaseTheirReadHolds() throws Exception {
+        final var locker = LockRegistry.readWriteLock().get("rw-read-holds");
+        Assertions.assertTrue(locker.readLock().tryLock());
+        Assertions.assertTrue(locker.readLock().isLockedByCurrentThread());
+
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.readLock()::isLockedByCurrentThread, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.readLock()::releaseLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, locker.getReadLockCount());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker.writeLock()::tryLock, executor).get(5, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(locker.readLock().tryLock());
+        Assertions.assertTrue(locker.readLock().releaseLock());
+        Assertions.assertTrue(locker.readLock().isLockedByCurrentThread());
+        Assertions.assertTrue(locker.readLock().releaseLock());
+        Assertions.assertFalse(locker.readLock().releaseLock());
+        Assertions.assertFalse(locker.readLock().isLockedByCurrentThread());
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    private static boolean obtain(final BaseLocker locker, final Duration timeout) {
+        try {
+            return locker.obtainLock(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void awaitQueued(final ReadWriteSimpleLocker locker) {
+        while (!locker.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.ReentrantSimpleLocker;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ReentrantSimpleLockTest {
+
+    @Test
+    public void shouldReleaseOnlyAfterOutermostRelease() throws Exception {
+        final var locker = (ReentrantSimpleLocker) LockRegistry.reentrantSimpleLock().get("reentrant-nested");
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertTrue(locker.obtainLock(Duration.ofSeconds(1)));
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertEquals(3, locker.getHoldCount());
+
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertTrue(locker.isLockedByCurrentThread());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker::tryLock).get(5, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertTrue(locker.isReleased());
+        Assertions.assertEquals(0, locker.getHoldCount());
+    }
+
+    @Test
+    public void nestedAcquisitionShouldNotTouchLockTimestamp() throws InterruptedException {
+        final var locker = LockRegistry.reentrantSimpleLock().get("reentrant-timestamp");
+        Assertions.assertTrue(locker.tryLock());
+        final var lockedAt = locker.getLockElapsedTime();
+        Thread.sleep(1100);
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertEquals(lockedAt, locker.getLockElapsedTime());
+        locker.releaseLock();
+        locker.releaseLock();
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    @Test
+    public void otherThreadShouldNotReleaseHeldLock() throws Exception {
+        final var locker = LockRegistry.reentrantSimpleLock().get("reentrant-foreign-release");
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker::releaseLock).get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(locker.isLockedByCurrentThread());
+        locker.releaseLock();
+    }
+
+    @Test
+    public void simpleLockerShouldStayNonReentrant() {
+        final var locker = LockRegistry.simpleLock().get("non-reentrant");
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertFalse(locker.tryLock());
+        locker.releaseLock();
+    }
+}
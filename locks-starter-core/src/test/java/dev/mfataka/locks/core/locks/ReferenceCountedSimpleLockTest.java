@@ -0,0 +1,140 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
+import dev.mfataka.locks.core.factory.LockRegistry;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ReferenceCountedSimpleLockTest {
+
+    @BeforeEach
+    void setUp() {
+        LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults().withReferenceCounted(true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults());
+    }
+
+    @Test
+    public void shouldRemoveLockerOnRelease() {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var locker = simpleLock.get("counted-release");
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertTrue(simpleLock.exists("counted-release"));
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertFalse(simpleLock.exists("counted-release"));
+    }
+
+    @Test
+    public void shouldKeepLockerWhileWaiterIsParked() throws InterruptedException {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var locker = simpleLock.get("counted-waiter");
+        Assertions.assertTrue(locker.tryLock());
+        final var waiterStarted = new CountDownLatch(1);
+        final var waiterLocked = new AtomicBoolean(false);
+        final var waiter = new Thread(() -> {
+            waiterStarted.countDown();
+            try {
+                final var waiterLocker = simpleLock.get("counted-waiter");
+                waiterLocked.set(waiterLocker.obtainLock(Duration.ofSeconds(5)));
+                waiterLocker.releaseLock();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        waiterStarted.await();
+        while (!locker.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        locker.releaseLock();
+        waiter.join(TimeUnit.SECONDS.toMillis(5));
+        Assertions.assertTrue(waiterLocked.get());
+        Assertions.assertFalse(simpleLock.exists("counted-waiter"));
+    }
+
+    @Test
+    public void staleLockerShouldNotLockNameHeldByNewLocker() {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var stale = simpleLock.get("counted-stale");
+        Assertions.assertTrue(stale.tryLock());
+        stale.releaseLock();
+
+        final var current = simpleLock.get("counted-stale");
+        Assertions.assertNotSame(stale, current);
+        Assertions.assertTrue(current.tryLock());
+        Assertions.assertTrue(stale.isLocked());
+        Assertions.assertFalse(stale.tryLock());
+        current.releaseLock();
+
+        Assertions.assertTrue(stale.tryLock());
+        Assertions.assertSame(stale, simpleLock.get("counted-stale"));
+        Assertions.assertTrue(stale.releaseLock());
+        Assertions.assertFalse(simpleLock.exists("counted-stale"));
+    }
+
+    @Test
+    public void shouldKeepMutualExclusionWhileLockersComeAndGo() throws InterruptedException {
+        final var names = 4;
+        final var inCriticalSection = new AtomicInteger[names];
+        for (var i = 0; i < names; i++) {
+            inCriticalSection[i] = new AtomicInteger();
+        }
+        final var overlapped = new AtomicBoolean(false);
+        final var executor = Executors.newFixedThreadPool(16);
+        try {
+            for (var t = 0; t < 16; t++) {
+                executor.submit(() -> runContended(names, inCriticalSection, overlapped));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        Assertions.assertFalse(overlapped.get());
+        for (var i = 0; i < names; i++) {
+            Assertions.assertFalse(LockRegistry.simpleLock().exists("counted-contended-" + i));
+        }
+    }
+
+    private static void runContended(final int names, final AtomicInteger[] inCriticalSection, final AtomicBoolean overlapped) {
+        final var random = ThreadLocalRandom.current();
+        for (var i = 0; i < 10_000; i++) {
+            final var index = random.nextInt(names);
+            final var locker = LockRegistry.simpleLock().get("counted-contended-" + index);
+            if (!locker.tryLock()) {
+                continue;
+            }
+            if (inCriticalSection[index].incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            inCriticalSection[index].decrementAndGet();
+            locker.releaseLock();
+        }
+    }
+
+    @Test
+    public void shouldNotKeepReactiveWrappers() {
+        final var reactiveLock = LockRegistry.reactiveLock();
+        final var locker = reactiveLock.get("counted-reactive");
+        Assertions.assertFalse(reactiveLock.exists("counted-reactive"));
+        Assertions.assertTrue(locker.getLock().tryLock());
+        Assertions.assertTrue(locker.getLock().releaseLock());
+        Assertions.assertFalse(LockRegistry.defaultJvmLock().exists(locker.getLock().getLockName()));
+    }
+}
@@ -0,0 +1,148 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import dev.mfataka.locks.core.factory.LockRegistry;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class ReleaseNotificationTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void releaseShouldCompleteWaitingFuture() throws Exception {
+        final var locker = LockRegistry.simpleLock().get("release-future");
+        Assertions.assertTrue(locker.whenReleased().isDone());
+
+        final var holding = new CompletableFuture<Void>();
+        final var release = new CompletableFuture<Void>();
+        final var holder = CompletableFuture.runAsync(() -> {
+            Assertions.assertTrue(locker.tryLock());
+            holding.complete(null);
+            release.join();
+            Assertions.assertTrue(locker.releaseLock());
+        }, executor);
+        holding.get(5, TimeUnit.SECONDS);
+
+        Assertions.assertFalse(locker.tryLock());
+        final var released = locker.whenReleased();
+        final var listened = new AtomicInteger();
+        locker.onRelease(listened::incrementAndGet);
+        Assertions.assertFalse(released.isDone());
+
+        release.complete(null);
+        released.get(5, TimeUnit.SECONDS);
+        holder.get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, listened.get());
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertEquals(1, listened.get());
+    }
+
+    @Test
+    public void expiredLeaseShouldNotifyRelease() throws Exception {
+        final var leased = LockRegistry.simpleLock().get("release-lease").withLease(Duration.ofMillis(50));
+        Assertions.assertTrue(leased.tryLock());
+        leased.whenReleased().get(5, TimeUnit.SECONDS);
+        Assertions.assertFalse(leased.isLocked());
+    }
+
+    @Test
+    public void reactiveLockerShouldCompleteOnRelease() {
+        final var reactiveLocker = LockRegistry.reactiveLock().get("release-reactive");
+        StepVerifier.create(reactiveLocker.whenReleased())
+                .verifyComplete();
+
+        // subscribes while the first subscription still holds the lock
+        StepVerifier.create(reactiveLocker.tryLockMono(locked -> Mono.delay(Duration.ofMillis(100)).thenReturn(locked))
+                        .and(Mono.delay(Duration.ofMillis(20)).then(reactiveLocker.whenReleased()))
+                        .then(Mono.fromSupplier(() -> reactiveLocker.getLock().isLocked())))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    public void semaphoreShouldCompleteOnceAPermitIsFree() {
+        final var semaphore = LockRegistry.semaphoreLock().get("release-semaphore", 2);
+        Assertions.assertTrue(semaphore.tryLock());
+        Assertions.assertTrue(semaphore.whenReleased().isDone());
+        Assertions.assertTrue(semaphore.tryLock());
+
+        final var released = semaphore.whenReleased();
+        Assertions.assertFalse(released.isDone());
+        Assertions.assertTrue(semaphore.releaseLock());
+        Assertions.assertTrue(released.isDone());
+        Assertions.assertTrue(semaphore.releaseLock());
+    }
+
+    @Test
+    public void readViewShouldOnlyWaitForWriter() {
+        final var readWrite = LockRegistry.readWriteLock().get("release-read-write");
+        Assertions.assertTrue(readWrite.readLock().tryLock());
+        Assertions.assertTrue(readWrite.readLock().whenReleased().isDone());
+        final var writeReleased = readWrite.writeLock().whenReleased();
+        Assertions.assertFalse(writeReleased.isDone());
+        Assertions.assertTrue(readWrite.readLock().releaseLock());
+        Assertions.assertTrue(writeReleased.isDone());
+
+        Assertions.assertTrue(readWrite.writeLock().tryLock());
+        final var readReleased = readWrite.readLock().whenReleased();
+        Assertions.assertFalse(readReleased.isDone());
+        Assertions.assertTrue(readWrite.writeLock().releaseLock());
+        Assertions.assertTrue(readReleased.isDone());
+    }
+
+    @Test
+    public void multiLockerShouldFollowHeldLocker() {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var multi = simpleLock.getAll(List.of("release-multi-a", "release-multi-b"));
+        Assertions.assertTrue(multi.whenReleased().isDone());
+
+        final var single = simpleLock.get("release-multi-b");
+        Assertions.assertTrue(single.tryLock());
+        final var released = multi.whenReleased();
+        Assertions.assertFalse(released.isDone());
+        Assertions.assertTrue(single.releaseLock());
+        Assertions.assertTrue(released.isDone());
+    }
+
+    @Test
+    public void hierarchicalLockerShouldFollowLockerInTheWay() {
+        final var hierarchicalLock = LockRegistry.hierarchicalLock();
+        final var tenant = hierarchicalLock.get("release-tenant");
+        final var order = hierarchicalLock.get("release-tenant:order:7");
+        Assertions.assertTrue(order.whenReleased().isDone());
+
+        Assertions.assertTrue(tenant.tryLock());
+        final var orderReleased = order.whenReleased();
+        Assertions.assertFalse(orderReleased.isDone());
+        Assertions.assertTrue(tenant.releaseLock());
+        Assertions.assertTrue(orderReleased.isDone());
+
+        // a lock below keeps the coarse path out until it leaves
+        Assertions.assertTrue(order.tryLock());
+        final var tenantReleased = tenant.whenReleased();
+        Assertions.assertFalse(tenantReleased.isDone());
+        Assertions.assertTrue(order.releaseLock());
+        Assertions.assertTrue(tenantReleased.isDone());
+    }
+}
@@ -0,0 +1,125 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.SemaphoreLocker;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class SemaphoreLockTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldAdmitUpToPermitsHolders() throws Exception {
+        final var locker = LockRegistry.semaphoreLock().get("semaphore-admit", 2);
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertTrue(CompletableFuture.supplyAsync(locker::tryLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(CompletableFuture.supplyAsync(locker::tryLock, executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, locker.availablePermits());
+
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertTrue(locker.releaseLock());
+        Assertions.assertFalse(locker.releaseLock());
+        Assertions.assertTrue(locker.isReleased());
+    }
+
+    @Test
+    public void shouldKeepPermitsOfExistingLocker() {
+        final var locker = LockRegistry.semaphoreLock().get("semaphore-existing", 3);
+        Assertions.assertSame(locker, LockRegistry.semaphoreLock().get("semaphore-existing", 5));
+        Assertions.assertSame(locker, LockRegistry.semaphoreLock().get("semaphore-existing"));
+        Assertions.assertEquals(3, locker.getPermits());
+    }
+
+    @Test
+    public void shouldTakeAndReturnSeveralPermits() {
+        final var locker = LockRegistry.semaphoreLock().get("semaphore-several", 4);
+        Assertions.assertTrue(locker.tryAcquire(3));
+        Assertions.assertFalse(locker.tryAcquire(2));
+        Assertions.assertTrue(locker.tryAcquire(1));
+        Assertions.assertTrue(locker.release(4));
+        Assertions.assertEquals(4, locker.availablePermits());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> locker.tryAcquire(5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> locker.tryAcquire(0));
+    }
+
+    @Test
+    public void waiterShouldGetPermitsOnceReleased() throws Exception {
+        final var locker = LockRegistry.semaphoreLock().get("semaphore-waiter", 2);
+        Assertions.assertTrue(locker.tryAcquire(2));
+        final var waiter = CompletableFuture.supplyAsync(() -> acquire(locker, 2, Duration.ofSeconds(5)), executor);
+        awaitQueued(locker);
+        locker.release(1);
+        Assertions.assertFalse(waiter.isDone());
+        locker.release(1);
+        Assertions.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(locker.release(2));
+    }
+
+    @Test
+    public void waiterShouldGiveUpAfterTimeout() throws Exception {
+        final var locker = LockRegistry.semaphoreLock().get("semaphore-timeout", 1);
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertFalse(CompletableFuture.supplyAsync(() -> acquire(locker, 1, Duration.ofMillis(100)), executor).get(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(locker.hasQueuedThreads());
+        Assertions.assertTrue(locker.releaseLock());
+    }
+
+    @Test
+    public void shouldNeverExceedPermitsUnderContention() throws InterruptedException {
+        final var permits = 3;
+        final var locker = LockRegistry.semaphoreLock().get("semaphore-contended", permits);
+        final var holders = new AtomicInteger();
+        final var exceeded = new AtomicBoolean(false);
+        for (var t = 0; t < 12; t++) {
+            executor.submit(() -> {
+                for (var i = 0; i < 2_000; i++) {
+                    if (!acquire(locker, 1, Duration.ofSeconds(5))) {
+                        continue;
+                    }
+                    if (holders.incrementAndGet() > permits) {
+                        exceeded.set(true);
+                    }
+                    holders.decrementAndGet();
+                    locker.releaseLock();
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        Assertions.assertFalse(exceeded.get());
+        Assertions.assertEquals(permits, locker.availablePermits());
+    }
+
+    private static boolean acquire(final SemaphoreLocker locker, final int permits, final Duration timeout) {
+        try {
+            return locker.tryAcquire(permits, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void awaitQueued(final SemaphoreLocker locker) {
+        while (!locker.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.clock.CachedLockClock;
+import dev.mfataka.locks.api.clock.LockClock;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.HierarchicalLock;
+import dev.mfataka.locks.core.locker.simple.SemaphoreLock;
+import dev.mfataka.locks.core.locker.simple.SimpleLock;
+import dev.mfataka.locks.core.utils.ManualLockClock;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class SimpleLockClockTest {
+    private final ManualLockClock clock = new ManualLockClock();
+
+    @BeforeEach
+    void setUp() {
+        LockClock.use(clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LockClock.use(LockClock.system());
+    }
+
+    @Test
+    public void lockShouldAgeWithInjectedClock() {
+        final var simpleLock = SimpleLock.create(LockRegistry.simpleLock().getLockContext());
+        final var locker = simpleLock.get("clock-age");
+        Assertions.assertTrue(locker.tryLock());
+        Assertions.assertEquals(clock.epochSecond(), locker.getLockElapsedTime());
+        Assertions.assertTrue(locker.releaseLock());
+
+        Assertions.assertEquals(0, simpleLock.clearAllLocks(Duration.ofMinutes(1)));
+        clock.advance(Duration.ofMinutes(2));
+        Assertions.assertEquals(1, simpleLock.clearAllLocks(Duration.ofMinutes(1)));
+        Assertions.assertFalse(simpleLock.exists("clock-age"));
+    }
+
+    @Test
+    public void expiredLocksShouldBeClearedInSlices() {
+        final var simpleLock = SimpleLock.create(LockRegistry.simpleLock().getLockContext());
+        for (var i = 0; i < 10; i++) {
+            final var locker = simpleLock.get("clock-slice-" + i);
+            Assertions.assertTrue(locker.tryLock());
+            Assertions.assertTrue(locker.releaseLock());
+        }
+        clock.advance(Duration.ofMinutes(2));
+        final var hot = simpleLock.get("clock-slice-0");
+        Assertions.assertTrue(hot.tryLock());
+        Assertions.assertTrue(hot.releaseLock());
+
+        final var first = simpleLock.clearExpiredLocks(Duration.ofMinutes(1), 4);
+        Assertions.assertEquals(4, first.visited());
+        Assertions.assertFalse(first.complete());
+        var cleared = first.cleared();
+        var slices = 1;
+        for (var slice = first; !slice.complete(); slices++) {
+            slice = simpleLock.clearExpiredLocks(Duration.ofMinutes(1), 4);
+            cleared += slice.cleared();
+        }
+        Assertions.assertEquals(3, slices);
+        Assertions.assertEquals(9, cleared);
+        Assertions.assertTrue(simpleLock.exists("clock-slice-0"));
+        Assertions.assertEquals(1, simpleLock.existingLocksCount());
+
+        // the re-locked locker was filed under its new lock time, it is not visited again before it expires
+        Assertions.assertEquals(0, simpleLock.clearExpiredLocks(Duration.ofMinutes(1), 4).visited());
+        clock.advance(Duration.ofMinutes(2));
+        Assertions.assertEquals(1, simpleLock.clearAllLocks(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    public void heldSemaphoreShouldSurviveCleanup() {
+        final var semaphoreLock = SemaphoreLock.create(LockRegistry.semaphoreLock().getLockContext());
+        final var held = semaphoreLock.get("clock-held");
+        Assertions.assertTrue(held.tryLock());
+        semaphoreLock.get("clock-idle");
+        clock.advance(Duration.ofMinutes(2));
+
+        Assertions.assertEquals(1, semaphoreLock.clearAllLocks(Duration.ofMinutes(1)));
+        Assertions.assertTrue(semaphoreLock.exists("clock-held"));
+        Assertions.assertTrue(held.releaseLock());
+        clock.advance(Duration.ofSeconds(1));
+        Assertions.assertEquals(1, semaphoreLock.clearAllLocks(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    public void idleHierarchicalSubtreeShouldBeClearedWithItsAncestors() {
+        final var hierarchicalLock = HierarchicalLock.create(LockRegistry.hierarchicalLock().getLockContext());
+        hierarchicalLock.get("clock-tree:a:1");
+        hierarchicalLock.get("clock-tree:a:2");
+        final var held = hierarchicalLock.get("clock-tree:b");
+        Assertions.assertTrue(held.tryLock());
+        Assertions.assertEquals(5, hierarchicalLock.existingLocksCount());
+        clock.advance(Duration.ofMinutes(2));
+
+        // parents are visited before their paths, they are dropped along with the last idle path below them
+        final var slice = hierarchicalLock.clearExpiredLocks(Duration.ofMinutes(1), 10);
+        Assertions.assertEquals(5, slice.visited());
+        Assertions.assertEquals(3, slice.cleared());
+        Assertions.assertFalse(hierarchicalLock.exists("clock-tree:a"));
+        Assertions.assertTrue(hierarchicalLock.exists("clock-tree"));
+        Assertions.assertTrue(hierarchicalLock.exists("clock-tree:b"));
+
+        Assertions.assertTrue(held.releaseLock());
+        clock.advance(Duration.ofSeconds(1));
+        Assertions.assertEquals(2, hierarchicalLock.clearAllLocks(Duration.ofMinutes(1)));
+        Assertions.assertEquals(0, hierarchicalLock.existingLocksCount());
+    }
+
+    @Test
+    public void configuredResolutionShouldInstallCachedClock() {
+        try {
+            LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults().withClockResolution(Duration.ofMillis(50)));
+            Assertions.assertInstanceOf(CachedLockClock.class, LockClock.current());
+        } finally {
+            LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults());
+        }
+        Assertions.assertSame(LockClock.system(), LockClock.current());
+    }
+}
@@ -1,6 +1,9 @@
 package dev.mfataka.locks.core.locks;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -56,4 +59,34 @@ public class SimpleLockTest {
                 });
         Assertions.assertTrue(locker.isReleased());
     }
+
+    @Test
+    public void shouldHandOverToWaiterOnRelease() throws InterruptedException {
+        final var simpleLock = LockRegistry.simpleLock();
+        final var locker = simpleLock.get("hand-over");
+        Assertions.assertTrue(locker.tryLock());
+
+        final var acquired = new AtomicBoolean(false);
+        final var waitedNanos = new AtomicLong();
+        final var waiter = new Thread(() -> {
+            final var started = System.nanoTime();
+            try {
+                if (locker.obtainLock(Duration.ofSeconds(30))) {
+                    waitedNanos.set(System.nanoTime() - started);
+                    acquired.set(true);
+                    locker.releaseLock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        Thread.sleep(200);
+        locker.releaseLock();
+        waiter.join(5_000);
+
+        Assertions.assertTrue(acquired.get());
+        Assertions.assertTrue(waitedNanos.get() < TimeUnit.SECONDS.toNanos(5));
+        Assertions.assertTrue(locker.isReleased());
+    }
 }
@@ -0,0 +1,99 @@
+package dev.mfataka.locks.core.locks;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.locker.simple.SimpleLock;
+
+/**
+ * measures retained heap of {@link dev.mfataka.locks.core.locker.simple.SimpleLocker}s, lock names and the logger are
+ * shared so they are not counted
+ *
+ * @author HAMMA FATAKA
+ */
+public class SimpleLockerFootprintTest {
+    private static final Logger log = LoggerFactory.getLogger(SimpleLockerFootprintTest.class);
+    private static final int LOCKERS = 10_000;
+    /**
+     * bytes per registered locker with compressed references: the locker (48), its map node (32) and table slots (~7)
+     * and its node in the expiry index (24), about 111 in total
+     */
+    private static final long REGISTERED_BUDGET = 128;
+    /**
+     * the same without compressed references, about 170 in total
+     */
+    private static final long REGISTERED_BUDGET_WIDE = 192;
+
+    /**
+     * the locker object only, without what its registry keeps for it, see {@link #registeredLockerShouldStayInBudget()}
+     */
+    @Test
+    public void compactLayoutShouldTakeAtMostHalfOfLegacyLayout() {
+        final var lockName = "footprint";
+        final var locker = LockRegistry.simpleLock().get(lockName);
+        Assertions.assertTrue(locker.tryLock());
+        locker.releaseLock();
+
+        final var legacy = new LegacyLayout(lockName);
+        final var nameSize = GraphLayout.parseInstance(lockName).totalSize();
+        final var compactSize = GraphLayout.parseInstance(locker).totalSize() - nameSize;
+        final var legacySize = GraphLayout.parseInstance(legacy).totalSize() - nameSize;
+        log.info("simple locker footprint: compact [{}] bytes, legacy [{}] bytes", compactSize, legacySize);
+
+        Assertions.assertTrue(compactSize * 2 <= legacySize, "compact " + compactSize + " legacy " + legacySize);
+    }
+
+    /**
+     * everything a registry keeps per locker: the locker, its entry in the name map and its entry in the expiry index
+     */
+    @Test
+    public void registeredLockerShouldStayInBudget() {
+        final var registry = SimpleLock.create(new LockContext("TEST_FOOTPRINT", true, false));
+        final var emptySize = GraphLayout.parseInstance(registry).totalSize();
+        var namesSize = 0L;
+        for (var i = 0; i < LOCKERS; i++) {
+            final var lockName = "footprint-" + i;
+            namesSize += GraphLayout.parseInstance(lockName).totalSize();
+            final var locker = registry.get(lockName);
+            Assertions.assertTrue(locker.tryLock());
+            locker.releaseLock();
+        }
+
+        final var perLocker = (GraphLayout.parseInstance(registry).totalSize() - emptySize - namesSize) / LOCKERS;
+        final var budget = referenceSize() == 4 ? REGISTERED_BUDGET : REGISTERED_BUDGET_WIDE;
+        log.info("registered simple locker footprint: [{}] bytes per locker, budget [{}] bytes", perLocker, budget);
+
+        Assertions.assertTrue(perLocker <= budget, "registered locker takes " + perLocker + " bytes, budget " + budget);
+    }
+
+    /**
+     * @return bytes per reference, two more array slots only differ by them
+     */
+    private static long referenceSize() {
+        return (GraphLayout.parseInstance((Object) new Object[3]).totalSize() - GraphLayout.parseInstance((Object) new Object[1]).totalSize()) / 2;
+    }
+
+    /**
+     * field layout of the locker before compaction, logger is left null because the instance was shared
+     */
+    @SuppressWarnings("unused")
+    private static final class LegacyLayout {
+        private final AtomicBoolean locker = new AtomicBoolean(false);
+        private final AtomicLong owner = new AtomicLong();
+        private final Logger log = null;
+        private final String lockName;
+        private final AtomicLong lastLockedAt = new AtomicLong();
+
+        private LegacyLayout(final String lockName) {
+            this.lockName = lockName;
+        }
+    }
+}
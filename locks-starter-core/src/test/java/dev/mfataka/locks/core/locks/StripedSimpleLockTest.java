@@ -0,0 +1,87 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.core.locker.simple.StripedSimpleLock;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class StripedSimpleLockTest {
+
+    @Test
+    public void shouldRoundStripeCountUpToPowerOfTwo() {
+        Assertions.assertEquals(1, StripedSimpleLock.tableSizeFor(0));
+        Assertions.assertEquals(8, StripedSimpleLock.tableSizeFor(5));
+        Assertions.assertEquals(64, StripedSimpleLock.tableSizeFor(64));
+        Assertions.assertEquals(16, create(10).stripeCount());
+        Assertions.assertEquals(16, create(10).getLockers().size());
+    }
+
+    @Test
+    public void shouldReturnSameStripeForSameNameWithoutRegisteringIt() {
+        final var stripedLock = create(8);
+        final var locker = stripedLock.get("order-1");
+        Assertions.assertSame(locker, stripedLock.get("order-1"));
+        Assertions.assertSame(locker, stripedLock.get(new String("order-1")));
+        Assertions.assertEquals(8, stripedLock.existingLocksCount());
+        Assertions.assertEquals(0, stripedLock.clearAllLocks());
+    }
+
+    @Test
+    public void onlyStripeNamesShouldExist() {
+        final var stripedLock = create(8);
+        final var stripeName = stripedLock.get("order-1").getLockName();
+
+        Assertions.assertTrue(stripedLock.exists(stripeName));
+        Assertions.assertSame(stripedLock.get("order-1"), stripedLock.find(stripeName));
+        Assertions.assertFalse(stripedLock.exists("order-1"));
+        Assertions.assertFalse(stripedLock.exists(stripeName.replaceAll("\\d+$", "8")));
+        Assertions.assertFalse(stripedLock.exists(stripeName.replaceAll("\\d+$", "x")));
+    }
+
+    @Test
+    public void namesOnSameStripeShouldExcludeEachOther() throws InterruptedException {
+        final var stripedLock = create(1);
+        final var first = stripedLock.get("first");
+        final var second = stripedLock.get("second");
+        Assertions.assertTrue(first.tryLock());
+        Assertions.assertFalse(second.tryLock());
+        Assertions.assertFalse(second.obtainLock(Duration.ofMillis(10)));
+        Assertions.assertEquals(2, stripedLock.contention(0));
+        first.releaseLock();
+        Assertions.assertTrue(second.tryLock());
+        second.releaseLock();
+        Assertions.assertArrayEquals(new long[]{2}, stripedLock.contention());
+    }
+
+    @Test
+    public void shouldKeepInstanceWhenResizedToSameCount() {
+        final var stripedLock = create(16);
+        Assertions.assertSame(stripedLock, stripedLock.resize(9));
+        Assertions.assertEquals(32, stripedLock.resize(17).stripeCount());
+    }
+
+    @Test
+    public void shouldKeepStripeCountOnceStripesAreHandedOut() {
+        final var stripedLock = create(16);
+        final var stripe = stripedLock.get("handed-out");
+        Assertions.assertTrue(stripe.tryLock());
+        try {
+            final var resized = stripedLock.resize(64);
+            Assertions.assertSame(stripedLock, resized);
+            Assertions.assertSame(stripe, resized.get("handed-out"));
+            Assertions.assertFalse(resized.get("handed-out").tryLock());
+        } finally {
+            stripe.releaseLock();
+        }
+    }
+
+    private static StripedSimpleLock create(final int stripes) {
+        return StripedSimpleLock.create(new LockContext("TEST_STRIPED", true, false), stripes);
+    }
+}
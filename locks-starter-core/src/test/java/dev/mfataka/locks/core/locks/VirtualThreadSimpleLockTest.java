@@ -0,0 +1,103 @@
+package dev.mfataka.locks.core.locks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
+import dev.mfataka.locks.core.factory.LockRegistry;
+
+/**
+ * runs in the virtualThreadTest task only, on a local JDK 21, {@code check} runs that task when Gradle itself runs on
+ * JDK 21. virtual threads are looked up reflectively so the test compiles with the java 17 toolchain, the task fails it
+ * when they are missing, elsewhere it is skipped
+ *
+ * @author HAMMA FATAKA
+ */
+@Tag("virtual-threads")
+public class VirtualThreadSimpleLockTest {
+    private static final String REQUIRED_PROPERTY = "locks.test.virtual-threads.required";
+    private static final int TASKS = 10_000;
+    private static final int LOCK_NAMES = 8;
+
+    @BeforeEach
+    void setUp() {
+        LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults().withVirtualThreads(true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        LockRegistry.configure(LocksCorePropertyConfig.LocalProperties.defaults());
+    }
+
+    @Test
+    public void shouldSerializeTenThousandVirtualThreads() throws Exception {
+        final var executor = virtualThreadExecutor();
+        if (Boolean.getBoolean(REQUIRED_PROPERTY)) {
+            Assertions.assertNotNull(executor, "virtual threads are not available on JDK " + Runtime.version());
+        }
+        Assumptions.assumeTrue(executor != null, "virtual threads are not available on this JDK");
+
+        final var inCriticalSection = new AtomicInteger[LOCK_NAMES];
+        final var executedPerName = new int[LOCK_NAMES];
+        for (var i = 0; i < LOCK_NAMES; i++) {
+            inCriticalSection[i] = new AtomicInteger();
+        }
+        final var overlapped = new AtomicBoolean(false);
+        final var futures = new ArrayList<Future<Boolean>>(TASKS);
+
+        try {
+            for (var i = 0; i < TASKS; i++) {
+                final var index = i % LOCK_NAMES;
+                final var locker = LockRegistry.simpleLock().get("virtual-thread-lock-" + index);
+                futures.add(executor.submit(() -> {
+                    if (!locker.obtainLock(Duration.ofSeconds(60))) {
+                        return false;
+                    }
+                    try {
+                        if (inCriticalSection[index].incrementAndGet() > 1) {
+                            overlapped.set(true);
+                        }
+                        executedPerName[index]++;
+                        Thread.sleep(1);
+                        inCriticalSection[index].decrementAndGet();
+                        return true;
+                    } finally {
+                        locker.releaseLock();
+                    }
+                }));
+            }
+            for (final var future : futures) {
+                Assertions.assertTrue(future.get(2, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertFalse(overlapped.get());
+        for (var i = 0; i < LOCK_NAMES; i++) {
+            Assertions.assertEquals(TASKS / LOCK_NAMES, executedPerName[i]);
+            Assertions.assertTrue(LockRegistry.simpleLock().get("virtual-thread-lock-" + i).isReleased());
+        }
+    }
+
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package dev.mfataka.locks.core.resolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.annotation.SimpleLocked;
+import dev.mfataka.locks.api.annotation.SimpleMultiLocked;
+import dev.mfataka.locks.core.spel.SpelExpressionEvaluator;
+
+/**
+ * @author HAMMA FATAKA
+ */
+class LockMetadataResolverTest {
+
+    private LockMetadataResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new LockMetadataResolver(new SpelExpressionEvaluator());
+    }
+
+    @SimpleLocked(value = "striped", striped = true, leaseTime = 2)
+    public void stripedLeased() {
+    }
+
+    @SimpleLocked(value = "striped-reentrant", striped = true, reentrant = true)
+    public void stripedReentrant() {
+    }
+
+    @SimpleLocked(value = "shared-striped", permits = 2, striped = true)
+    public void sharedStriped() {
+    }
+
+    @SimpleLocked(value = "shared-reentrant", permits = 2, reentrant = true)
+    public void sharedReentrant() {
+    }
+
+    @SimpleLocked(value = "leased-reentrant", reentrant = true, leaseTime = 2)
+    public void leasedReentrant() {
+    }
+
+    @SimpleLocked(value = "leased-shared", permits = 2, leaseTime = 2)
+    public void leasedShared() {
+    }
+
+    @SimpleLocked(value = "no-permits", permits = 0)
+    public void noPermits() {
+    }
+
+    @SimpleMultiLocked("#names")
+    public void multi(final List<String> names) {
+    }
+
+    @Test
+    void compatibleAttributesShouldResolve() throws NoSuchMethodException {
+        final var descriptor = resolver.resolve(getClass().getMethod("stripedLeased"), new Object[0]);
+
+        assertEquals("striped", descriptor.name());
+        assertTrue(descriptor.striped());
+        assertEquals(2, descriptor.leaseTime());
+        assertEquals(ChronoUnit.SECONDS, descriptor.timeUnit());
+    }
+
+    @Test
+    void conflictingAttributesShouldBeRejected() throws NoSuchMethodException {
+        assertConflict("stripedReentrant", "striped and reentrant");
+        assertConflict("sharedStriped", "permits above 1 and striped");
+        assertConflict("sharedReentrant", "permits above 1 and reentrant");
+        assertConflict("leasedReentrant", "leaseTime and reentrant");
+        assertConflict("leasedShared", "leaseTime and permits above 1");
+        assertConflict("noPermits", "permits must be positive");
+    }
+
+    @Test
+    void conflictShouldBeRejectedOnEveryCall() throws NoSuchMethodException {
+        final var method = getClass().getMethod("leasedShared");
+
+        assertThrows(IllegalStateException.class, () -> resolver.resolve(method, new Object[0]));
+        assertThrows(IllegalStateException.class, () -> resolver.resolve(method, new Object[0]));
+    }
+
+    @Test
+    void multiLockOfSingleNameShouldKeepTheName() throws NoSuchMethodException {
+        final var descriptor = resolver.resolve(getClass().getMethod("multi", List.class), new Object[]{List.of("a")});
+
+        assertTrue(descriptor.multi());
+        assertEquals("a", descriptor.name());
+        assertEquals(List.of("a"), descriptor.names());
+    }
+
+    @Test
+    void multiLockWithoutNamesShouldBeRejected() throws NoSuchMethodException {
+        final var method = getClass().getMethod("multi", List.class);
+
+        assertMultiRejected(method, List.of());
+        assertMultiRejected(method, null);
+        assertMultiRejected(method, Arrays.asList("a", null));
+    }
+
+    private void assertMultiRejected(final Method method, final List<String> names) {
+        final var error = assertThrows(IllegalArgumentException.class, () -> resolver.resolve(method, new Object[]{names}));
+        assertTrue(error.getMessage().contains("multi"), error.getMessage());
+    }
+
+    private void assertConflict(final String methodName, final String expected) throws NoSuchMethodException {
+        final var method = getClass().getMethod(methodName);
+        final var error = assertThrows(IllegalStateException.class, () -> resolver.resolve(method, new Object[0]));
+        assertTrue(error.getMessage().contains(methodName), error.getMessage());
+        assertTrue(error.getMessage().contains(expected), error.getMessage());
+    }
+}
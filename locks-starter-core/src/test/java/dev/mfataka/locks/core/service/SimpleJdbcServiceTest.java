@@ -3,12 +3,14 @@ package dev.mfataka.locks.core.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import dev.mfataka.locks.api.Locker;
 import dev.mfataka.locks.api.enums.LockMode;
 import dev.mfataka.locks.core.AbstractLockTest;
 
@@ -98,6 +100,13 @@ public class SimpleJdbcServiceTest extends AbstractLockTest {
         assertTrue(timestamp > 0, "Timestamp should be set");
     }
 
+    @Test
+    void testLockedAt() {
+        assertNull(jdbcService.lockedAt(lockName), "Missing lock should have no timestamp");
+        jdbcService.insertLock(lockName, ownerId);
+        assertEquals(jdbcService.elapsedTime(lockName), jdbcService.lockedAt(lockName), "Timestamp should match");
+    }
+
     @Test
     void testFindAll() {
         final var inserted = jdbcService.insertLock(lockName, ownerId);
@@ -107,4 +116,18 @@ public class SimpleJdbcServiceTest extends AbstractLockTest {
         assertFalse(lockers.isEmpty(), "Should find at least one locker");
         assertEquals(lockName, lockers.get(0).getLockName(), "Lock name should match");
     }
+
+    @Test
+    void testStreamAfter() {
+        jdbcService.insertLock("stream-c", ownerId);
+        jdbcService.insertLock("stream-a", ownerId);
+        jdbcService.insertLock("stream-b", ownerId);
+
+        try (final var all = jdbcService.streamAfter(LockMode.BLOCKING, null)) {
+            assertEquals(List.of("stream-a", "stream-b", "stream-c"), all.map(Locker::getLockName).toList(), "Locks should be ordered by name");
+        }
+        try (final var rest = jdbcService.streamAfter(LockMode.BLOCKING, "stream-a")) {
+            assertEquals(List.of("stream-b", "stream-c"), rest.map(Locker::getLockName).toList(), "Stream should resume after the name");
+        }
+    }
 }
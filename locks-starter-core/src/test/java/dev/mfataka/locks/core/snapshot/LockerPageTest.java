@@ -0,0 +1,98 @@
+package dev.mfataka.locks.core.snapshot;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.Locker;
+import dev.mfataka.locks.api.base.Lock;
+import dev.mfataka.locks.api.context.LockContext;
+import dev.mfataka.locks.api.enums.LockMode;
+import dev.mfataka.locks.api.enums.LockType;
+import dev.mfataka.locks.core.locker.simple.SemaphoreLock;
+import dev.mfataka.locks.core.locker.simple.SimpleLock;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class LockerPageTest {
+
+    @Test
+    public void pagesShouldWalkEveryFactoryInOrder() {
+        final var first = SimpleLock.create(new LockContext("page-a", true, false));
+        final var second = SimpleLock.create(new LockContext("page-b", true, false));
+        List.of("c", "a", "b").forEach(first::get);
+        List.of("z", "y").forEach(second::get);
+        final List<Lock<?>> factories = List.of(second, first);
+
+        final var firstPage = LockerPage.read(factories, LockerFilter.all(), null, 2);
+        Assertions.assertEquals(List.of("a", "b"), names(firstPage));
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = LockerPage.read(factories, LockerFilter.all(), firstPage.nextCursor(), 2);
+        Assertions.assertEquals(List.of("c", "y"), names(secondPage));
+        Assertions.assertEquals("page-b", secondPage.lockers().get(1).factoryName());
+
+        final var lastPage = LockerPage.read(factories, LockerFilter.all(), secondPage.nextCursor(), 2);
+        Assertions.assertEquals(List.of("z"), names(lastPage));
+        Assertions.assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    public void pageShouldEndWhenNothingFollowsAFullPage() {
+        final var lock = SimpleLock.create(new LockContext("page-exact", true, false));
+        List.of("a", "b").forEach(lock::get);
+        final var page = LockerPage.read(List.of(lock), LockerFilter.all(), null, 2);
+        Assertions.assertEquals(List.of("a", "b"), names(page));
+        Assertions.assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void filterShouldApplyBeforeTheLimit() {
+        final var simpleLock = SimpleLock.create(new LockContext("page-filter", true, false));
+        final var semaphoreLock = SemaphoreLock.create(new LockContext("page-filter-semaphore", true, false));
+        List.of("order-1", "invoice-1", "order-2", "order-3").forEach(simpleLock::get);
+        semaphoreLock.get("order-4");
+        final List<Lock<?>> factories = List.of(simpleLock, semaphoreLock);
+
+        final var byPrefix = LockerPage.read(factories, new LockerFilter(null, null, "order-", null), null, 10);
+        Assertions.assertEquals(List.of("order-1", "order-2", "order-3", "order-4"), names(byPrefix));
+
+        final var none = LockerPage.read(factories, new LockerFilter(LockType.DISTRIBUTED, null, null, null), null, 10);
+        Assertions.assertTrue(none.lockers().isEmpty());
+
+        Assertions.assertTrue(simpleLock.get("order-2").tryLock());
+        final var old = LockerPage.read(factories, new LockerFilter(LockType.LOCAL, LockMode.BLOCKING, "order-", Duration.ofHours(1)), null, 10);
+        Assertions.assertEquals(List.of("order-1", "order-3", "order-4"), names(old));
+        simpleLock.get("order-2").releaseLock();
+    }
+
+    @Test
+    public void lockersAfterShouldFollowTheRegistry() {
+        final var lock = SemaphoreLock.create(new LockContext("page-index", true, false));
+        List.of("d", "b", "a", "c").forEach(lock::get);
+        lock.remove("c");
+        lock.get("e");
+
+        Assertions.assertEquals(List.of("b", "d", "e"), lock.lockersAfter("a").map(Locker::getLockName).toList());
+        Assertions.assertEquals(List.of("a", "b", "d", "e"), lock.lockersAfter(null).map(Locker::getLockName).toList());
+        Assertions.assertEquals(4, lock.clearAllLocks());
+        Assertions.assertEquals(0, lock.lockersAfter(null).count());
+    }
+
+    @Test
+    public void malformedCursorShouldBeRejected() {
+        final List<Lock<?>> factories = List.of(SimpleLock.create(new LockContext("page-cursor", true, false)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LockerPage.read(factories, LockerFilter.all(), "not a cursor", 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LockerPage.read(factories, LockerFilter.all(), null, 0));
+    }
+
+    private static List<String> names(final LockerPage page) {
+        return page.lockers()
+                .stream()
+                .map(LockerSnapshot::lockName)
+                .toList();
+    }
+}
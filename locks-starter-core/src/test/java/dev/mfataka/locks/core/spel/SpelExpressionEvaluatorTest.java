@@ -2,6 +2,8 @@ package dev.mfataka.locks.core.spel;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +20,9 @@ class SpelExpressionEvaluatorTest {
     public void dummyMethod(final String param1, int param2) {
     }
 
+    public void dummyCollectionMethod(final List<Integer> ids) {
+    }
+
     @Test
     void testEvaluateSimpleNonSpelExpression() throws NoSuchMethodException {
         final var method = getClass().getMethod("dummyMethod", String.class, int.class);
@@ -69,4 +74,23 @@ class SpelExpressionEvaluatorTest {
         final var result = evaluator.evaluate(expression, method, args);
         assertEquals("valueX-55", result);
     }
+
+    @Test
+    void testEvaluateAllCollectionExpression() throws NoSuchMethodException {
+        final var method = getClass().getMethod("dummyCollectionMethod", List.class);
+
+        final var expression = "#ids.!['item-' + #this]";
+        final Object[] args = {List.of(3, 1, 2)};
+
+        final var result = evaluator.evaluateAll(expression, method, args);
+        assertEquals(List.of("item-3", "item-1", "item-2"), result);
+    }
+
+    @Test
+    void testEvaluateAllSingleValueExpression() throws NoSuchMethodException {
+        final var method = getClass().getMethod("dummyMethod", String.class, int.class);
+
+        assertEquals(List.of("valueX"), evaluator.evaluateAll("#param1", method, new Object[]{"valueX", 1}));
+        assertEquals(List.of("fixed-value"), evaluator.evaluateAll("fixed-value", method, new Object[]{"valueX", 1}));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package dev.mfataka.locks.core.strategy;
+
+import java.lang.reflect.Proxy;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import dev.mfataka.locks.api.exception.LockOperationException;
+import dev.mfataka.locks.core.config.LocksCorePropertyConfig;
+import dev.mfataka.locks.core.descriptor.LockDescriptor;
+import dev.mfataka.locks.core.factory.LockRegistry;
+import dev.mfataka.locks.core.factory.StandardReliableLocksImp;
+
+/**
+ * @author HAMMA FATAKA
+ */
+public class BlockingLockExecutorTest {
+
+    private BlockingLockExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BlockingLockExecutor(new StandardReliableLocksImp(null, LocksCorePropertyConfig.defaults()));
+    }
+
+    @Test
+    public void multiLockOfSingleNameShouldHoldThatName() throws Exception {
+        final var descriptor = LockDescriptor.forMulti(List.of("executor-single"), 1, ChronoUnit.SECONDS);
+        final var simple = LockRegistry.simpleLock().get("executor-single");
+
+        final var locked = executor.execute(joinPoint(simple::isLocked), descriptor);
+
+        Assertions.assertEquals(true, locked);
+        Assertions.assertFalse(simple.isLocked());
+    }
+
+    @Test
+    public void multiLockOfSingleNameShouldWaitForSimpleLockOfThatName() throws Exception {
+        final var descriptor = LockDescriptor.forMulti(List.of("executor-single-held"), 0, ChronoUnit.SECONDS);
+        final var simple = LockRegistry.simpleLock().get("executor-single-held");
+        Assertions.assertTrue(simple.tryLock());
+        try {
+            Assertions.assertThrows(LockOperationException.class, () -> executor.execute(joinPoint(() -> true), descriptor));
+        } finally {
+            simple.releaseLock();
+        }
+    }
+
+    @Test
+    public void multiLockWithoutNamesShouldNotBeBuilt() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LockDescriptor.forMulti(List.of(), 1, ChronoUnit.SECONDS));
+    }
+
+    private static ProceedingJoinPoint joinPoint(final Callable<Object> body) {
+        return (ProceedingJoinPoint) Proxy.newProxyInstance(BlockingLockExecutorTest.class.getClassLoader(), new Class<?>[]{ProceedingJoinPoint.class}, (proxy, method, args) -> {
+            if (method.getName().equals("proceed")) {
+                return body.call();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package dev.mfataka.locks.core.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.mfataka.locks.api.clock.LockClock;
+
+/**
+ * virtual time for tests, only moves when {@link #advance(Duration)} is called
+ *
+ * @author HAMMA FATAKA
+ */
+public class ManualLockClock implements LockClock {
+    private final AtomicLong nanos = new AtomicLong();
+    private final long originEpochSecond = System.currentTimeMillis() / 1000L;
+
+    public void advance(final Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Override
+    public long epochSecond() {
+        return originEpochSecond + Duration.ofNanos(nanos.get()).getSeconds();
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanos.get();
+    }
+}
@@ -18,9 +18,14 @@ import com.sun.source.tree.TryTree;
 import com.sun.source.util.Trees;
 
 import dev.mfataka.locks.api.annotation.DistributedLocked;
+import dev.mfataka.locks.api.annotation.HostLocked;
+import dev.mfataka.locks.api.annotation.LockedAttributes;
 import dev.mfataka.locks.api.annotation.ReactiveDistributedLocked;
 import dev.mfataka.locks.api.annotation.ReactiveLocked;
 import dev.mfataka.locks.api.annotation.SimpleLocked;
+import dev.mfataka.locks.api.annotation.SimpleMultiLocked;
+import dev.mfataka.locks.api.annotation.SimpleReadLocked;
+import dev.mfataka.locks.api.annotation.SimpleWriteLocked;
 import dev.mfataka.locks.api.exception.LockAlreadyAcquiredException;
 
 /**
@@ -28,8 +33,12 @@ import dev.mfataka.locks.api.exception.LockAlreadyAcquiredException;
  */
 @SupportedAnnotationTypes(
         {"dev.mfataka.locks.api.annotation.SimpleLocked",
+                "dev.mfataka.locks.api.annotation.SimpleMultiLocked",
+                "dev.mfataka.locks.api.annotation.SimpleReadLocked",
+                "dev.mfataka.locks.api.annotation.SimpleWriteLocked",
                 "dev.mfataka.locks.api.annotation.DistributedLocked",
                 "dev.mfataka.locks.api.annotation.ReactiveDistributedLocked",
+                "dev.mfataka.locks.api.annotation.HostLocked",
                 "dev.mfataka.locks.api.annotation.ReactiveLocked"}
 )
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
@@ -50,15 +59,23 @@ public class LockedMethodSignatureProcessor extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         final var lockedMethods = roundEnv.getElementsAnnotatedWith(SimpleLocked.class);
+        final var multiLockedMethods = roundEnv.getElementsAnnotatedWith(SimpleMultiLocked.class);
+        final var readLockedMethods = roundEnv.getElementsAnnotatedWith(SimpleReadLocked.class);
+        final var writeLockedMethods = roundEnv.getElementsAnnotatedWith(SimpleWriteLocked.class);
         final var jdbcLockedMethods = roundEnv.getElementsAnnotatedWith(DistributedLocked.class);
         final var reactiveLockedMethods = roundEnv.getElementsAnnotatedWith(ReactiveLocked.class);
         final var reactiveDistributedMethods = roundEnv.getElementsAnnotatedWith(ReactiveDistributedLocked.class);
+        final var hostLockedMethods = roundEnv.getElementsAnnotatedWith(HostLocked.class);
 
         final var elements = new HashSet<Element>();
         elements.addAll(lockedMethods);
+        elements.addAll(multiLockedMethods);
+        elements.addAll(readLockedMethods);
+        elements.addAll(writeLockedMethods);
         elements.addAll(jdbcLockedMethods);
         elements.addAll(reactiveLockedMethods);
         elements.addAll(reactiveDistributedMethods);
+        elements.addAll(hostLockedMethods);
 
         elements.forEach(element -> {
             if (element.getKind() != ElementKind.METHOD) {
@@ -67,6 +84,11 @@ public class LockedMethodSignatureProcessor extends AbstractProcessor {
             }
 
             final var method = (ExecutableElement) element;
+            final var simpleLocked = method.getAnnotation(SimpleLocked.class);
+            if (simpleLocked != null) {
+                LockedAttributes.conflictOf(simpleLocked).ifPresent(conflict ->
+                        messager.printMessage(Diagnostic.Kind.ERROR, "@SimpleLocked on method " + method.getSimpleName() + ": " + conflict, method));
+            }
             final var thrownTypes = method.getThrownTypes();
             System.out.println("thrownTypes: " + thrownTypes);
 